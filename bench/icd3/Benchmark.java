@@ -0,0 +1,48 @@
+/**
+ *
+ */
+package icd3;
+
+/**
+ * A minimal timing harness for comparing implementations on a warmed-up JVM.
+ *
+ * Each case is run repeatedly until the JIT has settled, then timed over several measured rounds, keeping the best.
+ */
+public final class Benchmark
+{
+    private Benchmark()
+    {
+    }
+
+    /**
+     * Measure the cost of one operation of a case.
+     *
+     * @param name The label to report the result under.
+     * @param operations The number of operations performed by each run of the case.
+     * @param body The case to measure.
+     * @return The best observed time per operation, in nanoseconds.
+     */
+    public static double measure(String name, int operations, Runnable body)
+    {
+        for (int i = 0; i < s_warmupRounds; ++i)
+        {
+            body.run();
+        }
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < s_measuredRounds; ++i)
+        {
+            long start = System.nanoTime();
+            body.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        double perOperation = (double) best / operations;
+        System.out.println(String.format("%-40s %10.2f ns/op", name, perOperation));
+        return perOperation;
+    }
+
+    private static final int s_warmupRounds = 20;
+
+    private static final int s_measuredRounds = 10;
+}
@@ -0,0 +1,100 @@
+/**
+ *
+ */
+package icd3;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+
+/**
+ * Compares date arithmetic and conversion in the MayanChronology against LocalDate.plusDays, reporting both the time
+ * and the bytes allocated per operation.
+ */
+public class ChronologyBenchmark
+{
+    public static void main(String[] args)
+    {
+        LocalDate[] isoDates = new LocalDate[s_size];
+        MayanLocalDate[] mayanDates = new MayanLocalDate[s_size];
+        long[] epochDays = new long[s_size];
+        int[] values = new int[s_size];
+        for (int i = 0; i < s_size; ++i)
+        {
+            // Spread across the historical range of the Long Count
+            values[i] = (int) ((long) i * 13 * LongCountDate.Period.BAKTUN.days() / s_size);
+            mayanDates[i] = new MayanLocalDate(new LongCountDate(values[i]));
+            isoDates[i] = mayanDates[i].toLocalDate();
+            epochDays[i] = isoDates[i].toEpochDay();
+        }
+
+        run("LocalDate.plusDays", () -> {
+            long sum = 0;
+            for (int i = 0; i < s_size; ++i)
+            {
+                sum += isoDates[i].plusDays(i).getDayOfMonth();
+            }
+            s_sink += sum;
+        });
+        run("MayanLocalDate.plusDays", () -> {
+            long sum = 0;
+            for (int i = 0; i < s_size; ++i)
+            {
+                sum += mayanDates[i].plusDays(i).getLongCountDate().toInt();
+            }
+            s_sink += sum;
+        });
+        run("LocalDate to MayanLocalDate", () -> {
+            long sum = 0;
+            for (int i = 0; i < s_size; ++i)
+            {
+                sum += MayanLocalDate.from(isoDates[i]).getLongCountDate().toInt();
+            }
+            s_sink += sum;
+        });
+        run("MayanLocalDate to LocalDate", () -> {
+            long sum = 0;
+            for (int i = 0; i < s_size; ++i)
+            {
+                sum += mayanDates[i].toLocalDate().getDayOfMonth();
+            }
+            s_sink += sum;
+        });
+        run("epoch day to Long Count value", () -> {
+            long sum = 0;
+            for (int i = 0; i < s_size; ++i)
+            {
+                sum += MayanChronology.toLongCount(epochDays[i]);
+            }
+            s_sink += sum;
+        });
+        run("Long Count value to epoch day", () -> {
+            long sum = 0;
+            for (int i = 0; i < s_size; ++i)
+            {
+                sum += MayanChronology.toEpochDay(values[i]);
+            }
+            s_sink += sum;
+        });
+
+        // Keep the results live so that the loops cannot be eliminated
+        System.out.println("(checksum " + s_sink + ")");
+    }
+
+    /**
+     * Time a case, then measure what one more run of it allocates.
+     */
+    private static void run(String name, Runnable body)
+    {
+        Benchmark.measure(name, s_size, body);
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long before = threads.getCurrentThreadAllocatedBytes();
+        body.run();
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+        System.out.println(String.format("%-40s %10.2f bytes/op", "", (double) allocated / s_size));
+    }
+
+    private static final int s_size = 1 << 16;
+
+    private static long s_sink;
+}
@@ -0,0 +1,38 @@
+/**
+ *
+ */
+package icd3;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures the time a fresh JVM takes to perform and format its first conversion.
+ *
+ * Run once per JVM; repeated runs in the same JVM are meaningless.
+ */
+public class ColdStart
+{
+    public static void main(String[] args)
+    {
+        long start = System.nanoTime();
+
+        CalendarRoundDate calendarRound = new CalendarRoundDate(new TzolkinDate(9, TzolkinDate.Day.AJAW),
+                new HaabDate(3, HaabDate.Month.SIP));
+        LongCountDate from = new LongCountDate(0, 0, 0, 0, 8);
+        LongCountDate to = new LongCountDate(0, 0, 0, 0, 10);
+
+        StringBuilder output = new StringBuilder();
+        for (LongCountDate date : LongCountDate.calendarRoundToLongCountList(calendarRound, from, to))
+        {
+            output.append(date).append(' ').append(new CalendarRoundDate(LongCountDate.calendarRoundValue(date.toInt())))
+                    .append('\n');
+        }
+
+        long elapsed = System.nanoTime() - start;
+
+        // Only touch the management classes once the measurement is over
+        System.out.print(output);
+        System.out.println(String.format("First conversion: %.2f ms, JVM uptime: %d ms", elapsed / 1e6,
+                ManagementFactory.getRuntimeMXBean().getUptime()));
+    }
+}
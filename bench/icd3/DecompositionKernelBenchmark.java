@@ -0,0 +1,59 @@
+/**
+ *
+ */
+package icd3;
+
+/**
+ * Compares the scalar and vectorized decomposition kernels against building date objects one at a time.
+ */
+public class DecompositionKernelBenchmark
+{
+    public static void main(String[] args)
+    {
+        int[] values = new int[s_size];
+        for (int i = 0; i < values.length; ++i)
+        {
+            // Spread across the historical range of the Long Count
+            values[i] = (int) ((long) i * 13 * LongCountDate.Period.BAKTUN.days() / values.length);
+        }
+
+        int[][] places = new int[LongCountDate.Period.values().length][s_size];
+        int[][] components = new int[4][s_size];
+
+        System.out.println("Vectorized kernel available: " + DecompositionKernel.isVectorized());
+
+        Benchmark.measure("LongCountDate objects", s_size, () -> {
+            for (int i = 0; i < values.length; ++i)
+            {
+                places[0][i] = new LongCountDate(values[i]).getPeriod(LongCountDate.Period.KIN);
+            }
+        });
+        Benchmark.measure("scalar decomposeLongCount", s_size,
+                () -> DecompositionKernel.scalar().decomposeLongCount(values, places));
+        Benchmark.measure("default decomposeLongCount", s_size,
+                () -> DecompositionKernel.getInstance().decomposeLongCount(values, places));
+
+        Benchmark.measure("CalendarRoundDate objects", s_size, () -> {
+            for (int i = 0; i < values.length; ++i)
+            {
+                components[0][i] = new CalendarRoundDate(LongCountDate.calendarRoundValue(values[i]))
+                        .getTzolkinDate().getNumeral();
+            }
+        });
+        Benchmark.measure("scalar decomposeCalendarRound", s_size, () -> DecompositionKernel.scalar()
+                .decomposeCalendarRound(values, components[0], components[1], components[2], components[3]));
+        Benchmark.measure("default decomposeCalendarRound", s_size, () -> DecompositionKernel.getInstance()
+                .decomposeCalendarRound(values, components[0], components[1], components[2], components[3]));
+
+        int[] calendarRounds = new int[s_size];
+        int[] violations = new int[s_size];
+        Benchmark.measure("default composeCalendarRound", s_size, () -> DecompositionKernel.getInstance()
+                .composeCalendarRound(components[0], components[1], components[2], components[3], calendarRounds));
+        Benchmark.measure("validated composeCalendarRound", s_size, () -> DateValidator.composeCalendarRound(
+                components[0], components[1], components[2], components[3], calendarRounds, violations));
+        Benchmark.measure("validated composeLongCount", s_size,
+                () -> DateValidator.composeLongCount(places, values, violations));
+    }
+
+    private static final int s_size = 1 << 16;
+}
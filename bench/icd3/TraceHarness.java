@@ -0,0 +1,262 @@
+/**
+ *
+ */
+package icd3;
+
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Records and replays traces of calls to the library, to judge changes against a realistic mix of work rather than one
+ * operation at a time.
+ *
+ * In record mode, a synthetic mix of calls is made through a TraceRecorder: mostly range queries, some parsing and
+ * formatting, and occasional bursts of bulk conversions. Applications record their real mix by making their calls
+ * through a TraceRecorder themselves. In replay mode, a trace is played back across a number of threads, either as
+ * fast as possible, at a fixed rate, or with the recorded gaps between calls scaled by a speed factor, and the
+ * throughput, latency percentiles and allocation per call are reported. When calls are paced, each call's latency is
+ * measured from when it was scheduled to start, so that a stall is charged to every call it delays.
+ */
+public class TraceHarness
+{
+    public static void main(String[] args) throws IOException, InterruptedException
+    {
+        if (args.length >= 2 && args[0].equals("record"))
+        {
+            record(args[1], args.length > 2 ? Integer.parseInt(args[2]) : s_defaultCalls);
+        }
+        else if (args.length >= 2 && args[0].equals("replay"))
+        {
+            List<TraceCall> calls;
+            try (InputStream in = new FileInputStream(args[1]))
+            {
+                calls = TraceReader.read(in);
+            }
+            TraceCall[] trace = calls.toArray(new TraceCall[0]);
+            replay(trace, args.length > 2 ? Integer.parseInt(args[2]) : 1, schedule(trace, args.length > 3 ? args[3]
+                : "0"), args.length > 4 ? Integer.parseInt(args[4]) : s_defaultWarmups);
+        }
+        else
+        {
+            System.err.println("Usage: TraceHarness record <trace> [calls]");
+            System.err.println("       TraceHarness replay <trace> [threads] [calls per second, 0 for unthrottled,"
+                + " or a speed such as 2x for the recorded timing] [warm-up passes]");
+            System.exit(2);
+        }
+    }
+
+    /**
+     * Give the nanoseconds after the start of a replay at which each call is due.
+     *
+     * @param pace Calls per second, 0 for unthrottled, or a speed factor followed by x to keep the recorded gaps
+     *            between calls, divided by the factor.
+     * @return The times, or null if the calls are not paced.
+     */
+    private static long[] schedule(TraceCall[] trace, String pace)
+    {
+        boolean recorded = pace.endsWith("x");
+        double factor = Double.parseDouble(recorded ? pace.substring(0, pace.length() - 1) : pace);
+        if (factor < 0 || recorded && factor == 0)
+        {
+            throw new IllegalArgumentException("Pace must be positive, or 0 for unthrottled.");
+        }
+        if (factor == 0)
+        {
+            return null;
+        }
+
+        // The first call's delay is from whenever recording began, so the replay starts with the call itself
+        long[] schedule = new long[trace.length];
+        double elapsed = 0;
+        for (int i = 1; i < trace.length; ++i)
+        {
+            elapsed += recorded ? Math.max(trace[i].getDelay(), 0) / factor : 1e9 / factor;
+            schedule[i] = (long) elapsed;
+        }
+        return schedule;
+    }
+
+    private static void record(String file, int calls) throws IOException
+    {
+        Random random = new Random(41);
+        int span = 13 * LongCountDate.Period.BAKTUN.days();
+        try (TraceRecorder recorder = new TraceRecorder(new FileOutputStream(file)))
+        {
+            for (int i = 0; i < calls; ++i)
+            {
+                int kind = random.nextInt(100);
+                if (kind < 70)
+                {
+                    int start = random.nextInt(span);
+                    recorder.calendarRoundToLongCountList(new CalendarRoundDate(random.nextInt(18980)),
+                        new LongCountDate(start), new LongCountDate(start + 18980 * (1 + random.nextInt(40))));
+                }
+                else if (kind < 78)
+                {
+                    recorder.calendarRoundToLongCount(new CalendarRoundDate(random.nextInt(18980)), new LongCountDate(
+                        random.nextInt(span)));
+                }
+                else if (kind < 85)
+                {
+                    recorder.format(new LongCountDate(random.nextInt(span)));
+                }
+                else if (kind < 91)
+                {
+                    recorder.format(new CalendarRoundDate(random.nextInt(18980)));
+                }
+                else if (kind < 97)
+                {
+                    recorder.parseChain(new DistanceNumber(random.nextInt(20000) - 10000) + ", "
+                        + new DistanceNumber(random.nextInt(200000)));
+                }
+                else
+                {
+                    // A burst of bulk conversions over a run of consecutive dates
+                    int[] values = new int[1024 << random.nextInt(5)];
+                    int start = random.nextInt(span);
+                    for (int j = 0; j < values.length; ++j)
+                    {
+                        values[j] = start + j;
+                    }
+                    if (random.nextBoolean())
+                    {
+                        recorder.decomposeLongCount(values,
+                            new int[LongCountDate.Period.values().length][values.length]);
+                    }
+                    else
+                    {
+                        recorder.decomposeCalendarRound(values, new int[values.length], new int[values.length],
+                            new int[values.length], new int[values.length]);
+                    }
+                }
+            }
+        }
+        System.out.println("Recorded " + calls + " calls to " + file);
+    }
+
+    private static void replay(TraceCall[] trace, int threads, long[] schedule, int warmups)
+        throws InterruptedException
+    {
+        for (int pass = 0; pass < warmups; ++pass)
+        {
+            for (TraceCall call : trace)
+            {
+                s_sink += System.identityHashCode(call.execute());
+            }
+        }
+
+        long[] latencies = new long[trace.length];
+        long[] allocated = new long[threads];
+
+        // Calls are dealt out to the threads in turn, so each thread keeps the recorded order among its own calls
+        Thread[] workers = new Thread[threads];
+        long begin = System.nanoTime() + s_startDelay;
+        for (int t = 0; t < threads; ++t)
+        {
+            int first = t;
+            workers[t] = new Thread(() -> {
+                com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory
+                    .getThreadMXBean();
+                long before = bean.getCurrentThreadAllocatedBytes();
+                long sink = 0;
+                for (int i = first; i < trace.length; i += threads)
+                {
+                    long scheduled = begin + (null == schedule ? 0 : schedule[i]);
+                    long now;
+                    while ((now = System.nanoTime()) < scheduled)
+                    {
+                        LockSupport.parkNanos(scheduled - now);
+                    }
+                    long start = null == schedule ? now : scheduled;
+                    sink += System.identityHashCode(trace[i].execute());
+                    latencies[i] = System.nanoTime() - start;
+                }
+                allocated[first] = bean.getCurrentThreadAllocatedBytes() - before;
+                synchronized (TraceHarness.class)
+                {
+                    s_sink += sink;
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers)
+        {
+            worker.join();
+        }
+        double seconds = (System.nanoTime() - begin) / 1e9;
+
+        long dates = 0;
+        for (TraceCall call : trace)
+        {
+            dates += call.size();
+        }
+        System.out.println(String.format("%d calls (%d dates) on %d threads in %.3f s: %.0f calls/s, %.0f dates/s",
+            trace.length, dates, threads, seconds, trace.length / seconds, dates / seconds));
+        System.out.println(String.format("%.1f bytes allocated per call", (double) Arrays.stream(allocated).sum()
+            / trace.length));
+        report("all calls", latencies);
+
+        Map<TraceCall.Operation, long[]> byOperation = new EnumMap<TraceCall.Operation, long[]>(
+            TraceCall.Operation.class);
+        for (TraceCall.Operation operation : TraceCall.Operation.values())
+        {
+            long[] selected = new long[trace.length];
+            int count = 0;
+            for (int i = 0; i < trace.length; ++i)
+            {
+                if (trace[i].getOperation() == operation)
+                {
+                    selected[count++] = latencies[i];
+                }
+            }
+            if (count > 0)
+            {
+                byOperation.put(operation, Arrays.copyOf(selected, count));
+            }
+        }
+        for (Map.Entry<TraceCall.Operation, long[]> entry : byOperation.entrySet())
+        {
+            report(entry.getKey().toString(), entry.getValue());
+        }
+
+        // Keep the results live so that the calls cannot be eliminated
+        System.out.println("(checksum " + s_sink + ")");
+    }
+
+    private static void report(String name, long[] latencies)
+    {
+        if (latencies.length == 0)
+        {
+            return;
+        }
+
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        System.out.println(String.format("%-26s %8d calls  p50 %9.2f  p90 %9.2f  p99 %9.2f  p99.9 %9.2f  max %9.2f us",
+            name, sorted.length, percentile(sorted, 0.5), percentile(sorted, 0.9), percentile(sorted, 0.99),
+            percentile(sorted, 0.999), sorted[sorted.length - 1] / 1e3));
+    }
+
+    private static double percentile(long[] sorted, double fraction)
+    {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(fraction * sorted.length) - 1)] / 1e3;
+    }
+
+    private static final int s_defaultCalls = 100000;
+
+    private static final int s_defaultWarmups = 2;
+
+    // Time for every thread to start before the first call is scheduled
+    private static final long s_startDelay = 50000000;
+
+    private static long s_sink;
+}
@@ -0,0 +1,21 @@
+/**
+ *
+ */
+package icd3;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Records one batch operation of a ConversionOperations implementation. The size is the number of inputs.
+ */
+@Name("icd3.BulkConversion")
+@Label("Bulk Conversion")
+final class BulkConversionEvent extends CalendarEvent
+{
+    @Label("Operation")
+    String operation;
+
+    @Label("Implementation")
+    String implementation;
+}
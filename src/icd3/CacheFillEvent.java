@@ -0,0 +1,18 @@
+/**
+ *
+ */
+package icd3;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Records the filling of a lookup table or cache. The size is the number of entries.
+ */
+@Name("icd3.CacheFill")
+@Label("Cache Fill")
+final class CacheFillEvent extends CalendarEvent
+{
+    @Label("Cache")
+    String cache;
+}
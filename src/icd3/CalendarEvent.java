@@ -0,0 +1,35 @@
+/**
+ *
+ */
+package icd3;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.SettingDefinition;
+import jdk.jfr.Threshold;
+
+/**
+ * The Flight Recorder events of this library, each recording an operation on some number of dates.
+ *
+ * Events are only recorded if they last at least their threshold and cover at least their minimumSize. Callers only
+ * create events once EventGate reports the recorder started, set the size before asking shouldCommit, and fill in the
+ * remaining fields only if it agrees, so a disabled event costs next to nothing.
+ */
+@Category("Mayan Calendar")
+@Threshold("10 ms")
+abstract class CalendarEvent extends Event
+{
+    @Label("Size")
+    @Description("The number of dates in the operation")
+    int size;
+
+    @SettingDefinition
+    @Name("minimumSize")
+    protected boolean minimumSize(SizeThreshold threshold)
+    {
+        return threshold.accept(size);
+    }
+}
@@ -9,8 +9,8 @@ package icd3;
  */
 public class CalendarRoundDate extends CyclicDate<CalendarRoundDate>
 {
-    private TzolkinDate m_tzolkin;
-    private HaabDate m_haab;
+    private final TzolkinDate m_tzolkin;
+    private final HaabDate m_haab;
 
     /**
      * Instantiate a CalendarRoundDate from its components.
@@ -20,7 +20,7 @@ public class CalendarRoundDate extends CyclicDate<CalendarRoundDate>
      */
     public CalendarRoundDate(TzolkinDate tzolkin, HaabDate haab)
     {
-        super(calculateValue(tzolkin.toInt(), haab.toInt()));
+        super(value(tzolkin.toInt(), haab.toInt()));
         m_tzolkin = tzolkin;
         m_haab = haab;
     }
@@ -34,7 +34,7 @@ public class CalendarRoundDate extends CyclicDate<CalendarRoundDate>
     {
         super(value);
         m_tzolkin = new TzolkinDate(toInt() % TzolkinDate.tzolkinCycle());
-        m_haab = new HaabDate(toInt() % HaabDate.haabCycle());
+        m_haab = new HaabDate(haab(toInt()));
     }
 
     /*
@@ -66,7 +66,7 @@ public class CalendarRoundDate extends CyclicDate<CalendarRoundDate>
     @Override
     public String toString()
     {
-        return String.format("%s %s", this.getTzolkinDate(), this.getHaabDate());
+        return new StringBuilder().append(this.getTzolkinDate()).append(' ').append(this.getHaabDate()).toString();
     }
 
     /**
@@ -92,14 +92,41 @@ public class CalendarRoundDate extends CyclicDate<CalendarRoundDate>
     // Least common multiple of Tzolkin and Haab
     private static final int s_cycle = 18980;
 
-    private static int calculateValue(int tzolkin, int haab)
+    // A Tzolkin and a Haab date fall on the same day only when the Haab date is this many days ahead modulo 5, as
+    // 4 Ajaw 8 Kumku are, so the Haab component is read this far ahead of the Tzolkin component
+    private static final int s_haabOffset = 3;
+
+    /**
+     * Give the integer representation of the Haab component of a Calendar Round date, as the constructor decodes it.
+     * The conversions that read the components directly share this rather than repeat it.
+     *
+     * @param value The integer representation of the Calendar Round date, from 0 up to the cycle.
+     * @return The integer representation of the Haab date.
+     */
+    static int haab(int value)
+    {
+        return (value + s_haabOffset) % HaabDate.haabCycle();
+    }
+
+    /**
+     * Combine the integer representations of a Tzolkin and a Haab date into that of a Calendar Round date, as the
+     * constructor does. The batch conversions share this rather than repeat it.
+     *
+     * @param tzolkin The integer representation of the Tzolkin date.
+     * @param haab The integer representation of the Haab date.
+     * @return The integer representation of the Calendar Round date. Only meaningful if the two can fall on the same
+     *         day, which DateValidator checks.
+     */
+    static int value(int tzolkin, int haab)
     {
         int haabCycle = HaabDate.haabCycle();
 
         // Also = tzolkinCycle / gcf(haabCycle, tzolkinCycle)
         int commonModulus = s_cycle / haabCycle;
 
-        int numberOfHaabs = ((tzolkin - haab) % commonModulus + commonModulus) % commonModulus;
-        return haabCycle * numberOfHaabs + haab;
+        // Undo the offset that haab reads the component with
+        int shifted = (haab - s_haabOffset + haabCycle) % haabCycle;
+        int numberOfHaabs = ((tzolkin - shifted) % commonModulus + commonModulus) % commonModulus;
+        return haabCycle * numberOfHaabs + shifted;
     }
 }
@@ -0,0 +1,83 @@
+/**
+ *
+ */
+package icd3;
+
+/**
+ * A list of Calendar Round dates backed by a primitive array of their integer representations.
+ */
+public class CalendarRoundDateList extends DateList<CalendarRoundDate>
+{
+    /**
+     * Instantiates an empty list.
+     */
+    public CalendarRoundDateList()
+    {
+        this(s_defaultCapacity);
+    }
+
+    /**
+     * Instantiates an empty list with the specified initial capacity.
+     *
+     * @param capacity The number of dates that can be held before the storage must grow.
+     */
+    public CalendarRoundDateList(int capacity)
+    {
+        super(capacity);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see icd3.DateList#normalize(int)
+     */
+    @Override
+    protected int normalize(int value)
+    {
+        // Ensure that value is within the positive equivalence class (mod cycle), as CyclicDate does
+        return (value % s_cycle + s_cycle) % s_cycle;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see icd3.DateList#fromInt(int)
+     */
+    @Override
+    protected CalendarRoundDate fromInt(int value)
+    {
+        return new CalendarRoundDate(value);
+    }
+
+    /**
+     * Create a list holding the specified integer representations, in order.
+     *
+     * @param values The integer representations. They are reduced modulo the cycle.
+     * @return The new list.
+     */
+    public static CalendarRoundDateList of(int... values)
+    {
+        CalendarRoundDateList list = new CalendarRoundDateList(values.length);
+        for (int value : values)
+        {
+            list.addInt(value);
+        }
+        return list;
+    }
+
+    /**
+     * Merge several sorted lists into a new sorted list.
+     *
+     * @param lists The sorted lists to merge.
+     * @return A new list holding every date of the inputs in ascending order.
+     */
+    public static CalendarRoundDateList merge(CalendarRoundDateList... lists)
+    {
+        CalendarRoundDateList merged = new CalendarRoundDateList(0);
+        merged.mergeFrom(lists);
+        return merged;
+    }
+
+    // The length of the Calendar Round
+    private static final int s_cycle = new CalendarRoundDate(0).cycle();
+}
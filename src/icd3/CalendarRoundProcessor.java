@@ -0,0 +1,245 @@
+/**
+ *
+ */
+package icd3;
+
+import java.util.concurrent.Flow;
+
+/**
+ * Converts batches of Long Count dates into batches of the Calendar Round dates falling on them, as a reactive
+ * processor between a LongCountPublisher and a downstream subscriber.
+ *
+ * Every upstream batch becomes exactly one downstream batch, so downstream demand is passed upstream unchanged and
+ * nothing is buffered here. A processor serves a single downstream subscriber.
+ */
+public class CalendarRoundProcessor implements Flow.Processor<LongCountDateList, CalendarRoundDateList>
+{
+    private Flow.Subscription m_upstream;
+
+    private Flow.Subscriber<? super CalendarRoundDateList> m_downstream;
+
+    /**
+     * Whether the downstream subscriber has been handed its subscription, and so may be sent terminal signals
+     */
+    private boolean m_subscribed;
+
+    /**
+     * Demand from downstream that arrived before the upstream subscription did
+     */
+    private long m_pendingDemand;
+
+    private boolean m_pendingCancel;
+
+    /**
+     * A terminal signal from upstream that arrived before the downstream subscriber did
+     */
+    private boolean m_completed;
+
+    private Throwable m_error;
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.util.concurrent.Flow.Publisher#subscribe(java.util.concurrent.Flow.Subscriber)
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super CalendarRoundDateList> subscriber)
+    {
+        if (null == subscriber)
+        {
+            throw new NullPointerException("Subscriber must not be null.");
+        }
+
+        synchronized (this)
+        {
+            if (m_downstream != null)
+            {
+                subscriber.onSubscribe(s_rejected);
+                subscriber.onError(new IllegalStateException("A processor serves only one subscriber."));
+                return;
+            }
+            m_downstream = subscriber;
+        }
+
+        subscriber.onSubscribe(new ForwardingSubscription());
+
+        // Replay a terminal signal that upstream sent before the subscriber was ready for it
+        Throwable error;
+        boolean completed;
+        synchronized (this)
+        {
+            m_subscribed = true;
+            error = m_error;
+            completed = m_completed;
+        }
+        if (error != null)
+        {
+            subscriber.onError(error);
+        }
+        else if (completed)
+        {
+            subscriber.onComplete();
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.util.concurrent.Flow.Subscriber#onSubscribe(java.util.concurrent.Flow.Subscription)
+     */
+    @Override
+    public void onSubscribe(Flow.Subscription subscription)
+    {
+        long demand;
+        boolean cancel;
+        synchronized (this)
+        {
+            if (m_upstream != null)
+            {
+                subscription.cancel();
+                return;
+            }
+            m_upstream = subscription;
+            demand = m_pendingDemand;
+            cancel = m_pendingCancel;
+        }
+
+        if (cancel)
+        {
+            subscription.cancel();
+        }
+        else if (demand != 0)
+        {
+            subscription.request(demand);
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.util.concurrent.Flow.Subscriber#onNext(java.lang.Object)
+     */
+    @Override
+    public void onNext(LongCountDateList batch)
+    {
+        CalendarRoundDateList converted = new CalendarRoundDateList(batch.size());
+        for (int i = 0; i < batch.size(); ++i)
+        {
+            converted.addInt(LongCountDate.calendarRoundValue(batch.getInt(i)));
+        }
+
+        // Batches are only requested on behalf of downstream, so it is already subscribed
+        m_downstream.onNext(converted);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.util.concurrent.Flow.Subscriber#onError(java.lang.Throwable)
+     */
+    @Override
+    public void onError(Throwable throwable)
+    {
+        Flow.Subscriber<? super CalendarRoundDateList> downstream;
+        synchronized (this)
+        {
+            m_error = throwable;
+            downstream = m_subscribed ? m_downstream : null;
+        }
+        if (downstream != null)
+        {
+            downstream.onError(throwable);
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.util.concurrent.Flow.Subscriber#onComplete()
+     */
+    @Override
+    public void onComplete()
+    {
+        Flow.Subscriber<? super CalendarRoundDateList> downstream;
+        synchronized (this)
+        {
+            m_completed = true;
+            downstream = m_subscribed ? m_downstream : null;
+        }
+        if (downstream != null)
+        {
+            downstream.onComplete();
+        }
+    }
+
+    /**
+     * Passes downstream demand and cancellation to upstream, holding them until upstream has subscribed.
+     */
+    private final class ForwardingSubscription implements Flow.Subscription
+    {
+        /*
+         * (non-Javadoc)
+         *
+         * @see java.util.concurrent.Flow.Subscription#request(long)
+         */
+        @Override
+        public void request(long n)
+        {
+            Flow.Subscription upstream;
+            synchronized (CalendarRoundProcessor.this)
+            {
+                upstream = m_upstream;
+                if (null == upstream)
+                {
+                    // Invalid demand is held as -1, so that upstream can signal the error once it arrives
+                    if (n <= 0 || m_pendingDemand < 0)
+                    {
+                        m_pendingDemand = -1;
+                    }
+                    else
+                    {
+                        m_pendingDemand = m_pendingDemand + n < 0 ? Long.MAX_VALUE : m_pendingDemand + n;
+                    }
+                    return;
+                }
+            }
+            upstream.request(n);
+        }
+
+        /*
+         * (non-Javadoc)
+         *
+         * @see java.util.concurrent.Flow.Subscription#cancel()
+         */
+        @Override
+        public void cancel()
+        {
+            Flow.Subscription upstream;
+            synchronized (CalendarRoundProcessor.this)
+            {
+                upstream = m_upstream;
+                m_pendingCancel = true;
+            }
+            if (upstream != null)
+            {
+                upstream.cancel();
+            }
+        }
+    }
+
+    /**
+     * Given to subscribers beyond the first, which are refused
+     */
+    private static final Flow.Subscription s_rejected = new Flow.Subscription()
+    {
+        @Override
+        public void request(long n)
+        {
+        }
+
+        @Override
+        public void cancel()
+        {
+        }
+    };
+}
@@ -0,0 +1,692 @@
+/**
+ *
+ */
+package icd3;
+
+/**
+ * Precomputed lookup tables, unpacked by CalendarTables.
+ *
+ * Generated by TableGenerator during the build. Do not edit.
+ */
+final class CalendarTableData
+{
+    private CalendarTableData()
+    {
+    }
+
+    static final String TZOLKIN_NAMES =
+            "1.IMIX\n"
+            + "1.IK\n"
+            + "1.AKBAL\n"
+            + "1.KAN\n"
+            + "1.CHIKCHAN\n"
+            + "1.KIMI\n"
+            + "1.MANIK\n"
+            + "1.LAMAT\n"
+            + "1.MULUK\n"
+            + "1.OK\n"
+            + "1.CHUEN\n"
+            + "1.EB\n"
+            + "1.BEN\n"
+            + "1.IX\n"
+            + "1.MEN\n"
+            + "1.KIB\n"
+            + "1.KABAN\n"
+            + "1.ETZNAB\n"
+            + "1.KAWAK\n"
+            + "1.AJAW\n"
+            + "2.IMIX\n"
+            + "2.IK\n"
+            + "2.AKBAL\n"
+            + "2.KAN\n"
+            + "2.CHIKCHAN\n"
+            + "2.KIMI\n"
+            + "2.MANIK\n"
+            + "2.LAMAT\n"
+            + "2.MULUK\n"
+            + "2.OK\n"
+            + "2.CHUEN\n"
+            + "2.EB\n"
+            + "2.BEN\n"
+            + "2.IX\n"
+            + "2.MEN\n"
+            + "2.KIB\n"
+            + "2.KABAN\n"
+            + "2.ETZNAB\n"
+            + "2.KAWAK\n"
+            + "2.AJAW\n"
+            + "3.IMIX\n"
+            + "3.IK\n"
+            + "3.AKBAL\n"
+            + "3.KAN\n"
+            + "3.CHIKCHAN\n"
+            + "3.KIMI\n"
+            + "3.MANIK\n"
+            + "3.LAMAT\n"
+            + "3.MULUK\n"
+            + "3.OK\n"
+            + "3.CHUEN\n"
+            + "3.EB\n"
+            + "3.BEN\n"
+            + "3.IX\n"
+            + "3.MEN\n"
+            + "3.KIB\n"
+            + "3.KABAN\n"
+            + "3.ETZNAB\n"
+            + "3.KAWAK\n"
+            + "3.AJAW\n"
+            + "4.IMIX\n"
+            + "4.IK\n"
+            + "4.AKBAL\n"
+            + "4.KAN\n"
+            + "4.CHIKCHAN\n"
+            + "4.KIMI\n"
+            + "4.MANIK\n"
+            + "4.LAMAT\n"
+            + "4.MULUK\n"
+            + "4.OK\n"
+            + "4.CHUEN\n"
+            + "4.EB\n"
+            + "4.BEN\n"
+            + "4.IX\n"
+            + "4.MEN\n"
+            + "4.KIB\n"
+            + "4.KABAN\n"
+            + "4.ETZNAB\n"
+            + "4.KAWAK\n"
+            + "4.AJAW\n"
+            + "5.IMIX\n"
+            + "5.IK\n"
+            + "5.AKBAL\n"
+            + "5.KAN\n"
+            + "5.CHIKCHAN\n"
+            + "5.KIMI\n"
+            + "5.MANIK\n"
+            + "5.LAMAT\n"
+            + "5.MULUK\n"
+            + "5.OK\n"
+            + "5.CHUEN\n"
+            + "5.EB\n"
+            + "5.BEN\n"
+            + "5.IX\n"
+            + "5.MEN\n"
+            + "5.KIB\n"
+            + "5.KABAN\n"
+            + "5.ETZNAB\n"
+            + "5.KAWAK\n"
+            + "5.AJAW\n"
+            + "6.IMIX\n"
+            + "6.IK\n"
+            + "6.AKBAL\n"
+            + "6.KAN\n"
+            + "6.CHIKCHAN\n"
+            + "6.KIMI\n"
+            + "6.MANIK\n"
+            + "6.LAMAT\n"
+            + "6.MULUK\n"
+            + "6.OK\n"
+            + "6.CHUEN\n"
+            + "6.EB\n"
+            + "6.BEN\n"
+            + "6.IX\n"
+            + "6.MEN\n"
+            + "6.KIB\n"
+            + "6.KABAN\n"
+            + "6.ETZNAB\n"
+            + "6.KAWAK\n"
+            + "6.AJAW\n"
+            + "7.IMIX\n"
+            + "7.IK\n"
+            + "7.AKBAL\n"
+            + "7.KAN\n"
+            + "7.CHIKCHAN\n"
+            + "7.KIMI\n"
+            + "7.MANIK\n"
+            + "7.LAMAT\n"
+            + "7.MULUK\n"
+            + "7.OK\n"
+            + "7.CHUEN\n"
+            + "7.EB\n"
+            + "7.BEN\n"
+            + "7.IX\n"
+            + "7.MEN\n"
+            + "7.KIB\n"
+            + "7.KABAN\n"
+            + "7.ETZNAB\n"
+            + "7.KAWAK\n"
+            + "7.AJAW\n"
+            + "8.IMIX\n"
+            + "8.IK\n"
+            + "8.AKBAL\n"
+            + "8.KAN\n"
+            + "8.CHIKCHAN\n"
+            + "8.KIMI\n"
+            + "8.MANIK\n"
+            + "8.LAMAT\n"
+            + "8.MULUK\n"
+            + "8.OK\n"
+            + "8.CHUEN\n"
+            + "8.EB\n"
+            + "8.BEN\n"
+            + "8.IX\n"
+            + "8.MEN\n"
+            + "8.KIB\n"
+            + "8.KABAN\n"
+            + "8.ETZNAB\n"
+            + "8.KAWAK\n"
+            + "8.AJAW\n"
+            + "9.IMIX\n"
+            + "9.IK\n"
+            + "9.AKBAL\n"
+            + "9.KAN\n"
+            + "9.CHIKCHAN\n"
+            + "9.KIMI\n"
+            + "9.MANIK\n"
+            + "9.LAMAT\n"
+            + "9.MULUK\n"
+            + "9.OK\n"
+            + "9.CHUEN\n"
+            + "9.EB\n"
+            + "9.BEN\n"
+            + "9.IX\n"
+            + "9.MEN\n"
+            + "9.KIB\n"
+            + "9.KABAN\n"
+            + "9.ETZNAB\n"
+            + "9.KAWAK\n"
+            + "9.AJAW\n"
+            + "10.IMIX\n"
+            + "10.IK\n"
+            + "10.AKBAL\n"
+            + "10.KAN\n"
+            + "10.CHIKCHAN\n"
+            + "10.KIMI\n"
+            + "10.MANIK\n"
+            + "10.LAMAT\n"
+            + "10.MULUK\n"
+            + "10.OK\n"
+            + "10.CHUEN\n"
+            + "10.EB\n"
+            + "10.BEN\n"
+            + "10.IX\n"
+            + "10.MEN\n"
+            + "10.KIB\n"
+            + "10.KABAN\n"
+            + "10.ETZNAB\n"
+            + "10.KAWAK\n"
+            + "10.AJAW\n"
+            + "11.IMIX\n"
+            + "11.IK\n"
+            + "11.AKBAL\n"
+            + "11.KAN\n"
+            + "11.CHIKCHAN\n"
+            + "11.KIMI\n"
+            + "11.MANIK\n"
+            + "11.LAMAT\n"
+            + "11.MULUK\n"
+            + "11.OK\n"
+            + "11.CHUEN\n"
+            + "11.EB\n"
+            + "11.BEN\n"
+            + "11.IX\n"
+            + "11.MEN\n"
+            + "11.KIB\n"
+            + "11.KABAN\n"
+            + "11.ETZNAB\n"
+            + "11.KAWAK\n"
+            + "11.AJAW\n"
+            + "12.IMIX\n"
+            + "12.IK\n"
+            + "12.AKBAL\n"
+            + "12.KAN\n"
+            + "12.CHIKCHAN\n"
+            + "12.KIMI\n"
+            + "12.MANIK\n"
+            + "12.LAMAT\n"
+            + "12.MULUK\n"
+            + "12.OK\n"
+            + "12.CHUEN\n"
+            + "12.EB\n"
+            + "12.BEN\n"
+            + "12.IX\n"
+            + "12.MEN\n"
+            + "12.KIB\n"
+            + "12.KABAN\n"
+            + "12.ETZNAB\n"
+            + "12.KAWAK\n"
+            + "12.AJAW\n"
+            + "13.IMIX\n"
+            + "13.IK\n"
+            + "13.AKBAL\n"
+            + "13.KAN\n"
+            + "13.CHIKCHAN\n"
+            + "13.KIMI\n"
+            + "13.MANIK\n"
+            + "13.LAMAT\n"
+            + "13.MULUK\n"
+            + "13.OK\n"
+            + "13.CHUEN\n"
+            + "13.EB\n"
+            + "13.BEN\n"
+            + "13.IX\n"
+            + "13.MEN\n"
+            + "13.KIB\n"
+            + "13.KABAN\n"
+            + "13.ETZNAB\n"
+            + "13.KAWAK\n"
+            + "13.AJAW\n";
+
+    static final String HAAB_NAMES =
+            "1.POHP\n"
+            + "2.POHP\n"
+            + "3.POHP\n"
+            + "4.POHP\n"
+            + "5.POHP\n"
+            + "6.POHP\n"
+            + "7.POHP\n"
+            + "8.POHP\n"
+            + "9.POHP\n"
+            + "10.POHP\n"
+            + "11.POHP\n"
+            + "12.POHP\n"
+            + "13.POHP\n"
+            + "14.POHP\n"
+            + "15.POHP\n"
+            + "16.POHP\n"
+            + "17.POHP\n"
+            + "18.POHP\n"
+            + "19.POHP\n"
+            + "20.POHP\n"
+            + "1.WO\n"
+            + "2.WO\n"
+            + "3.WO\n"
+            + "4.WO\n"
+            + "5.WO\n"
+            + "6.WO\n"
+            + "7.WO\n"
+            + "8.WO\n"
+            + "9.WO\n"
+            + "10.WO\n"
+            + "11.WO\n"
+            + "12.WO\n"
+            + "13.WO\n"
+            + "14.WO\n"
+            + "15.WO\n"
+            + "16.WO\n"
+            + "17.WO\n"
+            + "18.WO\n"
+            + "19.WO\n"
+            + "20.WO\n"
+            + "1.SIP\n"
+            + "2.SIP\n"
+            + "3.SIP\n"
+            + "4.SIP\n"
+            + "5.SIP\n"
+            + "6.SIP\n"
+            + "7.SIP\n"
+            + "8.SIP\n"
+            + "9.SIP\n"
+            + "10.SIP\n"
+            + "11.SIP\n"
+            + "12.SIP\n"
+            + "13.SIP\n"
+            + "14.SIP\n"
+            + "15.SIP\n"
+            + "16.SIP\n"
+            + "17.SIP\n"
+            + "18.SIP\n"
+            + "19.SIP\n"
+            + "20.SIP\n"
+            + "1.ZOTZ\n"
+            + "2.ZOTZ\n"
+            + "3.ZOTZ\n"
+            + "4.ZOTZ\n"
+            + "5.ZOTZ\n"
+            + "6.ZOTZ\n"
+            + "7.ZOTZ\n"
+            + "8.ZOTZ\n"
+            + "9.ZOTZ\n"
+            + "10.ZOTZ\n"
+            + "11.ZOTZ\n"
+            + "12.ZOTZ\n"
+            + "13.ZOTZ\n"
+            + "14.ZOTZ\n"
+            + "15.ZOTZ\n"
+            + "16.ZOTZ\n"
+            + "17.ZOTZ\n"
+            + "18.ZOTZ\n"
+            + "19.ZOTZ\n"
+            + "20.ZOTZ\n"
+            + "1.SEK\n"
+            + "2.SEK\n"
+            + "3.SEK\n"
+            + "4.SEK\n"
+            + "5.SEK\n"
+            + "6.SEK\n"
+            + "7.SEK\n"
+            + "8.SEK\n"
+            + "9.SEK\n"
+            + "10.SEK\n"
+            + "11.SEK\n"
+            + "12.SEK\n"
+            + "13.SEK\n"
+            + "14.SEK\n"
+            + "15.SEK\n"
+            + "16.SEK\n"
+            + "17.SEK\n"
+            + "18.SEK\n"
+            + "19.SEK\n"
+            + "20.SEK\n"
+            + "1.XUL\n"
+            + "2.XUL\n"
+            + "3.XUL\n"
+            + "4.XUL\n"
+            + "5.XUL\n"
+            + "6.XUL\n"
+            + "7.XUL\n"
+            + "8.XUL\n"
+            + "9.XUL\n"
+            + "10.XUL\n"
+            + "11.XUL\n"
+            + "12.XUL\n"
+            + "13.XUL\n"
+            + "14.XUL\n"
+            + "15.XUL\n"
+            + "16.XUL\n"
+            + "17.XUL\n"
+            + "18.XUL\n"
+            + "19.XUL\n"
+            + "20.XUL\n"
+            + "1.YAXKIN\n"
+            + "2.YAXKIN\n"
+            + "3.YAXKIN\n"
+            + "4.YAXKIN\n"
+            + "5.YAXKIN\n"
+            + "6.YAXKIN\n"
+            + "7.YAXKIN\n"
+            + "8.YAXKIN\n"
+            + "9.YAXKIN\n"
+            + "10.YAXKIN\n"
+            + "11.YAXKIN\n"
+            + "12.YAXKIN\n"
+            + "13.YAXKIN\n"
+            + "14.YAXKIN\n"
+            + "15.YAXKIN\n"
+            + "16.YAXKIN\n"
+            + "17.YAXKIN\n"
+            + "18.YAXKIN\n"
+            + "19.YAXKIN\n"
+            + "20.YAXKIN\n"
+            + "1.MOL\n"
+            + "2.MOL\n"
+            + "3.MOL\n"
+            + "4.MOL\n"
+            + "5.MOL\n"
+            + "6.MOL\n"
+            + "7.MOL\n"
+            + "8.MOL\n"
+            + "9.MOL\n"
+            + "10.MOL\n"
+            + "11.MOL\n"
+            + "12.MOL\n"
+            + "13.MOL\n"
+            + "14.MOL\n"
+            + "15.MOL\n"
+            + "16.MOL\n"
+            + "17.MOL\n"
+            + "18.MOL\n"
+            + "19.MOL\n"
+            + "20.MOL\n"
+            + "1.CHEN\n"
+            + "2.CHEN\n"
+            + "3.CHEN\n"
+            + "4.CHEN\n"
+            + "5.CHEN\n"
+            + "6.CHEN\n"
+            + "7.CHEN\n"
+            + "8.CHEN\n"
+            + "9.CHEN\n"
+            + "10.CHEN\n"
+            + "11.CHEN\n"
+            + "12.CHEN\n"
+            + "13.CHEN\n"
+            + "14.CHEN\n"
+            + "15.CHEN\n"
+            + "16.CHEN\n"
+            + "17.CHEN\n"
+            + "18.CHEN\n"
+            + "19.CHEN\n"
+            + "20.CHEN\n"
+            + "1.YAX\n"
+            + "2.YAX\n"
+            + "3.YAX\n"
+            + "4.YAX\n"
+            + "5.YAX\n"
+            + "6.YAX\n"
+            + "7.YAX\n"
+            + "8.YAX\n"
+            + "9.YAX\n"
+            + "10.YAX\n"
+            + "11.YAX\n"
+            + "12.YAX\n"
+            + "13.YAX\n"
+            + "14.YAX\n"
+            + "15.YAX\n"
+            + "16.YAX\n"
+            + "17.YAX\n"
+            + "18.YAX\n"
+            + "19.YAX\n"
+            + "20.YAX\n"
+            + "1.SAK\n"
+            + "2.SAK\n"
+            + "3.SAK\n"
+            + "4.SAK\n"
+            + "5.SAK\n"
+            + "6.SAK\n"
+            + "7.SAK\n"
+            + "8.SAK\n"
+            + "9.SAK\n"
+            + "10.SAK\n"
+            + "11.SAK\n"
+            + "12.SAK\n"
+            + "13.SAK\n"
+            + "14.SAK\n"
+            + "15.SAK\n"
+            + "16.SAK\n"
+            + "17.SAK\n"
+            + "18.SAK\n"
+            + "19.SAK\n"
+            + "20.SAK\n"
+            + "1.KEH\n"
+            + "2.KEH\n"
+            + "3.KEH\n"
+            + "4.KEH\n"
+            + "5.KEH\n"
+            + "6.KEH\n"
+            + "7.KEH\n"
+            + "8.KEH\n"
+            + "9.KEH\n"
+            + "10.KEH\n"
+            + "11.KEH\n"
+            + "12.KEH\n"
+            + "13.KEH\n"
+            + "14.KEH\n"
+            + "15.KEH\n"
+            + "16.KEH\n"
+            + "17.KEH\n"
+            + "18.KEH\n"
+            + "19.KEH\n"
+            + "20.KEH\n"
+            + "1.MAK\n"
+            + "2.MAK\n"
+            + "3.MAK\n"
+            + "4.MAK\n"
+            + "5.MAK\n"
+            + "6.MAK\n"
+            + "7.MAK\n"
+            + "8.MAK\n"
+            + "9.MAK\n"
+            + "10.MAK\n"
+            + "11.MAK\n"
+            + "12.MAK\n"
+            + "13.MAK\n"
+            + "14.MAK\n"
+            + "15.MAK\n"
+            + "16.MAK\n"
+            + "17.MAK\n"
+            + "18.MAK\n"
+            + "19.MAK\n"
+            + "20.MAK\n"
+            + "1.KANKIN\n"
+            + "2.KANKIN\n"
+            + "3.KANKIN\n"
+            + "4.KANKIN\n"
+            + "5.KANKIN\n"
+            + "6.KANKIN\n"
+            + "7.KANKIN\n"
+            + "8.KANKIN\n"
+            + "9.KANKIN\n"
+            + "10.KANKIN\n"
+            + "11.KANKIN\n"
+            + "12.KANKIN\n"
+            + "13.KANKIN\n"
+            + "14.KANKIN\n"
+            + "15.KANKIN\n"
+            + "16.KANKIN\n"
+            + "17.KANKIN\n"
+            + "18.KANKIN\n"
+            + "19.KANKIN\n"
+            + "20.KANKIN\n"
+            + "1.MUAN\n"
+            + "2.MUAN\n"
+            + "3.MUAN\n"
+            + "4.MUAN\n"
+            + "5.MUAN\n"
+            + "6.MUAN\n"
+            + "7.MUAN\n"
+            + "8.MUAN\n"
+            + "9.MUAN\n"
+            + "10.MUAN\n"
+            + "11.MUAN\n"
+            + "12.MUAN\n"
+            + "13.MUAN\n"
+            + "14.MUAN\n"
+            + "15.MUAN\n"
+            + "16.MUAN\n"
+            + "17.MUAN\n"
+            + "18.MUAN\n"
+            + "19.MUAN\n"
+            + "20.MUAN\n"
+            + "1.PAX\n"
+            + "2.PAX\n"
+            + "3.PAX\n"
+            + "4.PAX\n"
+            + "5.PAX\n"
+            + "6.PAX\n"
+            + "7.PAX\n"
+            + "8.PAX\n"
+            + "9.PAX\n"
+            + "10.PAX\n"
+            + "11.PAX\n"
+            + "12.PAX\n"
+            + "13.PAX\n"
+            + "14.PAX\n"
+            + "15.PAX\n"
+            + "16.PAX\n"
+            + "17.PAX\n"
+            + "18.PAX\n"
+            + "19.PAX\n"
+            + "20.PAX\n"
+            + "1.KAYAB\n"
+            + "2.KAYAB\n"
+            + "3.KAYAB\n"
+            + "4.KAYAB\n"
+            + "5.KAYAB\n"
+            + "6.KAYAB\n"
+            + "7.KAYAB\n"
+            + "8.KAYAB\n"
+            + "9.KAYAB\n"
+            + "10.KAYAB\n"
+            + "11.KAYAB\n"
+            + "12.KAYAB\n"
+            + "13.KAYAB\n"
+            + "14.KAYAB\n"
+            + "15.KAYAB\n"
+            + "16.KAYAB\n"
+            + "17.KAYAB\n"
+            + "18.KAYAB\n"
+            + "19.KAYAB\n"
+            + "20.KAYAB\n"
+            + "1.KUMKU\n"
+            + "2.KUMKU\n"
+            + "3.KUMKU\n"
+            + "4.KUMKU\n"
+            + "5.KUMKU\n"
+            + "6.KUMKU\n"
+            + "7.KUMKU\n"
+            + "8.KUMKU\n"
+            + "9.KUMKU\n"
+            + "10.KUMKU\n"
+            + "11.KUMKU\n"
+            + "12.KUMKU\n"
+            + "13.KUMKU\n"
+            + "14.KUMKU\n"
+            + "15.KUMKU\n"
+            + "16.KUMKU\n"
+            + "17.KUMKU\n"
+            + "18.KUMKU\n"
+            + "19.KUMKU\n"
+            + "20.KUMKU\n"
+            + "1.WAYEB\n"
+            + "2.WAYEB\n"
+            + "3.WAYEB\n"
+            + "4.WAYEB\n"
+            + "5.WAYEB\n";
+
+    static final String TZOLKIN_COMPONENTS =
+            " Ab\u0083\u00a4\u00c5\u00e6\u0107\u0128\u0149\u016a\u018b\u01ac-No\u0090"
+            + "\u00b1\u00d2\u00f3\u0100\u0121\u0142\u0163\u0184\u01a5&Gh\u0089\u00aa\u00cb"
+            + "\u00ec\u010d\u012e\u014f\u0170\u0191\u01b23@a\u0082\u00a3\u00c4\u00e5\u0106"
+            + "\u0127\u0148\u0169\u018a\u01ab,Mn\u008f\u00b0\u00d1\u00f2\u0113\u0120\u0141"
+            + "\u0162\u0183\u01a4%Fg\u0088\u00a9\u00ca\u00eb\u010c\u012d\u014e\u016f\u0190"
+            + "\u01b12S`\u0081\u00a2\u00c3\u00e4\u0105\u0126\u0147\u0168\u0189\u01aa+Lm"
+            + "\u008e\u00af\u00d0\u00f1\u0112\u0133\u0140\u0161\u0182\u01a3$Ef\u0087\u00a8"
+            + "\u00c9\u00ea\u010b\u012c\u014d\u016e\u018f\u01b01Rs\u0080\u00a1\u00c2\u00e3"
+            + "\u0104\u0125\u0146\u0167\u0188\u01a9*Kl\u008d\u00ae\u00cf\u00f0\u0111\u0132"
+            + "\u0153\u0160\u0181\u01a2#De\u0086\u00a7\u00c8\u00e9\u010a\u012b\u014c\u016d"
+            + "\u018e\u01af0Qr\u0093\u00a0\u00c1\u00e2\u0103\u0124\u0145\u0166\u0187\u01a8"
+            + ")Jk\u008c\u00ad\u00ce\u00ef\u0110\u0131\u0152\u0173\u0180\u01a1\"Cd\u0085"
+            + "\u00a6\u00c7\u00e8\u0109\u012a\u014b\u016c\u018d\u01ae/Pq\u0092\u00b3\u00c0"
+            + "\u00e1\u0102\u0123\u0144\u0165\u0186\u01a7(Ij\u008b\u00ac\u00cd\u00ee\u010f"
+            + "\u0130\u0151\u0172\u0193\u01a0!Bc\u0084\u00a5\u00c6\u00e7\u0108\u0129\u014a"
+            + "\u016b\u018c\u01ad.Op\u0091\u00b2\u00d3\u00e0\u0101\u0122\u0143\u0164\u0185"
+            + "\u01a6'Hi\u008a\u00ab\u00cc\u00ed\u010e\u012f\u0150\u0171\u0192\u01b3";
+
+    static final String HAAB_COMPONENTS =
+            " @`\u0080\u00a0\u00c0\u00e0\u0100\u0120\u0140\u0160\u0180\u01a0\u01c0\u01e0"
+            + "\u0200\u0220\u0240\u0260\u0280!Aa\u0081\u00a1\u00c1\u00e1\u0101\u0121\u0141"
+            + "\u0161\u0181\u01a1\u01c1\u01e1\u0201\u0221\u0241\u0261\u0281\"Bb\u0082\u00a2"
+            + "\u00c2\u00e2\u0102\u0122\u0142\u0162\u0182\u01a2\u01c2\u01e2\u0202\u0222"
+            + "\u0242\u0262\u0282#Cc\u0083\u00a3\u00c3\u00e3\u0103\u0123\u0143\u0163\u0183"
+            + "\u01a3\u01c3\u01e3\u0203\u0223\u0243\u0263\u0283$Dd\u0084\u00a4\u00c4\u00e4"
+            + "\u0104\u0124\u0144\u0164\u0184\u01a4\u01c4\u01e4\u0204\u0224\u0244\u0264"
+            + "\u0284%Ee\u0085\u00a5\u00c5\u00e5\u0105\u0125\u0145\u0165\u0185\u01a5\u01c5"
+            + "\u01e5\u0205\u0225\u0245\u0265\u0285&Ff\u0086\u00a6\u00c6\u00e6\u0106\u0126"
+            + "\u0146\u0166\u0186\u01a6\u01c6\u01e6\u0206\u0226\u0246\u0266\u0286'Gg\u0087"
+            + "\u00a7\u00c7\u00e7\u0107\u0127\u0147\u0167\u0187\u01a7\u01c7\u01e7\u0207"
+            + "\u0227\u0247\u0267\u0287(Hh\u0088\u00a8\u00c8\u00e8\u0108\u0128\u0148\u0168"
+            + "\u0188\u01a8\u01c8\u01e8\u0208\u0228\u0248\u0268\u0288)Ii\u0089\u00a9\u00c9"
+            + "\u00e9\u0109\u0129\u0149\u0169\u0189\u01a9\u01c9\u01e9\u0209\u0229\u0249"
+            + "\u0269\u0289*Jj\u008a\u00aa\u00ca\u00ea\u010a\u012a\u014a\u016a\u018a\u01aa"
+            + "\u01ca\u01ea\u020a\u022a\u024a\u026a\u028a+Kk\u008b\u00ab\u00cb\u00eb\u010b"
+            + "\u012b\u014b\u016b\u018b\u01ab\u01cb\u01eb\u020b\u022b\u024b\u026b\u028b"
+            + ",Ll\u008c\u00ac\u00cc\u00ec\u010c\u012c\u014c\u016c\u018c\u01ac\u01cc\u01ec"
+            + "\u020c\u022c\u024c\u026c\u028c-Mm\u008d\u00ad\u00cd\u00ed\u010d\u012d\u014d"
+            + "\u016d\u018d\u01ad\u01cd\u01ed\u020d\u022d\u024d\u026d\u028d.Nn\u008e\u00ae"
+            + "\u00ce\u00ee\u010e\u012e\u014e\u016e\u018e\u01ae\u01ce\u01ee\u020e\u022e"
+            + "\u024e\u026e\u028e/Oo\u008f\u00af\u00cf\u00ef\u010f\u012f\u014f\u016f\u018f"
+            + "\u01af\u01cf\u01ef\u020f\u022f\u024f\u026f\u028f0Pp\u0090\u00b0\u00d0\u00f0"
+            + "\u0110\u0130\u0150\u0170\u0190\u01b0\u01d0\u01f0\u0210\u0230\u0250\u0270"
+            + "\u02901Qq\u0091\u00b1\u00d1\u00f1\u0111\u0131\u0151\u0171\u0191\u01b1\u01d1"
+            + "\u01f1\u0211\u0231\u0251\u0271\u02912Rr\u0092\u00b2";
+}
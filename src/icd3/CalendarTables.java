@@ -0,0 +1,294 @@
+/**
+ *
+ */
+package icd3;
+
+/**
+ * Static lookup tables for the names and components of cyclic dates.
+ *
+ * The tables are generated at build time by TableGenerator into the constants of CalendarTableData, so loading them
+ * needs no I/O. Each table is unpacked in its own holder class, so only the tables that are used are ever built.
+ */
+final class CalendarTables
+{
+    private CalendarTables()
+    {
+    }
+
+    /**
+     * Give the name of a Tzolkin date from its components.
+     *
+     * @param coefficient The zero-based coefficient, between 0 and 12.
+     * @param day The day ordinal.
+     * @return The name, as TzolkinDate.toString gives it.
+     */
+    static String tzolkinName(int coefficient, int day)
+    {
+        return TzolkinNames.s_table[coefficient * s_tzolkinDays + day];
+    }
+
+    /**
+     * Give the name of a Haab date from its integer representation.
+     *
+     * @param value The integer representation.
+     * @return The name, as HaabDate.toString gives it.
+     */
+    static String haabName(int value)
+    {
+        return HaabNames.s_table[value];
+    }
+
+    /**
+     * Give the components of a Tzolkin date, packed into one int.
+     *
+     * @param value The integer representation of the Tzolkin date.
+     * @return The 1-based numeral, shifted by s_componentShift, combined with the day ordinal.
+     */
+    static int tzolkinComponents(int value)
+    {
+        return TzolkinComponents.s_table[value];
+    }
+
+    /**
+     * Give the components of a Haab date, packed into one int.
+     *
+     * @param value The integer representation of the Haab date.
+     * @return The 1-based numeral, shifted by s_componentShift, combined with the month ordinal.
+     */
+    static int haabComponents(int value)
+    {
+        return HaabComponents.s_table[value];
+    }
+
+    /**
+     * Read the numeral from packed components.
+     *
+     * @param components The packed components.
+     * @return The 1-based numeral.
+     */
+    static int numeral(int components)
+    {
+        return components >>> s_componentShift;
+    }
+
+    /**
+     * Read the name from packed components.
+     *
+     * @param components The packed components.
+     * @return The day or month ordinal.
+     */
+    static int name(int components)
+    {
+        return components & ((1 << s_componentShift) - 1);
+    }
+
+    /**
+     * Compute the Tzolkin names, indexed by coefficient and then day, so that every pair of components has an entry.
+     *
+     * @return The names, as TzolkinDate.toString gives them.
+     */
+    static String[] computeTzolkinNames()
+    {
+        TzolkinDate.Day[] days = TzolkinDate.Day.values();
+        String[] names = new String[s_tzolkinCoefficients * days.length];
+
+        for (int i = 0; i < names.length; ++i)
+        {
+            names[i] = new StringBuilder().append(i / days.length + 1).append('.').append(days[i % days.length])
+                    .toString();
+        }
+
+        return names;
+    }
+
+    /**
+     * Compute the Haab names, indexed by integer representation.
+     *
+     * @return The names, as HaabDate.toString gives them.
+     */
+    static String[] computeHaabNames()
+    {
+        String[] names = new String[HaabDate.haabCycle()];
+
+        for (int i = 0; i < names.length; ++i)
+        {
+            HaabDate.Month month = HaabDate.Month.values()[i / s_daysPerMonth];
+            names[i] = new StringBuilder().append(i - month.daysBefore() + 1).append('.').append(month).toString();
+        }
+
+        return names;
+    }
+
+    /**
+     * Begin timing a batch of parsing or formatting, if it is being recorded.
+     *
+     * @return The event to end, or null if nothing is being recorded.
+     */
+    static FormatEvent beginFormat()
+    {
+        if (!EventGate.isRecording())
+        {
+            return null;
+        }
+
+        FormatEvent event = new FormatEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * End timing a batch of parsing or formatting, committing its event if it is being recorded.
+     *
+     * @param event The event that was begun, possibly null.
+     * @param operation Either "parse" or "format".
+     * @param count The number of dates in the batch.
+     */
+    static void endFormat(FormatEvent event, String operation, int count)
+    {
+        if (null == event)
+        {
+            return;
+        }
+
+        event.size = count;
+        if (event.shouldCommit())
+        {
+            event.operation = operation;
+            event.commit();
+        }
+    }
+
+    /**
+     * Compute the packed Tzolkin components, indexed by integer representation.
+     *
+     * @return The packed components.
+     */
+    static char[] computeTzolkinComponents()
+    {
+        char[] components = new char[TzolkinDate.tzolkinCycle()];
+
+        for (int i = 0; i < components.length; ++i)
+        {
+            components[i] = (char) ((i % s_tzolkinCoefficients + 1) << s_componentShift | i % s_tzolkinDays);
+        }
+        return components;
+    }
+
+    /**
+     * Compute the packed Haab components, indexed by integer representation.
+     *
+     * @return The packed components.
+     */
+    static char[] computeHaabComponents()
+    {
+        char[] components = new char[HaabDate.haabCycle()];
+
+        for (int i = 0; i < components.length; ++i)
+        {
+            components[i] = (char) ((i % s_daysPerMonth + 1) << s_componentShift | i / s_daysPerMonth);
+        }
+        return components;
+    }
+
+    private static String[] split(String joined, int size)
+    {
+        String[] names = new String[size];
+
+        int start = 0;
+        for (int i = 0; i < size; ++i)
+        {
+            int end = joined.indexOf(s_separator, start);
+            names[i] = joined.substring(start, end);
+            start = end + 1;
+        }
+        return names;
+    }
+
+    private static class TzolkinNames
+    {
+        private static final String[] s_table;
+
+        static
+        {
+            CacheFillEvent event = beginFill();
+            s_table = split(CalendarTableData.TZOLKIN_NAMES, TzolkinDate.tzolkinCycle());
+            endFill(event, "TzolkinNames", s_table.length);
+        }
+    }
+
+    private static class HaabNames
+    {
+        private static final String[] s_table;
+
+        static
+        {
+            CacheFillEvent event = beginFill();
+            s_table = split(CalendarTableData.HAAB_NAMES, HaabDate.haabCycle());
+            endFill(event, "HaabNames", s_table.length);
+        }
+    }
+
+    private static class TzolkinComponents
+    {
+        private static final char[] s_table;
+
+        static
+        {
+            CacheFillEvent event = beginFill();
+            s_table = CalendarTableData.TZOLKIN_COMPONENTS.toCharArray();
+            endFill(event, "TzolkinComponents", s_table.length);
+        }
+    }
+
+    private static class HaabComponents
+    {
+        private static final char[] s_table;
+
+        static
+        {
+            CacheFillEvent event = beginFill();
+            s_table = CalendarTableData.HAAB_COMPONENTS.toCharArray();
+            endFill(event, "HaabComponents", s_table.length);
+        }
+    }
+
+    private static CacheFillEvent beginFill()
+    {
+        if (!EventGate.isRecording())
+        {
+            return null;
+        }
+
+        CacheFillEvent event = new CacheFillEvent();
+        event.begin();
+        return event;
+    }
+
+    private static void endFill(CacheFillEvent event, String cache, int entries)
+    {
+        if (null == event)
+        {
+            return;
+        }
+
+        event.size = entries;
+        if (event.shouldCommit())
+        {
+            event.cache = cache;
+            event.commit();
+        }
+    }
+
+    /**
+     * Terminates each name in the joined name tables
+     */
+    static final char s_separator = '\n';
+
+    private static final int s_componentShift = 5;
+
+    private static final int s_tzolkinCoefficients = 13;
+
+    private static final int s_tzolkinDays = 20;
+
+    private static final int s_daysPerMonth = 20;
+}
@@ -0,0 +1,75 @@
+/**
+ *
+ */
+package icd3;
+
+/**
+ * The batch conversions between Long Count day numbers and calendar components that fast paths provide.
+ *
+ * Every implementation must agree with the date classes for every input, so that it can be checked exhaustively
+ * against them.
+ */
+public interface ConversionOperations
+{
+    /**
+     * Split day numbers into Long Count place values. Negatives are interpreted as zero.
+     *
+     * @param values The integer representations of Long Count dates.
+     * @param places One output array per Period, indexed by ordinal, each at least as long as values.
+     */
+    public void decomposeLongCount(int[] values, int[][] places);
+
+    /**
+     * Split day numbers into the components of the Calendar Round dates falling on them. Negatives are interpreted as
+     * zero.
+     *
+     * @param values The integer representations of Long Count dates.
+     * @param tzolkinNumerals Output of the 1-based Tzolkin numerals.
+     * @param tzolkinDays Output of the Tzolkin day ordinals.
+     * @param haabNumerals Output of the 1-based Haab numerals.
+     * @param haabMonths Output of the Haab month ordinals.
+     */
+    public void decomposeCalendarRound(int[] values, int[] tzolkinNumerals, int[] tzolkinDays, int[] haabNumerals,
+                                       int[] haabMonths);
+
+    /**
+     * Combine calendar components into the integer representations of Calendar Round dates.
+     *
+     * @param tzolkinNumerals The 1-based Tzolkin numerals.
+     * @param tzolkinDays The Tzolkin day ordinals.
+     * @param haabNumerals The 1-based Haab numerals, within the length of their months.
+     * @param haabMonths The Haab month ordinals.
+     * @param calendarRounds Output of the integer representations.
+     */
+    public void composeCalendarRound(int[] tzolkinNumerals, int[] tzolkinDays, int[] haabNumerals, int[] haabMonths,
+                                     int[] calendarRounds);
+
+    /**
+     * Find the first Long Count date represented by each Calendar Round date at or after a start date.
+     *
+     * @param calendarRounds The integer representations of the Calendar Round dates.
+     * @param starts The integer representations of the minimum Long Count dates, inclusive and non-negative.
+     * @param occurrences Output of the integer representations of the first occurrences.
+     */
+    public void firstOccurrences(int[] calendarRounds, int[] starts, int[] occurrences);
+
+    /**
+     * Find the last Long Count date represented by each Calendar Round date at or before an anchor date.
+     *
+     * @param calendarRounds The integer representations of the Calendar Round dates.
+     * @param anchors The integer representations of the maximum Long Count dates, inclusive and non-negative.
+     * @param occurrences Output of the integer representations of the last occurrences, or -1 where a date does not
+     *            occur after 0.0.0.0.0.
+     */
+    public void lastOccurrences(int[] calendarRounds, int[] anchors, int[] occurrences);
+
+    /**
+     * Find the Long Count date represented by each Calendar Round date that is closest to an anchor date, the earlier
+     * of two equally close ones.
+     *
+     * @param calendarRounds The integer representations of the Calendar Round dates.
+     * @param anchors The integer representations of the Long Count dates to measure from, non-negative.
+     * @param occurrences Output of the integer representations of the nearest occurrences.
+     */
+    public void nearestOccurrences(int[] calendarRounds, int[] anchors, int[] occurrences);
+}
@@ -4,14 +4,17 @@
 package icd3;
 
 /**
- * A date representation that repeats in a regular modular cycle
+ * A date representation that repeats in a regular modular cycle.
+ *
+ * Subclasses are immutable and keep their state in final fields, so instances may be shared between threads without
+ * synchronization, even when published through a data race.
  */
 public abstract class CyclicDate<T extends CyclicDate<T>> implements MayanDate<T>
 {
     /**
      * The integer representation of this date
      */
-    private int m_value;
+    private final int m_value;
 
     /**
      * Instantiates a new cyclic date.
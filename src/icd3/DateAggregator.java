@@ -0,0 +1,331 @@
+/**
+ *
+ */
+package icd3;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Counts how many of a set of Long Count dates fall on each value of one or more calendar components, such as each
+ * Tzolkin day or each combination of k'atun and Haab month.
+ *
+ * Dates are read as integer representations and counted into primitive arrays. Large inputs are split into one stripe
+ * per processor, each counted in parallel into its own partial counts, which are summed once every stripe is done.
+ */
+public class DateAggregator
+{
+    private final Component[] m_components;
+
+    /**
+     * The number of counters needed, the product of the components' cardinalities
+     */
+    private final int m_size;
+
+    /**
+     * Instantiates an aggregator that groups by the specified components.
+     *
+     * @param components The components to group by, at least one. Each combination of their values gets a count.
+     */
+    public DateAggregator(Component... components)
+    {
+        if (components.length == 0)
+        {
+            throw new IllegalArgumentException("At least one component is needed.");
+        }
+
+        long size = 1;
+        for (Component component : components)
+        {
+            if (null == component)
+            {
+                throw new NullPointerException("Components must not be null.");
+            }
+            size *= component.cardinality();
+            if (size > s_maxSize)
+            {
+                throw new IllegalArgumentException("Too many combinations of " + Arrays.toString(components) + ".");
+            }
+        }
+
+        m_components = components.clone();
+        m_size = (int) size;
+    }
+
+    /**
+     * Count dates by their integer representations.
+     *
+     * @param values The integer representations of Long Count dates. Negatives are interpreted as zero.
+     * @return The counts.
+     */
+    public Histogram aggregate(int[] values)
+    {
+        // One stripe per processor, unless the input is too small to be worth splitting that far
+        return aggregate(values, (int) Math.min(Runtime.getRuntime().availableProcessors(), (values.length
+            + s_minStripe - 1L) / s_minStripe));
+    }
+
+    /**
+     * Count dates by their integer representations in a specified number of stripes.
+     */
+    Histogram aggregate(int[] values, int stripes)
+    {
+        long[] counts = new long[m_size];
+
+        // Each stripe counts its share of the values into its own partial counts, so the parallel phase shares nothing
+        if (stripes <= 1)
+        {
+            int[] partial = new int[m_size];
+            count(values, 0, values.length, partial);
+            add(partial, counts);
+            return new Histogram(m_components, counts);
+        }
+
+        int[][] partials = new int[stripes][];
+        IntStream.range(0, stripes).parallel().forEach(stripe -> {
+            partials[stripe] = new int[m_size];
+            long from = (long) values.length * stripe / stripes;
+            long to = (long) values.length * (stripe + 1) / stripes;
+            count(values, (int) from, (int) to, partials[stripe]);
+        });
+
+        for (int[] partial : partials)
+        {
+            add(partial, counts);
+        }
+        return new Histogram(m_components, counts);
+    }
+
+    /**
+     * Count dates from any source.
+     *
+     * @param dates The dates.
+     * @return The counts.
+     */
+    public Histogram aggregate(Iterable<LongCountDate> dates)
+    {
+        // Lists that already hold integer representations are counted without materializing their dates
+        if (dates instanceof LongCountDateList)
+        {
+            return aggregate(((LongCountDateList) dates).toIntArray());
+        }
+        if (dates instanceof LongCountSequence)
+        {
+            return aggregate(((LongCountSequence) dates).toIntArray());
+        }
+
+        long[] counts = new long[m_size];
+        for (LongCountDate date : dates)
+        {
+            int value = date.toInt();
+            ++counts[index(value, LongCountDate.calendarRoundValue(value))];
+        }
+        return new Histogram(m_components, counts);
+    }
+
+    private void count(int[] values, int from, int to, int[] counts)
+    {
+        for (int i = from; i < to; ++i)
+        {
+            int value = Math.max(values[i], 0);
+            ++counts[index(value, LongCountDate.calendarRoundValue(value))];
+        }
+    }
+
+    /**
+     * @return The number of counters an aggregation uses.
+     */
+    int size()
+    {
+        return m_size;
+    }
+
+    /**
+     * Wrap counts indexed as by index(int) in a Histogram.
+     */
+    Histogram histogram(long[] counts)
+    {
+        return new Histogram(m_components, counts);
+    }
+
+    /**
+     * Find the counter for a date by its integer representation, interpreting negatives as zero.
+     */
+    int index(int value)
+    {
+        value = Math.max(value, 0);
+        return index(value, LongCountDate.calendarRoundValue(value));
+    }
+
+    /**
+     * Find the counter for a date, treating the components' values as the digits of a mixed-radix number.
+     */
+    private int index(int value, int calendarRound)
+    {
+        int index = 0;
+        for (Component component : m_components)
+        {
+            index = index * component.cardinality() + component.key(value, calendarRound);
+        }
+        return index;
+    }
+
+    private static void add(int[] partial, long[] counts)
+    {
+        for (int i = 0; i < partial.length; ++i)
+        {
+            counts[i] += partial[i];
+        }
+    }
+
+    /**
+     * The calendar components that dates can be grouped by. Each has zero-based keys below its cardinality: numerals
+     * are keyed by numeral - 1, named days and months by ordinal, and places of the Long Count by their value.
+     */
+    public enum Component
+    {
+        TZOLKIN_NUMERAL(13),
+        TZOLKIN_DAY(20),
+        TZOLKIN(260),
+        HAAB_NUMERAL(20),
+        HAAB_MONTH(19),
+        HAAB(365),
+        CALENDAR_ROUND(18980),
+        KIN(20),
+        WINAL(18),
+        TUN(20),
+        KATUN(20),
+        BAKTUN(Integer.MAX_VALUE / LongCountDate.Period.BAKTUN.days() + 1);
+
+        private final int m_cardinality;
+
+        private Component(int cardinality)
+        {
+            m_cardinality = cardinality;
+        }
+
+        /**
+         * @return The number of distinct keys of this component.
+         */
+        public int cardinality()
+        {
+            return m_cardinality;
+        }
+
+        /**
+         * Give the key of this component for a date.
+         *
+         * @param value The non-negative integer representation of a Long Count date.
+         * @param calendarRound The integer representation of the Calendar Round date falling on it.
+         * @return The key.
+         */
+        int key(int value, int calendarRound)
+        {
+            switch (this)
+            {
+                case TZOLKIN_NUMERAL:
+                    return calendarRound % 13;
+                case TZOLKIN_DAY:
+                    return calendarRound % 20;
+                case TZOLKIN:
+                    return calendarRound % 260;
+                case HAAB_NUMERAL:
+                    return CalendarRoundDate.haab(calendarRound) % 20;
+                case HAAB_MONTH:
+                    return CalendarRoundDate.haab(calendarRound) / 20;
+                case HAAB:
+                    return CalendarRoundDate.haab(calendarRound);
+                case CALENDAR_ROUND:
+                    return calendarRound;
+                case KIN:
+                    return value % 20;
+                case WINAL:
+                    return value / LongCountDate.Period.WINAL.days() % 18;
+                case TUN:
+                    return value / LongCountDate.Period.TUN.days() % 20;
+                case KATUN:
+                    return value / LongCountDate.Period.KATUN.days() % 20;
+                default:
+                    return value / LongCountDate.Period.BAKTUN.days();
+            }
+        }
+    }
+
+    /**
+     * The counts produced by an aggregation, one for each combination of the keys of its components.
+     */
+    public static final class Histogram
+    {
+        private final Component[] m_components;
+
+        private final long[] m_counts;
+
+        Histogram(Component[] components, long[] counts)
+        {
+            m_components = components;
+            m_counts = counts;
+        }
+
+        /**
+         * Get the count for a combination of keys.
+         *
+         * @param keys One key for each component, in the order the components were given.
+         * @return The number of dates with that combination.
+         */
+        public long getCount(int... keys)
+        {
+            if (keys.length != m_components.length)
+            {
+                throw new IllegalArgumentException("Expected " + m_components.length + " keys.");
+            }
+
+            int index = 0;
+            for (int i = 0; i < keys.length; ++i)
+            {
+                if (keys[i] < 0 || keys[i] >= m_components[i].cardinality())
+                {
+                    throw new IndexOutOfBoundsException("Key " + keys[i] + " of " + m_components[i]);
+                }
+                index = index * m_components[i].cardinality() + keys[i];
+            }
+            return m_counts[index];
+        }
+
+        /**
+         * @return The total number of dates counted.
+         */
+        public long getTotal()
+        {
+            long total = 0;
+            for (long count : m_counts)
+            {
+                total += count;
+            }
+            return total;
+        }
+
+        /**
+         * @return The components grouped by.
+         */
+        public Component[] getComponents()
+        {
+            return m_components.clone();
+        }
+
+        /**
+         * Copy out every count, with the key of the last component varying fastest.
+         *
+         * @return The counts.
+         */
+        public long[] toArray()
+        {
+            return m_counts.clone();
+        }
+    }
+
+    // The fewest dates worth counting in a parallel stripe of their own
+    private static final int s_minStripe = 1 << 16;
+
+    // The most counters one aggregation may use, bounding the memory of the partial counts
+    private static final int s_maxSize = 1 << 24;
+}
@@ -0,0 +1,445 @@
+/**
+ *
+ */
+package icd3;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Joins two columns of Long Count dates, finding every pair of a date from the left and a date from the right that
+ * fall on the same Calendar Round date, or within some number of days of each other.
+ *
+ * Dates are given by their integer representations, and matches are streamed out as pairs of their indices, packed
+ * into a long by pair and read back by leftIndex and rightIndex. The work is split into partitions that are joined in
+ * parallel when the stream is, so pairs come out in no particular order across partitions. Pairs are generated as the
+ * stream is read, so however many matches there are, a join holds no more than the sorted or bucketed columns.
+ */
+public class DateJoin
+{
+    private final int[] m_left;
+
+    private final int[] m_right;
+
+    /**
+     * Instantiates a join of two columns. The columns are read when a join is streamed, so they should not be changed
+     * while it is.
+     *
+     * @param left The integer representations of the left dates. Negatives are interpreted as zero.
+     * @param right The integer representations of the right dates. Negatives are interpreted as zero.
+     */
+    public DateJoin(int[] left, int[] right)
+    {
+        if (null == left || null == right)
+        {
+            throw new NullPointerException("Columns must not be null.");
+        }
+
+        m_left = left;
+        m_right = right;
+    }
+
+    /**
+     * Pack the indices of a matched pair.
+     *
+     * @param leftIndex The index in the left column.
+     * @param rightIndex The index in the right column.
+     * @return The packed pair.
+     */
+    public static long pair(int leftIndex, int rightIndex)
+    {
+        return (long) leftIndex << Integer.SIZE | (rightIndex & 0xFFFFFFFFL);
+    }
+
+    /**
+     * @param pair A packed pair.
+     * @return The index in the left column.
+     */
+    public static int leftIndex(long pair)
+    {
+        return (int) (pair >>> Integer.SIZE);
+    }
+
+    /**
+     * @param pair A packed pair.
+     * @return The index in the right column.
+     */
+    public static int rightIndex(long pair)
+    {
+        return (int) pair;
+    }
+
+    /**
+     * Join the dates that fall on the same Calendar Round date.
+     *
+     * @return The matched pairs.
+     */
+    public LongStream calendarRoundJoin()
+    {
+        return calendarRoundJoin(defaultPartitions());
+    }
+
+    /**
+     * Join the dates that fall on the same Calendar Round date, split into a specified number of partitions.
+     */
+    LongStream calendarRoundJoin(int partitions)
+    {
+        // The Calendar Round residue is a perfect hash, so bucketing both sides by it builds the hash tables outright
+        Buckets left = new Buckets(m_left);
+        Buckets right = new Buckets(m_right);
+
+        // Each partition joins a contiguous run of residues
+        int cycle = new CalendarRoundDate(0).cycle();
+        return IntStream.range(0, partitions).parallel().asLongStream().flatMap(partition -> {
+            int from = (int) (cycle * partition / partitions);
+            int to = (int) (cycle * (partition + 1) / partitions);
+            return StreamSupport.longStream(new BucketPairs(left, right, from, to), false);
+        });
+    }
+
+    /**
+     * Join the dates that are within a number of days of each other.
+     *
+     * @param tolerance The greatest number of days between matched dates, 0 to match only the same date.
+     * @return The matched pairs.
+     */
+    public LongStream bandJoin(int tolerance)
+    {
+        return bandJoin(tolerance, defaultPartitions());
+    }
+
+    /**
+     * Join the dates that are within a number of days of each other, split into a specified number of partitions.
+     */
+    LongStream bandJoin(int tolerance, int partitions)
+    {
+        if (tolerance < 0)
+        {
+            throw new IllegalArgumentException("Tolerance must not be negative.");
+        }
+
+        long[] left = sort(m_left);
+        long[] right = sort(m_right);
+
+        // Each partition merges a contiguous run of the sorted left dates against the window of right dates around them
+        return IntStream.range(0, partitions).parallel().asLongStream().flatMap(partition -> {
+            int from = (int) (left.length * partition / partitions);
+            int to = (int) (left.length * (partition + 1) / partitions);
+            return StreamSupport.longStream(new BandPairs(left, right, from, to, tolerance), false);
+        });
+    }
+
+    /**
+     * Sort the dates of a column with their indices, packed so that they sort by date, then by index.
+     */
+    private static long[] sort(int[] column)
+    {
+        long[] sorted = new long[column.length];
+        for (int i = 0; i < column.length; ++i)
+        {
+            sorted[i] = (long) Math.max(column[i], 0) << Integer.SIZE | i;
+        }
+        Arrays.parallelSort(sorted);
+        return sorted;
+    }
+
+    private static int value(long sorted)
+    {
+        return (int) (sorted >>> Integer.SIZE);
+    }
+
+    private static int index(long sorted)
+    {
+        return (int) sorted;
+    }
+
+    /**
+     * Find the first position in a sorted column whose date is not below a key.
+     */
+    private static int lowerBound(long[] sorted, long key)
+    {
+        int from = 0;
+        int to = sorted.length;
+        while (from < to)
+        {
+            int middle = (from + to) >>> 1;
+            if (value(sorted[middle]) < key)
+            {
+                from = middle + 1;
+            }
+            else
+            {
+                to = middle;
+            }
+        }
+        return from;
+    }
+
+    private static int defaultPartitions()
+    {
+        return Runtime.getRuntime().availableProcessors() * s_partitionsPerProcessor;
+    }
+
+    /**
+     * The indices of a column grouped by the Calendar Round date falling on each, in ascending order within each group
+     */
+    private static final class Buckets
+    {
+        /**
+         * Start of each Calendar Round bucket in m_indices, with one extra entry marking the end
+         */
+        private final int[] m_offsets;
+
+        private final int[] m_indices;
+
+        Buckets(int[] column)
+        {
+            int cycle = new CalendarRoundDate(0).cycle();
+            int[] residues = new int[column.length];
+            m_offsets = new int[cycle + 1];
+            for (int i = 0; i < column.length; ++i)
+            {
+                residues[i] = LongCountDate.calendarRoundValue(Math.max(column[i], 0));
+                ++m_offsets[residues[i] + 1];
+            }
+            for (int residue = 0; residue < cycle; ++residue)
+            {
+                m_offsets[residue + 1] += m_offsets[residue];
+            }
+
+            m_indices = new int[column.length];
+            int[] next = Arrays.copyOf(m_offsets, cycle);
+            for (int i = 0; i < column.length; ++i)
+            {
+                m_indices[next[residues[i]]++] = i;
+            }
+        }
+
+        int size(int residue)
+        {
+            return m_offsets[residue + 1] - m_offsets[residue];
+        }
+    }
+
+    /**
+     * The pairs of a run of Calendar Round buckets: every left date in each bucket with every right date in it,
+     * generated one at a time
+     */
+    private static final class BucketPairs implements Spliterator.OfLong
+    {
+        private final Buckets m_left;
+
+        private final Buckets m_right;
+
+        private final int m_to;
+
+        private int m_residue;
+
+        /**
+         * Position of the current left date in m_left, and the end of its bucket
+         */
+        private int m_i;
+
+        private int m_leftEnd;
+
+        /**
+         * Position of the next right date in m_right, and the start and end of its bucket
+         */
+        private int m_j;
+
+        private int m_rightStart;
+
+        private int m_rightEnd;
+
+        BucketPairs(Buckets left, Buckets right, int from, int to)
+        {
+            m_left = left;
+            m_right = right;
+            m_to = to;
+            m_residue = from - 1;
+        }
+
+        /*
+         * (non-Javadoc)
+         *
+         * @see java.util.Spliterator.OfLong#tryAdvance(java.util.function.LongConsumer)
+         */
+        @Override
+        public boolean tryAdvance(LongConsumer action)
+        {
+            while (m_j == m_rightEnd)
+            {
+                if (m_i + 1 < m_leftEnd)
+                {
+                    // Pair the next left date in the bucket with the right dates from the start
+                    ++m_i;
+                    m_j = m_rightStart;
+                }
+                else if (m_residue + 1 < m_to)
+                {
+                    ++m_residue;
+                    m_i = m_left.m_offsets[m_residue];
+                    m_leftEnd = m_left.m_offsets[m_residue + 1];
+                    m_rightStart = m_right.m_offsets[m_residue];
+                    m_rightEnd = m_right.m_offsets[m_residue + 1];
+
+                    // A bucket with no left dates has no pairs, however many right dates it has
+                    m_j = m_i < m_leftEnd ? m_rightStart : m_rightEnd;
+                }
+                else
+                {
+                    return false;
+                }
+            }
+
+            action.accept(pair(m_left.m_indices[m_i], m_right.m_indices[m_j++]));
+            return true;
+        }
+
+        /*
+         * (non-Javadoc)
+         *
+         * @see java.util.Spliterator.OfLong#trySplit()
+         */
+        @Override
+        public Spliterator.OfLong trySplit()
+        {
+            // Partitions are already split by residue
+            return null;
+        }
+
+        /*
+         * (non-Javadoc)
+         *
+         * @see java.util.Spliterator#estimateSize()
+         */
+        @Override
+        public long estimateSize()
+        {
+            return Long.MAX_VALUE;
+        }
+
+        /*
+         * (non-Javadoc)
+         *
+         * @see java.util.Spliterator#characteristics()
+         */
+        @Override
+        public int characteristics()
+        {
+            return ORDERED | NONNULL;
+        }
+    }
+
+    /**
+     * The pairs of a run of sorted left dates: each with the window of sorted right dates within the tolerance of it,
+     * generated one at a time
+     */
+    private static final class BandPairs implements Spliterator.OfLong
+    {
+        private final long[] m_left;
+
+        private final long[] m_right;
+
+        private final int m_to;
+
+        private final int m_tolerance;
+
+        /**
+         * Position of the current left date, and its value
+         */
+        private int m_i;
+
+        private long m_value;
+
+        /**
+         * Start of the current window, which only moves forward as the left dates increase
+         */
+        private int m_start;
+
+        /**
+         * Position of the next right date in the current window
+         */
+        private int m_j;
+
+        BandPairs(long[] left, long[] right, int from, int to, int tolerance)
+        {
+            m_left = left;
+            m_right = right;
+            m_to = to;
+            m_tolerance = tolerance;
+            m_i = from - 1;
+            m_start = from < to ? lowerBound(right, value(left[from]) - (long) tolerance) : 0;
+            m_j = right.length;
+        }
+
+        /*
+         * (non-Javadoc)
+         *
+         * @see java.util.Spliterator.OfLong#tryAdvance(java.util.function.LongConsumer)
+         */
+        @Override
+        public boolean tryAdvance(LongConsumer action)
+        {
+            while (m_j == m_right.length || value(m_right[m_j]) > m_value + m_tolerance)
+            {
+                if (m_i + 1 >= m_to)
+                {
+                    return false;
+                }
+
+                ++m_i;
+                m_value = value(m_left[m_i]);
+                while (m_start < m_right.length && value(m_right[m_start]) < m_value - m_tolerance)
+                {
+                    ++m_start;
+                }
+                m_j = m_start;
+            }
+
+            action.accept(pair(index(m_left[m_i]), index(m_right[m_j++])));
+            return true;
+        }
+
+        /*
+         * (non-Javadoc)
+         *
+         * @see java.util.Spliterator.OfLong#trySplit()
+         */
+        @Override
+        public Spliterator.OfLong trySplit()
+        {
+            // Partitions are already split by left date
+            return null;
+        }
+
+        /*
+         * (non-Javadoc)
+         *
+         * @see java.util.Spliterator#estimateSize()
+         */
+        @Override
+        public long estimateSize()
+        {
+            return Long.MAX_VALUE;
+        }
+
+        /*
+         * (non-Javadoc)
+         *
+         * @see java.util.Spliterator#characteristics()
+         */
+        @Override
+        public int characteristics()
+        {
+            return ORDERED | NONNULL;
+        }
+    }
+
+    // Extra partitions even out the work when matches cluster on a few dates
+    private static final int s_partitionsPerProcessor = 4;
+}
@@ -0,0 +1,390 @@
+/**
+ *
+ */
+package icd3;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * A growable list of Mayan dates stored by their integer representations in a primitive array.
+ *
+ * Elements are only materialized as date objects when they are read through the List interface, so sorting, merging
+ * and searching run directly on the primitive storage.
+ */
+public abstract class DateList<T extends MayanDate<T>> extends AbstractList<T> implements RandomAccess
+{
+    /**
+     * Integer representations of the dates in this list
+     */
+    private int[] m_values;
+
+    /**
+     * Number of dates in this list
+     */
+    private int m_size;
+
+    /**
+     * Instantiates an empty list with the specified initial capacity.
+     *
+     * @param capacity The number of dates that can be held before the storage must grow.
+     */
+    public DateList(int capacity)
+    {
+        if (capacity < 0)
+        {
+            throw new IllegalArgumentException("Capacity must not be negative.");
+        }
+        m_values = new int[capacity];
+    }
+
+    /**
+     * Bring an integer representation into the range that this list stores.
+     *
+     * @param value The integer representation.
+     * @return The normalized integer representation.
+     */
+    protected abstract int normalize(int value);
+
+    /**
+     * Materialize a date from its integer representation.
+     *
+     * @param value The normalized integer representation.
+     * @return The date object.
+     */
+    protected abstract T fromInt(int value);
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.util.AbstractList#get(int)
+     */
+    @Override
+    public T get(int index)
+    {
+        return fromInt(getInt(index));
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.util.AbstractList#set(int, java.lang.Object)
+     */
+    @Override
+    public T set(int index, T date)
+    {
+        return fromInt(setInt(index, date.toInt()));
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.util.AbstractList#add(int, java.lang.Object)
+     */
+    @Override
+    public void add(int index, T date)
+    {
+        if (index < 0 || index > m_size)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + m_size);
+        }
+
+        ensureCapacity(m_size + 1);
+
+        // Shift the tail up by one to make room
+        System.arraycopy(m_values, index, m_values, index + 1, m_size - index);
+        m_values[index] = normalize(date.toInt());
+        ++m_size;
+        ++modCount;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.util.AbstractList#remove(int)
+     */
+    @Override
+    public T remove(int index)
+    {
+        int value = getInt(index);
+
+        // Shift the tail down by one to close the gap
+        System.arraycopy(m_values, index + 1, m_values, index, m_size - index - 1);
+        --m_size;
+        ++modCount;
+
+        return fromInt(value);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.util.AbstractList#clear()
+     */
+    @Override
+    public void clear()
+    {
+        m_size = 0;
+        ++modCount;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.util.AbstractCollection#size()
+     */
+    @Override
+    public int size()
+    {
+        return m_size;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.util.AbstractCollection#toString()
+     */
+    @Override
+    public String toString()
+    {
+        FormatEvent event = CalendarTables.beginFormat();
+        String text = super.toString();
+        CalendarTables.endFormat(event, "format", size());
+        return text;
+    }
+
+    /**
+     * Get the integer representation of the date at the specified position.
+     *
+     * @param index The position in this list.
+     * @return The integer representation.
+     */
+    public int getInt(int index)
+    {
+        checkIndex(index);
+        return m_values[index];
+    }
+
+    /**
+     * Replace the date at the specified position by its integer representation.
+     *
+     * @param index The position in this list.
+     * @param value The integer representation of the new date.
+     * @return The integer representation previously at that position.
+     */
+    public int setInt(int index, int value)
+    {
+        checkIndex(index);
+        int previous = m_values[index];
+        m_values[index] = normalize(value);
+        return previous;
+    }
+
+    /**
+     * Append a date by its integer representation.
+     *
+     * @param value The integer representation.
+     */
+    public void addInt(int value)
+    {
+        ensureCapacity(m_size + 1);
+        m_values[m_size++] = normalize(value);
+        ++modCount;
+    }
+
+    /**
+     * Copy the integer representations out of this list.
+     *
+     * @return A new array holding the integer representations in list order.
+     */
+    public int[] toIntArray()
+    {
+        return Arrays.copyOf(m_values, m_size);
+    }
+
+    /**
+     * Sort this list in ascending order of integer representation with an LSD radix sort.
+     */
+    public void sort()
+    {
+        if (m_size < 2)
+        {
+            return;
+        }
+
+        // All values are normalized to be non-negative, so the maximum bounds the number of significant bytes
+        int max = 0;
+        for (int i = 0; i < m_size; ++i)
+        {
+            max = Math.max(max, m_values[i]);
+        }
+
+        int[] source = m_values;
+        int[] target = new int[m_values.length];
+        int[] counts = new int[s_radix + 1];
+
+        for (int shift = 0; shift < Integer.SIZE && (max >>> shift) != 0; shift += s_radixBits)
+        {
+            Arrays.fill(counts, 0);
+
+            // Count the occurrences of each digit, offset by one so the prefix sum gives the start positions
+            for (int i = 0; i < m_size; ++i)
+            {
+                ++counts[((source[i] >>> shift) & s_radixMask) + 1];
+            }
+            for (int digit = 0; digit < s_radix; ++digit)
+            {
+                counts[digit + 1] += counts[digit];
+            }
+
+            // Scatter stably into the target
+            for (int i = 0; i < m_size; ++i)
+            {
+                target[counts[(source[i] >>> shift) & s_radixMask]++] = source[i];
+            }
+
+            int[] swap = source;
+            source = target;
+            target = swap;
+        }
+
+        m_values = source;
+        ++modCount;
+    }
+
+    /**
+     * Search this sorted list for a date by its integer representation.
+     *
+     * @param value The integer representation to search for.
+     * @return The index of the date if it is contained, otherwise (-(insertion point) - 1).
+     */
+    public int binarySearch(int value)
+    {
+        return Arrays.binarySearch(m_values, 0, m_size, normalize(value));
+    }
+
+    /**
+     * Search this sorted list for a date.
+     *
+     * @param date The date to search for.
+     * @return The index of the date if it is contained, otherwise (-(insertion point) - 1).
+     * @throws NullPointerException If date is null.
+     */
+    public int binarySearch(T date)
+    {
+        if (null == date)
+        {
+            throw new NullPointerException("Cannot search for a null MayanDate");
+        }
+        return binarySearch(date.toInt());
+    }
+
+    /**
+     * Merge several sorted lists into this list, appending their contents in ascending order.
+     *
+     * @param sources The sorted lists to merge.
+     */
+    protected void mergeFrom(DateList<?>[] sources)
+    {
+        int total = 0;
+        for (DateList<?> source : sources)
+        {
+            total += source.m_size;
+        }
+        ensureCapacity(m_size + total);
+
+        // A binary min-heap of source indices, ordered by the value at each source's cursor
+        int[] heap = new int[sources.length];
+        int[] cursors = new int[sources.length];
+        int heapSize = 0;
+
+        for (int i = 0; i < sources.length; ++i)
+        {
+            if (sources[i].m_size > 0)
+            {
+                heap[heapSize++] = i;
+            }
+        }
+        for (int i = heapSize / 2 - 1; i >= 0; --i)
+        {
+            siftDown(heap, heapSize, i, sources, cursors);
+        }
+
+        while (heapSize > 0)
+        {
+            int top = heap[0];
+            m_values[m_size++] = sources[top].m_values[cursors[top]++];
+
+            // Retire the source once it is exhausted, otherwise restore the heap with its next value
+            if (cursors[top] == sources[top].m_size)
+            {
+                heap[0] = heap[--heapSize];
+            }
+            if (heapSize > 0)
+            {
+                siftDown(heap, heapSize, 0, sources, cursors);
+            }
+        }
+
+        ++modCount;
+    }
+
+    private static void siftDown(int[] heap, int heapSize, int position, DateList<?>[] sources, int[] cursors)
+    {
+        int entry = heap[position];
+        int value = head(entry, sources, cursors);
+
+        while (2 * position + 1 < heapSize)
+        {
+            int child = 2 * position + 1;
+            if (child + 1 < heapSize && head(heap[child + 1], sources, cursors) < head(heap[child], sources, cursors))
+            {
+                ++child;
+            }
+            if (value <= head(heap[child], sources, cursors))
+            {
+                break;
+            }
+            heap[position] = heap[child];
+            position = child;
+        }
+
+        heap[position] = entry;
+    }
+
+    private static int head(int source, DateList<?>[] sources, int[] cursors)
+    {
+        return sources[source].m_values[cursors[source]];
+    }
+
+    private void ensureCapacity(int capacity)
+    {
+        if (capacity > m_values.length)
+        {
+            m_values = Arrays.copyOf(m_values, Math.max(capacity, m_values.length * 2));
+        }
+    }
+
+    private void checkIndex(int index)
+    {
+        if (index < 0 || index >= m_size)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + m_size);
+        }
+    }
+
+    /**
+     * The number of bits sorted in each pass of the radix sort
+     */
+    private static final int s_radixBits = 8;
+
+    private static final int s_radix = 1 << s_radixBits;
+
+    private static final int s_radixMask = s_radix - 1;
+
+    /**
+     * The default initial capacity of a list
+     */
+    protected static final int s_defaultCapacity = 16;
+}
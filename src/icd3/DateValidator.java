@@ -0,0 +1,353 @@
+/**
+ *
+ */
+package icd3;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Strict construction of dates from their components, rejecting any that are out of range instead of clamping or
+ * reducing them as the constructors do, and Calendar Round dates whose Tzolkin and Haab dates never fall on the same
+ * day.
+ *
+ * Batches of components held in primitive arrays are validated and combined in one pass, with what is wrong with each
+ * record packed into a bitmask of Violation values, so that dirty records can be told apart from good ones without
+ * slowing the conversion of the good ones.
+ */
+public final class DateValidator
+{
+    private DateValidator()
+    {
+    }
+
+    /**
+     * Instantiate a Tzolkin date, rejecting components out of range.
+     *
+     * @param numeral The 1-based numeral, from 1 to 13.
+     * @param day The day name.
+     * @return The date.
+     * @throws IllegalArgumentException If the numeral is out of range.
+     */
+    public static TzolkinDate tzolkin(int numeral, TzolkinDate.Day day)
+    {
+        if (null == day)
+        {
+            throw new NullPointerException("Day must not be null.");
+        }
+
+        check(checkTzolkin(numeral, day.ordinal()));
+        return new TzolkinDate(numeral, day);
+    }
+
+    /**
+     * Instantiate a Haab date, rejecting components out of range.
+     *
+     * @param numeral The 1-based numeral, from 1 to the length of the month.
+     * @param month The month.
+     * @return The date.
+     * @throws IllegalArgumentException If the numeral is out of range.
+     */
+    public static HaabDate haab(int numeral, HaabDate.Month month)
+    {
+        if (null == month)
+        {
+            throw new NullPointerException("Month must not be null.");
+        }
+
+        check(checkHaab(numeral, month.ordinal()));
+        return new HaabDate(numeral, month);
+    }
+
+    /**
+     * Instantiate a Calendar Round date, rejecting components out of range and Tzolkin and Haab dates that never fall
+     * on the same day.
+     *
+     * @param tzolkinNumeral The 1-based Tzolkin numeral, from 1 to 13.
+     * @param tzolkinDay The Tzolkin day name.
+     * @param haabNumeral The 1-based Haab numeral, from 1 to the length of the month.
+     * @param haabMonth The Haab month.
+     * @return The date.
+     * @throws IllegalArgumentException If a numeral is out of range, or the dates never coincide.
+     */
+    public static CalendarRoundDate calendarRound(int tzolkinNumeral, TzolkinDate.Day tzolkinDay, int haabNumeral,
+                                                  HaabDate.Month haabMonth)
+    {
+        if (null == tzolkinDay || null == haabMonth)
+        {
+            throw new NullPointerException("Day and month must not be null.");
+        }
+
+        check(checkTzolkin(tzolkinNumeral, tzolkinDay.ordinal()) | checkHaab(haabNumeral, haabMonth.ordinal()));
+        TzolkinDate tzolkin = new TzolkinDate(tzolkinNumeral, tzolkinDay);
+        HaabDate haab = new HaabDate(haabNumeral, haabMonth);
+        check(checkCalendarRound(tzolkin.toInt(), haab.toInt()));
+        return new CalendarRoundDate(tzolkin, haab);
+    }
+
+    /**
+     * Instantiate a Long Count date, rejecting place values out of range.
+     *
+     * @param placeValues The place values, least significant first as for LongCountDate(Integer...): kin and tun from
+     *            0 to 19, winal from 0 to 17, katun from 0 to 19, and baktun from 0 up to as many as fit the integer
+     *            representation. Missing places are zero; nulls are not permitted.
+     * @return The date.
+     * @throws IllegalArgumentException If there are more place values than periods, or any is out of range or null.
+     */
+    public static LongCountDate longCount(Integer... placeValues)
+    {
+        LongCountDate.Period[] periods = LongCountDate.Period.values();
+        if (placeValues.length > periods.length)
+        {
+            throw new IllegalArgumentException("A Long Count date has at most " + periods.length + " place values.");
+        }
+
+        int mask = 0;
+        long value = 0;
+        for (int i = 0; i < placeValues.length; ++i)
+        {
+            if (null == placeValues[i])
+            {
+                mask |= Violation.valueOf(periods[i].name()).mask();
+            }
+            else
+            {
+                mask |= checkPlace(i, placeValues[i]);
+                value += (long) placeValues[i] * periods[i].days();
+            }
+        }
+        if (0 == mask && value > Integer.MAX_VALUE)
+        {
+            mask |= Violation.OVERFLOW.mask();
+        }
+
+        check(mask);
+        return new LongCountDate((int) value);
+    }
+
+    /**
+     * Validate and combine calendar components into the integer representations of Calendar Round dates, as
+     * ConversionOperations#composeCalendarRound does for valid components. Records whose components are in range are
+     * also checked for Tzolkin and Haab dates that never fall on the same day.
+     *
+     * @param tzolkinNumerals The 1-based Tzolkin numerals.
+     * @param tzolkinDays The Tzolkin day ordinals.
+     * @param haabNumerals The 1-based Haab numerals.
+     * @param haabMonths The Haab month ordinals.
+     * @param calendarRounds Output of the integer representations, or -1 for invalid records.
+     * @param violations Output of the masks of Violation values for each record, 0 for valid ones.
+     * @return The number of invalid records.
+     */
+    public static int composeCalendarRound(int[] tzolkinNumerals, int[] tzolkinDays, int[] haabNumerals,
+                                           int[] haabMonths, int[] calendarRounds, int[] violations)
+    {
+        DecompositionKernel.checkLengths(tzolkinNumerals, tzolkinDays, haabNumerals, haabMonths, calendarRounds,
+            violations);
+
+        int invalid = 0;
+
+        for (int i = 0; i < tzolkinNumerals.length; ++i)
+        {
+            int mask = checkTzolkin(tzolkinNumerals[i], tzolkinDays[i]) | checkHaab(haabNumerals[i], haabMonths[i]);
+            int tzolkin = 0;
+            int haab = 0;
+            if (0 == mask)
+            {
+                tzolkin = TzolkinDate.value(tzolkinNumerals[i], tzolkinDays[i]);
+                haab = haabMonths[i] * s_daysPerMonth + haabNumerals[i] - 1;
+                mask = checkCalendarRound(tzolkin, haab);
+            }
+
+            violations[i] = mask;
+            if (mask != 0)
+            {
+                calendarRounds[i] = -1;
+                ++invalid;
+            }
+            else
+            {
+                calendarRounds[i] = CalendarRoundDate.value(tzolkin, haab);
+            }
+        }
+        return invalid;
+    }
+
+    /**
+     * Validate and combine Long Count place values into the integer representations of Long Count dates.
+     *
+     * @param places One input array per Period, indexed by ordinal, as ConversionOperations#decomposeLongCount
+     *            writes them.
+     * @param values Output of the integer representations, or -1 for invalid records.
+     * @param violations Output of the masks of Violation values for each record, 0 for valid ones.
+     * @return The number of invalid records.
+     */
+    public static int composeLongCount(int[][] places, int[] values, int[] violations)
+    {
+        LongCountDate.Period[] periods = LongCountDate.Period.values();
+        if (places.length != periods.length)
+        {
+            throw new IllegalArgumentException("There must be one array of place values per period.");
+        }
+        DecompositionKernel.checkLengths(places[0], values, violations);
+        DecompositionKernel.checkLengths(values, places);
+
+        int invalid = 0;
+        for (int i = 0; i < values.length; ++i)
+        {
+            int mask = 0;
+            long value = 0;
+            for (int p = 0; p < periods.length; ++p)
+            {
+                mask |= checkPlace(p, places[p][i]);
+                value += (long) places[p][i] * periods[p].days();
+            }
+            if (value > Integer.MAX_VALUE && 0 == mask)
+            {
+                mask = Violation.OVERFLOW.mask();
+            }
+
+            violations[i] = mask;
+            if (mask != 0)
+            {
+                values[i] = -1;
+                ++invalid;
+            }
+            else
+            {
+                values[i] = (int) value;
+            }
+        }
+        return invalid;
+    }
+
+    /**
+     * Unpack a mask of violations.
+     *
+     * @param mask The mask, as written by composeCalendarRound or composeLongCount.
+     * @return The violations in it.
+     */
+    public static Set<Violation> violations(int mask)
+    {
+        Set<Violation> violations = EnumSet.noneOf(Violation.class);
+        for (Violation violation : Violation.values())
+        {
+            if ((mask & violation.mask()) != 0)
+            {
+                violations.add(violation);
+            }
+        }
+        return violations;
+    }
+
+    private static void check(int mask)
+    {
+        if (mask != 0)
+        {
+            throw new IllegalArgumentException("Date components are invalid: " + violations(mask) + ".");
+        }
+    }
+
+    private static int checkTzolkin(int numeral, int day)
+    {
+        // Unsigned comparisons reject negatives along with values that are too large
+        return (Integer.compareUnsigned(numeral - 1, s_tzolkinCoefficients) >= 0 ? s_tzolkinNumeralMask : 0)
+            | (Integer.compareUnsigned(day, s_tzolkinDays) >= 0 ? s_tzolkinDayMask : 0);
+    }
+
+    private static int checkHaab(int numeral, int month)
+    {
+        if (Integer.compareUnsigned(month, s_haabMonths) >= 0)
+        {
+            // Without a month, the numeral can only be checked against the longest one
+            return s_haabMonthMask
+                | (Integer.compareUnsigned(numeral - 1, s_daysPerMonth) >= 0 ? s_haabNumeralMask : 0);
+        }
+        return Integer.compareUnsigned(numeral - 1, s_monthDays[month]) >= 0 ? s_haabNumeralMask : 0;
+    }
+
+    private static int checkCalendarRound(int tzolkin, int haab)
+    {
+        // The two dates fall on the same day only if they agree modulo the common divisor of their cycles, once the
+        // Haab date is read back by the offset that Calendar Round dates decode it with
+        return (tzolkin - haab + s_haabOffset) % s_commonDivisor != 0 ? s_calendarRoundMismatchMask : 0;
+    }
+
+    private static int checkPlace(int period, int placeValue)
+    {
+        return Integer.compareUnsigned(placeValue, s_placeLimits[period]) >= 0 ? s_placeMasks[period] : 0;
+    }
+
+    /**
+     * The ways in which date components can be out of range, each a bit in a mask.
+     */
+    public enum Violation
+    {
+        TZOLKIN_NUMERAL,
+        TZOLKIN_DAY,
+        HAAB_NUMERAL,
+        HAAB_MONTH,
+        KIN,
+        WINAL,
+        TUN,
+        KATUN,
+        BAKTUN,
+        OVERFLOW,
+        CALENDAR_ROUND_MISMATCH;
+
+        /**
+         * @return The bit for this violation in a mask.
+         */
+        public int mask()
+        {
+            return 1 << ordinal();
+        }
+    }
+
+    // The greatest common divisor of the Tzolkin and Haab cycles, 5
+    private static final int s_commonDivisor = TzolkinDate.tzolkinCycle() * HaabDate.haabCycle()
+        / new CalendarRoundDate(0).cycle();
+
+    private static final int s_haabOffset = CalendarRoundDate.haab(0);
+
+    private static final int s_tzolkinCoefficients = 13;
+
+    private static final int s_tzolkinDays = TzolkinDate.Day.values().length;
+
+    private static final int s_haabMonths = HaabDate.Month.values().length;
+
+    private static final int s_daysPerMonth = 20;
+
+    private static final int[] s_monthDays = new int[s_haabMonths];
+
+    // The exclusive limit of each place value, and the violation for exceeding it, indexed by Period ordinal
+    private static final int[] s_placeLimits = new int[LongCountDate.Period.values().length];
+
+    private static final int[] s_placeMasks = new int[LongCountDate.Period.values().length];
+
+    private static final int s_tzolkinNumeralMask = Violation.TZOLKIN_NUMERAL.mask();
+
+    private static final int s_tzolkinDayMask = Violation.TZOLKIN_DAY.mask();
+
+    private static final int s_haabNumeralMask = Violation.HAAB_NUMERAL.mask();
+
+    private static final int s_haabMonthMask = Violation.HAAB_MONTH.mask();
+
+    private static final int s_calendarRoundMismatchMask = Violation.CALENDAR_ROUND_MISMATCH.mask();
+
+    static
+    {
+        for (HaabDate.Month month : HaabDate.Month.values())
+        {
+            s_monthDays[month.ordinal()] = month.days();
+        }
+
+        LongCountDate.Period[] periods = LongCountDate.Period.values();
+        for (int i = 0; i < periods.length; ++i)
+        {
+            // Each place holds what fits below the next period; the last holds whatever fits an integer
+            s_placeLimits[i] = i + 1 < periods.length ? periods[i + 1].days() / periods[i].days() : Integer.MAX_VALUE
+                / periods[i].days() + 1;
+            s_placeMasks[i] = Violation.valueOf(periods[i].name()).mask();
+        }
+    }
+}
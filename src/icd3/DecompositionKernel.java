@@ -0,0 +1,233 @@
+/**
+ *
+ */
+package icd3;
+
+/**
+ * A batch kernel that splits arrays of Long Count day numbers into their calendar components without instantiating
+ * date objects.
+ *
+ * Results agree with LongCountDate and CalendarRoundDate for every input, including the clamping of negatives to zero.
+ */
+public abstract class DecompositionKernel implements ConversionOperations
+{
+    /*
+     * (non-Javadoc)
+     *
+     * @see icd3.ConversionOperations#composeCalendarRound(int[], int[], int[], int[], int[])
+     */
+    @Override
+    public void composeCalendarRound(int[] tzolkinNumerals, int[] tzolkinDays, int[] haabNumerals, int[] haabMonths,
+                                     int[] calendarRounds)
+    {
+        checkLengths(tzolkinNumerals, tzolkinDays, haabNumerals, haabMonths, calendarRounds);
+        BulkConversionEvent event = beginConversion();
+
+        for (int i = 0; i < tzolkinNumerals.length; ++i)
+        {
+            int tzolkin = TzolkinDate.value(tzolkinNumerals[i], tzolkinDays[i]);
+            int haab = haabMonths[i] * s_daysPerMonth + haabNumerals[i] - 1;
+            calendarRounds[i] = CalendarRoundDate.value(tzolkin, haab);
+        }
+
+        endConversion(event, "composeCalendarRound", tzolkinNumerals.length);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see icd3.ConversionOperations#firstOccurrences(int[], int[], int[])
+     */
+    @Override
+    public void firstOccurrences(int[] calendarRounds, int[] starts, int[] occurrences)
+    {
+        checkLengths(calendarRounds, starts, occurrences);
+        BulkConversionEvent event = beginConversion();
+
+        for (int i = 0; i < calendarRounds.length; ++i)
+        {
+            occurrences[i] = LongCountDate.firstOccurrence(calendarRounds[i], starts[i]);
+        }
+
+        endConversion(event, "firstOccurrences", calendarRounds.length);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see icd3.ConversionOperations#lastOccurrences(int[], int[], int[])
+     */
+    @Override
+    public void lastOccurrences(int[] calendarRounds, int[] anchors, int[] occurrences)
+    {
+        checkLengths(calendarRounds, anchors, occurrences);
+        BulkConversionEvent event = beginConversion();
+
+        for (int i = 0; i < calendarRounds.length; ++i)
+        {
+            occurrences[i] = LongCountDate.lastOccurrence(calendarRounds[i], anchors[i]);
+        }
+
+        endConversion(event, "lastOccurrences", calendarRounds.length);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see icd3.ConversionOperations#nearestOccurrences(int[], int[], int[])
+     */
+    @Override
+    public void nearestOccurrences(int[] calendarRounds, int[] anchors, int[] occurrences)
+    {
+        checkLengths(calendarRounds, anchors, occurrences);
+        BulkConversionEvent event = beginConversion();
+
+        for (int i = 0; i < calendarRounds.length; ++i)
+        {
+            occurrences[i] = LongCountDate.nearestOccurrence(calendarRounds[i], anchors[i]);
+        }
+
+        endConversion(event, "nearestOccurrences", calendarRounds.length);
+    }
+
+    /**
+     * Start timing a batch operation for the Flight Recorder.
+     *
+     * @return The event to pass to endConversion, or null if the Flight Recorder has not been started.
+     */
+    static BulkConversionEvent beginConversion()
+    {
+        if (!EventGate.isRecording())
+        {
+            return null;
+        }
+
+        BulkConversionEvent event = new BulkConversionEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Finish timing a batch operation, recording it if it is slow or large enough.
+     *
+     * @param event The event from beginConversion.
+     * @param operation The name of the operation.
+     * @param count The number of inputs.
+     */
+    void endConversion(BulkConversionEvent event, String operation, int count)
+    {
+        if (null == event)
+        {
+            return;
+        }
+
+        event.size = count;
+        if (event.shouldCommit())
+        {
+            event.operation = operation;
+            event.implementation = getClass().getSimpleName();
+            event.commit();
+        }
+    }
+
+    /**
+     * Give the kernel that does not depend on any optional module.
+     *
+     * @return The scalar kernel.
+     */
+    public static DecompositionKernel scalar()
+    {
+        return ScalarDecompositionKernel.INSTANCE;
+    }
+
+    /**
+     * Give the fastest kernel available on this JVM.
+     *
+     * @return The vectorized kernel if jdk.incubator.vector is present, otherwise the scalar kernel.
+     */
+    public static DecompositionKernel getInstance()
+    {
+        return Holder.s_instance;
+    }
+
+    /**
+     * Determine whether the vectorized kernel can be used on this JVM.
+     *
+     * @return True if getInstance returns the vectorized kernel.
+     */
+    public static boolean isVectorized()
+    {
+        return Holder.s_instance != ScalarDecompositionKernel.INSTANCE;
+    }
+
+    /**
+     * Check that the output arrays can hold the results for the input.
+     *
+     * @param values The input array.
+     * @param outputs The output arrays.
+     */
+    protected static void checkLengths(int[] values, int[]... outputs)
+    {
+        if (null == values)
+        {
+            throw new NullPointerException("Values must not be null.");
+        }
+        for (int[] output : outputs)
+        {
+            if (output.length < values.length)
+            {
+                throw new IllegalArgumentException("Output arrays must be at least as long as the input.");
+            }
+        }
+    }
+
+    /**
+     * Defers the choice of kernel, and the loading of the vector module, until first use.
+     */
+    private static class Holder
+    {
+        private static final DecompositionKernel s_instance = load();
+
+        private static DecompositionKernel load()
+        {
+            // Only touch the vectorized class when the module is resolved, or it will fail to link
+            if (ModuleLayer.boot().findModule(s_vectorModule).isPresent())
+            {
+                try
+                {
+                    return (DecompositionKernel) Class.forName("icd3.VectorDecompositionKernel")
+                            .getDeclaredConstructor().newInstance();
+                }
+                catch (ReflectiveOperationException | LinkageError e)
+                {
+                    // Fall through to the scalar kernel
+                }
+            }
+            return ScalarDecompositionKernel.INSTANCE;
+        }
+    }
+
+    private static final String s_vectorModule = "jdk.incubator.vector";
+
+    /**
+     * The integer representation of the Calendar Round date on Long Count day zero
+     */
+    protected static final int s_zeroDay = LongCountDate.calendarRoundValue(0);
+
+    protected static final int s_calendarRoundCycle = new CalendarRoundDate(0).cycle();
+
+    protected static final int s_tzolkinCoefficients = 13;
+
+    protected static final int s_tzolkinDays = TzolkinDate.Day.values().length;
+
+    protected static final int s_tzolkinCycle = TzolkinDate.tzolkinCycle();
+
+    protected static final int s_haabCycle = HaabDate.haabCycle();
+
+    /**
+     * The number of days that the Haab component of a Calendar Round date is read ahead of its Tzolkin component
+     */
+    protected static final int s_haabOffset = CalendarRoundDate.haab(0);
+
+    protected static final int s_daysPerMonth = HaabDate.Month.POHP.days();
+}
@@ -0,0 +1,322 @@
+/**
+ *
+ */
+package icd3;
+
+import java.util.Arrays;
+
+/**
+ * An immutable chain of distance numbers counted from an anchor date, as inscriptions count on from an Initial Series,
+ * compiled into a single signed offset.
+ *
+ * Each step may name the Calendar Round date it arrives at. Since the Calendar Round date reached after a step depends
+ * only on the anchor's Calendar Round date and the offset so far, every such check reduces, through the cyclic math, to
+ * one Calendar Round date the anchor must fall on. So applying a chain to an anchor is one add, and checking it is one
+ * comparison, however long the chain.
+ */
+public class DistanceChain
+{
+    private final DistanceNumber[] m_steps;
+
+    private final CalendarRoundDate[] m_calendarRounds;
+
+    /**
+     * The signed offset from the anchor after each step
+     */
+    private final int[] m_offsets;
+
+    /**
+     * The integer representation of the Calendar Round date every anchor must fall on, or -1 if any will do
+     */
+    private final int m_calendarRound;
+
+    /**
+     * The least and greatest anchors from which no step counts beyond the Long Count
+     */
+    private final int m_minimumAnchor;
+
+    private final int m_maximumAnchor;
+
+    /**
+     * Compiles a chain of distance numbers.
+     *
+     * @param steps The distance numbers, in the order they are counted.
+     * @param calendarRounds The Calendar Round date each step arrives at, or null where a step names none. May be
+     *            shorter than steps.
+     * @throws IllegalArgumentException If a Calendar Round date pairs Tzolkin and Haab dates that never fall on the same
+     *             day, the Calendar Round dates cannot all be reached from any one anchor, or the chain is too long to
+     *             count in the Long Count.
+     */
+    public DistanceChain(DistanceNumber[] steps, CalendarRoundDate[] calendarRounds)
+    {
+        if (calendarRounds.length > steps.length)
+        {
+            throw new IllegalArgumentException("There are more Calendar Round dates than steps.");
+        }
+
+        int cycle = new CalendarRoundDate(0).cycle();
+
+        m_steps = steps.clone();
+        m_calendarRounds = Arrays.copyOf(calendarRounds, steps.length);
+        m_offsets = new int[steps.length];
+
+        long offset = 0;
+        long lowest = 0;
+        long highest = 0;
+        int calendarRound = -1;
+        for (int i = 0; i < steps.length; ++i)
+        {
+            if (null == m_steps[i])
+            {
+                throw new NullPointerException("Steps must not be null.");
+            }
+
+            offset += m_steps[i].getDays();
+            if (Math.abs(offset) > Integer.MAX_VALUE)
+            {
+                throw new IllegalArgumentException("Step " + (i + 1) + " counts beyond the Long Count.");
+            }
+            m_offsets[i] = (int) offset;
+            lowest = Math.min(lowest, offset);
+            highest = Math.max(highest, offset);
+
+            // Arriving at this Calendar Round date after this offset needs the anchor to fall on exactly one date
+            if (m_calendarRounds[i] != null)
+            {
+                // A pair that never falls on the same day would be counted as whichever date its value decodes to
+                check(m_calendarRounds[i]);
+                int required = (int) Math.floorMod(m_calendarRounds[i].toInt() - offset, (long) cycle);
+                if (calendarRound >= 0 && calendarRound != required)
+                {
+                    throw new IllegalArgumentException("Step " + (i + 1) + " cannot arrive at "
+                        + m_calendarRounds[i] + " from the same anchor as the steps before it.");
+                }
+                calendarRound = required;
+            }
+        }
+
+        m_calendarRound = calendarRound;
+        m_minimumAnchor = (int) -lowest;
+        m_maximumAnchor = (int) (Integer.MAX_VALUE - highest);
+    }
+
+    /**
+     * Parse and compile a chain.
+     *
+     * @param text The steps, separated by commas. Each step is a distance number, as DistanceNumber.parse reads it,
+     *            optionally followed by the Calendar Round date it arrives at, as CalendarRoundDate.toString writes it:
+     *            "+2.5.13 4.AJAW 8.KUMKU, -1.0.4".
+     * @return The compiled chain.
+     * @throws IllegalArgumentException If the text is not a chain, or its Calendar Round dates cannot all be reached.
+     */
+    public static DistanceChain parse(String text)
+    {
+        if (null == text)
+        {
+            throw new NullPointerException("Text must not be null.");
+        }
+
+        FormatEvent event = CalendarTables.beginFormat();
+
+        String[] written = text.split(",");
+        DistanceNumber[] steps = new DistanceNumber[written.length];
+        CalendarRoundDate[] calendarRounds = new CalendarRoundDate[written.length];
+        for (int i = 0; i < written.length; ++i)
+        {
+            String[] tokens = written[i].trim().split("\\s+");
+            if (tokens.length != 1 && tokens.length != 3)
+            {
+                throw new IllegalArgumentException("\"" + written[i].trim() + "\" is not a step.");
+            }
+
+            steps[i] = DistanceNumber.parse(tokens[0]);
+            if (tokens.length == 3)
+            {
+                TzolkinDate tzolkin = parseTzolkin(tokens[1]);
+                HaabDate haab = parseHaab(tokens[2]);
+                calendarRounds[i] = DateValidator.calendarRound(tzolkin.getNumeral(), tzolkin.getDay(), haab
+                    .getNumeral(), haab.getMonth());
+            }
+        }
+
+        DistanceChain chain = new DistanceChain(steps, calendarRounds);
+        CalendarTables.endFormat(event, "parse", steps.length);
+        return chain;
+    }
+
+    /**
+     * @return The number of steps.
+     */
+    public int getStepCount()
+    {
+        return m_steps.length;
+    }
+
+    /**
+     * @param step The index of a step.
+     * @return The distance number counted at that step.
+     */
+    public DistanceNumber getStep(int step)
+    {
+        return m_steps[step];
+    }
+
+    /**
+     * @param step The index of a step.
+     * @return The Calendar Round date that step arrives at, or null if it names none.
+     */
+    public CalendarRoundDate getCalendarRound(int step)
+    {
+        return m_calendarRounds[step];
+    }
+
+    /**
+     * @param step The index of a step.
+     * @return The signed number of days from the anchor to the date that step arrives at.
+     */
+    public int getOffset(int step)
+    {
+        return m_offsets[step];
+    }
+
+    /**
+     * @return The signed number of days from the anchor to the end of the chain.
+     */
+    public int getOffset()
+    {
+        return m_offsets.length == 0 ? 0 : m_offsets[m_offsets.length - 1];
+    }
+
+    /**
+     * @return The Calendar Round date every anchor of this chain must fall on, or null if the chain names none.
+     */
+    public CalendarRoundDate getAnchorCalendarRound()
+    {
+        return m_calendarRound < 0 ? null : new CalendarRoundDate(m_calendarRound);
+    }
+
+    /**
+     * Tell whether the chain can be counted from an anchor: that every step arrives at the Calendar Round date it
+     * names, and none counts beyond the Long Count.
+     *
+     * @param anchor The integer representation of the anchor.
+     * @return Whether the anchor fits the chain.
+     */
+    public boolean matches(int anchor)
+    {
+        return anchor >= m_minimumAnchor && anchor <= m_maximumAnchor
+            && (m_calendarRound < 0 || LongCountDate.calendarRoundValue(anchor) == m_calendarRound);
+    }
+
+    /**
+     * Count the chain from an anchor, checking that it fits.
+     *
+     * @param anchor The anchor date.
+     * @return The date at the end of the chain.
+     * @throws IllegalArgumentException If the anchor does not fit the chain.
+     */
+    public LongCountDate apply(LongCountDate anchor)
+    {
+        if (null == anchor)
+        {
+            throw new NullPointerException("Anchor must not be null.");
+        }
+        if (!matches(anchor.toInt()))
+        {
+            throw new IllegalArgumentException(anchor + " is not an anchor of " + this + ".");
+        }
+        return new LongCountDate(anchor.toInt() + getOffset());
+    }
+
+    /**
+     * Count the chain from many anchors at once, without checking them; matches tells which anchors fit.
+     *
+     * @param anchors The integer representations of the anchors.
+     * @param results Filled with the integer representations of the dates at the end of the chain. At least as long as
+     *            anchors.
+     */
+    public void apply(int[] anchors, int[] results)
+    {
+        if (results.length < anchors.length)
+        {
+            throw new IllegalArgumentException("Results must be at least as long as anchors.");
+        }
+
+        int offset = getOffset();
+        for (int i = 0; i < anchors.length; ++i)
+        {
+            results[i] = anchors[i] + offset;
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder();
+
+        for (int i = 0; i < m_steps.length; ++i)
+        {
+            if (i > 0)
+            {
+                builder.append(", ");
+            }
+            builder.append(m_steps[i]);
+            if (m_calendarRounds[i] != null)
+            {
+                builder.append(' ').append(m_calendarRounds[i]);
+            }
+        }
+
+        return builder.toString();
+    }
+
+    private static void check(CalendarRoundDate calendarRound)
+    {
+        TzolkinDate tzolkin = calendarRound.getTzolkinDate();
+        HaabDate haab = calendarRound.getHaabDate();
+        DateValidator.calendarRound(tzolkin.getNumeral(), tzolkin.getDay(), haab.getNumeral(), haab.getMonth());
+    }
+
+    private static TzolkinDate parseTzolkin(String text)
+    {
+        int dot = text.indexOf('.');
+        try
+        {
+            int numeral = Integer.parseInt(text.substring(0, Math.max(dot, 0)));
+            TzolkinDate.Day day = TzolkinDate.Day.valueOf(text.substring(dot + 1).toUpperCase());
+            if (numeral >= 1 && numeral <= 13)
+            {
+                return new TzolkinDate(numeral, day);
+            }
+        }
+        catch (IllegalArgumentException e)
+        {
+            // Reported below, along with out of range numerals
+        }
+        throw new IllegalArgumentException("\"" + text + "\" is not a Tzolkin date.");
+    }
+
+    private static HaabDate parseHaab(String text)
+    {
+        int dot = text.indexOf('.');
+        try
+        {
+            int numeral = Integer.parseInt(text.substring(0, Math.max(dot, 0)));
+            HaabDate.Month month = HaabDate.Month.valueOf(text.substring(dot + 1).toUpperCase());
+            if (numeral >= 1 && numeral <= month.days())
+            {
+                return new HaabDate(numeral, month);
+            }
+        }
+        catch (IllegalArgumentException e)
+        {
+            // Reported below, along with out of range numerals
+        }
+        throw new IllegalArgumentException("\"" + text + "\" is not a Haab date.");
+    }
+}
@@ -0,0 +1,187 @@
+/**
+ *
+ */
+package icd3;
+
+/**
+ * An immutable signed count of days written in the places of the Long Count, as used in inscriptions to count from one
+ * date to the next. It is written with a sign, then its places separated by dots from the most significant down to the
+ * kins, as in "+2.5.13" or "-1.0.4".
+ */
+public class DistanceNumber
+{
+    /**
+     * The signed number of days
+     */
+    private final int m_days;
+
+    /**
+     * The place values of the magnitude, starting with the kins, as many as were written
+     */
+    private final int[] m_places;
+
+    /**
+     * Instantiates a DistanceNumber from a number of days, written with as few places as needed.
+     *
+     * @param days The signed number of days.
+     */
+    public DistanceNumber(int days)
+    {
+        if (days == Integer.MIN_VALUE)
+        {
+            throw new IllegalArgumentException("Distance is too large.");
+        }
+
+        LongCountDate magnitude = new LongCountDate(Math.abs(days));
+        int length = 1;
+        for (LongCountDate.Period period : LongCountDate.Period.values())
+        {
+            if (magnitude.getPeriod(period) != 0)
+            {
+                length = period.ordinal() + 1;
+            }
+        }
+
+        m_days = days;
+        m_places = new int[length];
+        for (int i = 0; i < length; ++i)
+        {
+            m_places[i] = magnitude.getPeriod(LongCountDate.Period.values()[i]);
+        }
+    }
+
+    private DistanceNumber(int days, int[] places)
+    {
+        m_days = days;
+        m_places = places;
+    }
+
+    /**
+     * Parse a distance number.
+     *
+     * @param text The sign, then one to five places separated by dots, most significant first. Every place but the
+     *            bak'tuns must be below its radix.
+     * @return The distance number.
+     * @throws IllegalArgumentException If the text is not a distance number.
+     */
+    public static DistanceNumber parse(String text)
+    {
+        if (null == text)
+        {
+            throw new NullPointerException("Text must not be null.");
+        }
+
+        String trimmed = text.trim();
+        if (trimmed.isEmpty() || (trimmed.charAt(0) != '+' && trimmed.charAt(0) != '-'))
+        {
+            throw new IllegalArgumentException("\"" + text + "\" does not start with a sign.");
+        }
+
+        String[] written = trimmed.substring(1).split("\\.", -1);
+        LongCountDate.Period[] periods = LongCountDate.Period.values();
+        if (written.length > periods.length)
+        {
+            throw new IllegalArgumentException("\"" + text + "\" has more places than the Long Count.");
+        }
+
+        // The last place written is the kins
+        int[] places = new int[written.length];
+        long days = 0;
+        for (int i = 0; i < written.length; ++i)
+        {
+            int place = written.length - 1 - i;
+            if (written[i].isEmpty() || !written[i].chars().allMatch(c -> c >= '0' && c <= '9'))
+            {
+                throw new IllegalArgumentException("\"" + text + "\" has an invalid place.");
+            }
+            try
+            {
+                places[place] = Integer.parseInt(written[i]);
+            }
+            catch (NumberFormatException e)
+            {
+                throw new IllegalArgumentException("\"" + text + "\" has an invalid place.", e);
+            }
+            if (place < s_radices.length && places[place] >= s_radices[place])
+            {
+                throw new IllegalArgumentException("\"" + text + "\" has " + places[place] + " in the "
+                    + periods[place] + " place.");
+            }
+            days += (long) places[place] * periods[place].days();
+        }
+        if (days > Integer.MAX_VALUE)
+        {
+            throw new IllegalArgumentException("\"" + text + "\" is too large.");
+        }
+
+        return new DistanceNumber(trimmed.charAt(0) == '-' ? (int) -days : (int) days, places);
+    }
+
+    /**
+     * @return The signed number of days.
+     */
+    public int getDays()
+    {
+        return m_days;
+    }
+
+    /**
+     * Get the place value of a specified period in the magnitude.
+     *
+     * @return The number in the specified place, 0 if it was not written.
+     */
+    public int getPeriod(LongCountDate.Period period)
+    {
+        return period.ordinal() < m_places.length ? m_places[period.ordinal()] : 0;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder().append(m_days < 0 ? '-' : '+');
+
+        for (int i = m_places.length - 1; i >= 0; --i)
+        {
+            builder.append(m_places[i]);
+
+            // Do not place a dot after the last digit
+            if (i > 0)
+            {
+                builder.append('.');
+            }
+        }
+
+        return builder.toString();
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object o)
+    {
+        // Distances are equal when they count the same days, however many places were written
+        return o != null && this.getClass().equals(o.getClass()) && m_days == ((DistanceNumber) o).m_days;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode()
+    {
+        return m_days;
+    }
+
+    // The radix of each place below the bak'tuns, whose count is unbounded
+    private static final int[] s_radices = { 20, 18, 20, 20 };
+}
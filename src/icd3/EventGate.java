@@ -0,0 +1,28 @@
+/**
+ *
+ */
+package icd3;
+
+import jdk.jfr.FlightRecorder;
+
+/**
+ * Decides whether the Flight Recorder events of this library are worth creating at all.
+ *
+ * Loading the first event class starts the Java side of the Flight Recorder, which costs far more than a cold
+ * conversion. So events are only created once the recorder has been started, by a recording or by
+ * -XX:StartFlightRecording; before that, the event classes are never loaded.
+ */
+final class EventGate
+{
+    private EventGate()
+    {
+    }
+
+    /**
+     * @return Whether the Flight Recorder has been started in this JVM.
+     */
+    static boolean isRecording()
+    {
+        return FlightRecorder.isInitialized();
+    }
+}
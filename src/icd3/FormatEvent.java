@@ -0,0 +1,18 @@
+/**
+ *
+ */
+package icd3;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Records the parsing or formatting of a batch of dates. The size is the number of dates.
+ */
+@Name("icd3.Format")
+@Label("Parse or Format Batch")
+final class FormatEvent extends CalendarEvent
+{
+    @Label("Operation")
+    String operation;
+}
@@ -8,19 +8,24 @@ package icd3;
  */
 public class HaabDate extends CyclicDate<HaabDate>
 {
-    private int m_day;
+    private final int m_day;
 
-    private Month m_month;
+    private final Month m_month;
 
+    /**
+     * Instantiates a HaabDate object from its calendar representation. Numerals outside the month are clamped to its
+     * first or last day; DateValidator#haab rejects them instead.
+     *
+     * @param numeral 1-based day numeral
+     * @param month Month name
+     */
     public HaabDate(int numeral, Month month)
     {
-        super(month.daysBefore() + numeral - 1);
-
-        // Numeral is 1-based, store 0-based
-        int day = numeral - 1;
+        // The value must come from the clamped day, so that it agrees with the stored components
+        super(month.daysBefore() + clampDay(numeral, month));
 
         m_month = month;
-        m_day = Math.min(Math.max(0, day), month.days() - 1);
+        m_day = toInt() - month.daysBefore();
     }
 
     /**
@@ -67,7 +72,8 @@ public class HaabDate extends CyclicDate<HaabDate>
     @Override
     public String toString()
     {
-        return String.format("%d.%s", getNumeral(), getMonth());
+        // Look up by the stored components, which are always within the month
+        return CalendarTables.haabName(m_month.daysBefore() + m_day);
     }
 
     /**
@@ -116,7 +122,7 @@ public class HaabDate extends CyclicDate<HaabDate>
         KUMKU,
         WAYEB(5);
 
-        private int m_days;
+        private final int m_days;
 
         private Month()
         {
@@ -154,6 +160,14 @@ public class HaabDate extends CyclicDate<HaabDate>
      */
     private static final int s_daysPerYear = 365;
 
+    /**
+     * Convert a 1-based numeral to a 0-based day within a month, clamping it to the month.
+     */
+    private static int clampDay(int numeral, Month month)
+    {
+        return Math.min(Math.max(0, numeral - 1), month.days() - 1);
+    }
+
     public static int haabCycle()
     {
         // The cycle is the year length
@@ -0,0 +1,113 @@
+/**
+ *
+ */
+package icd3;
+
+/**
+ * An immutable Haab year: the 365 days from one 1 Pohp to the next, named by its year bearer, the Tzolkin date on which
+ * it begins.
+ *
+ * HaabYearIndex finds years by arithmetic on the cycles rather than by scanning days.
+ */
+public final class HaabYear
+{
+    /**
+     * The integer representation of the year's 1 Pohp
+     */
+    private final int m_newYear;
+
+    /**
+     * Instantiates a year.
+     *
+     * @param newYear The integer representation of a Long Count date falling on 1 Pohp.
+     */
+    HaabYear(int newYear)
+    {
+        m_newYear = newYear;
+    }
+
+    /**
+     * @return The first day of the year, 1 Pohp.
+     */
+    public LongCountDate getNewYear()
+    {
+        return new LongCountDate(m_newYear);
+    }
+
+    /**
+     * @return The year bearer, the Tzolkin date of the first day of the year.
+     */
+    public TzolkinDate getBearer()
+    {
+        return new TzolkinDate(LongCountDate.calendarRoundValue(m_newYear) % TzolkinDate.tzolkinCycle());
+    }
+
+    /**
+     * @return Every day of the year, ending early if the year runs past the largest representable date.
+     */
+    public LongCountSequence getDays()
+    {
+        return run(m_newYear, HaabDate.haabCycle());
+    }
+
+    /**
+     * @return The five days of Wayeb that end the year, ending early if they run past the largest representable date.
+     */
+    public LongCountSequence getWayeb()
+    {
+        return run((long) m_newYear + HaabDate.Month.WAYEB.daysBefore(), HaabDate.Month.WAYEB.days());
+    }
+
+    /**
+     * @return The first day of the next year.
+     */
+    public LongCountDate getEnd()
+    {
+        return new LongCountDate(m_newYear + HaabDate.haabCycle());
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return new StringBuilder().append(getBearer()).append(' ').append(getNewYear()).toString();
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object o)
+    {
+        return o != null && this.getClass().equals(o.getClass()) && m_newYear == ((HaabYear) o).m_newYear;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode()
+    {
+        return m_newYear;
+    }
+
+    /**
+     * Give a run of consecutive days, cut short at the largest representable date.
+     */
+    private static LongCountSequence run(long first, int days)
+    {
+        if (first > Integer.MAX_VALUE)
+        {
+            return new LongCountSequence(0, 1, 0);
+        }
+        return new LongCountSequence((int) first, 1, (int) Math.min(days, Integer.MAX_VALUE - first + 1));
+    }
+}
@@ -0,0 +1,180 @@
+/**
+ *
+ */
+package icd3;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Finds Haab new years, their year bearers, the days of Wayeb and the starts of Calendar Rounds within ranges of the
+ * Long Count, by arithmetic on the 365, 260 and 18980 day cycles.
+ *
+ * Each of these falls on days in an arithmetic progression, so results are returned as LongCountSequence objects, or
+ * lists computed from them as they are read, and cost nothing per day of the range searched. Only years whose 1 Pohp
+ * falls on or after 0.0.0.0.0 are found.
+ */
+public final class HaabYearIndex
+{
+    private HaabYearIndex()
+    {
+    }
+
+    /**
+     * Find every Haab new year, 1 Pohp, within a range.
+     *
+     * @param start The minimum date, inclusive.
+     * @param end The maximum date, exclusive.
+     * @return The new years, in ascending order.
+     */
+    public static LongCountSequence newYears(LongCountDate start, LongCountDate end)
+    {
+        if (null == start || null == end)
+        {
+            throw new NullPointerException("Date parameters must not be null.");
+        }
+
+        return LongCountSequence.within(s_firstNewYear, HaabDate.haabCycle(), start.toInt(), end.toInt());
+    }
+
+    /**
+     * Find every Haab new year borne by a Tzolkin date within a range. Since the year bearers repeat every Calendar
+     * Round, these are 52 years apart.
+     *
+     * @param bearer The year bearer.
+     * @param start The minimum date, inclusive.
+     * @param end The maximum date, exclusive.
+     * @return The new years, in ascending order. Empty if the Tzolkin date never bears a year: in each Calendar Round,
+     *         only four of the twenty day names do.
+     */
+    public static LongCountSequence newYears(TzolkinDate bearer, LongCountDate start, LongCountDate end)
+    {
+        if (null == bearer || null == start || null == end)
+        {
+            throw new NullPointerException("Date parameters must not be null.");
+        }
+
+        // The bearer of each successive year moves on by 365 days in the Tzolkin cycle, so it returns after 52 years
+        int tzolkinCycle = bearer.cycle();
+        int haabCycle = HaabDate.haabCycle();
+        int firstBearer = LongCountDate.calendarRoundValue(s_firstNewYear) % tzolkinCycle;
+        for (int year = 0; year < s_yearsPerCalendarRound; ++year)
+        {
+            if ((firstBearer + year * haabCycle) % tzolkinCycle == bearer.toInt())
+            {
+                return LongCountSequence.within(s_firstNewYear + year * haabCycle, s_calendarRoundCycle,
+                    start.toInt(), end.toInt());
+            }
+        }
+        return new LongCountSequence(0, 1, 0);
+    }
+
+    /**
+     * Find every Haab year that begins within a range.
+     *
+     * @param start The minimum date, inclusive.
+     * @param end The maximum date, exclusive.
+     * @return The years, in ascending order, each created as it is read.
+     */
+    public static List<HaabYear> years(LongCountDate start, LongCountDate end)
+    {
+        return new Years(newYears(start, end));
+    }
+
+    /**
+     * Find every Haab year borne by a Tzolkin date that begins within a range.
+     *
+     * @param bearer The year bearer.
+     * @param start The minimum date, inclusive.
+     * @param end The maximum date, exclusive.
+     * @return The years, in ascending order, each created as it is read.
+     */
+    public static List<HaabYear> years(TzolkinDate bearer, LongCountDate start, LongCountDate end)
+    {
+        return new Years(newYears(bearer, start, end));
+    }
+
+    /**
+     * Find the first day of every Wayeb within a range. Each is followed by the other four days of Wayeb, which
+     * HaabYear#getWayeb gives together.
+     *
+     * @param start The minimum date, inclusive.
+     * @param end The maximum date, exclusive.
+     * @return The first days of Wayeb, in ascending order.
+     */
+    public static LongCountSequence wayebStarts(LongCountDate start, LongCountDate end)
+    {
+        if (null == start || null == end)
+        {
+            throw new NullPointerException("Date parameters must not be null.");
+        }
+
+        int haabCycle = HaabDate.haabCycle();
+        return LongCountSequence.within((s_firstNewYear + HaabDate.Month.WAYEB.daysBefore()) % haabCycle, haabCycle,
+            start.toInt(), end.toInt());
+    }
+
+    /**
+     * Find the first day of every Calendar Round within a range, counting the Calendar Rounds from 0.0.0.0.0: the days
+     * that fall on the same Calendar Round date as it does.
+     *
+     * @param start The minimum date, inclusive.
+     * @param end The maximum date, exclusive.
+     * @return The first days of the Calendar Rounds, in ascending order.
+     */
+    public static LongCountSequence calendarRoundStarts(LongCountDate start, LongCountDate end)
+    {
+        if (null == start || null == end)
+        {
+            throw new NullPointerException("Date parameters must not be null.");
+        }
+
+        return LongCountSequence.within(0, s_calendarRoundCycle, start.toInt(), end.toInt());
+    }
+
+    /**
+     * The years beginning on each day of a sequence of new years.
+     */
+    private static class Years extends AbstractList<HaabYear> implements RandomAccess
+    {
+        private final LongCountSequence m_newYears;
+
+        Years(LongCountSequence newYears)
+        {
+            m_newYears = newYears;
+        }
+
+        /*
+         * (non-Javadoc)
+         *
+         * @see java.util.AbstractList#get(int)
+         */
+        @Override
+        public HaabYear get(int index)
+        {
+            return new HaabYear(m_newYears.getInt(index));
+        }
+
+        /*
+         * (non-Javadoc)
+         *
+         * @see java.util.AbstractCollection#size()
+         */
+        @Override
+        public int size()
+        {
+            return m_newYears.size();
+        }
+    }
+
+    private static final int s_calendarRoundCycle = new CalendarRoundDate(0).cycle();
+
+    private static final int s_yearsPerCalendarRound = s_calendarRoundCycle / HaabDate.haabCycle();
+
+    /**
+     * The first day of the Long Count falling on 1 Pohp, measured from the Haab date of the zero day
+     */
+    private static final int s_firstNewYear = (HaabDate.haabCycle() - CalendarRoundDate.haab(LongCountDate
+        .calendarRoundValue(0))) % HaabDate.haabCycle();
+}
@@ -3,7 +3,6 @@
  */
 package icd3;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -14,20 +13,41 @@ public class LongCountDate implements MayanDate<LongCountDate>
     /**
      * Integer representation of this date
      */
-    private int m_value;
+    private final int m_value;
 
     /**
      * Place value-separated representation
      */
-    private int[] m_periods;
+    private final int[] m_periods;
 
     /**
      * Instantiates a LongCountDate object from its representation separated into place values starting with the single
-     * day unit. Negatives are not permitted and will be interpreted as zero.
+     * day unit. Negatives and nulls are not permitted and will be interpreted as zero; DateValidator#longCount rejects
+     * them instead.
      *
      * @param placeValues A list of place values from least significant to most significant.
      */
     public LongCountDate(Integer... placeValues)
+    {
+        // Let the integer constructor store the value and the place values in the right quantities
+        this(multiplyOut(placeValues));
+    }
+
+    /**
+     * Instantiates a LongCountDate object from its integer representation. Negatives are not permitted and will be
+     * interpreted as zero.
+     *
+     * @param value The integer representation.
+     */
+    public LongCountDate(int value)
+    {
+        // Clamp the value to be non-negative, before it is split into place values. Both fields are final, so an
+        // instance may be shared between threads without synchronization
+        m_value = value < 0 ? 0 : value;
+        m_periods = split(m_value);
+    }
+
+    private static int multiplyOut(Integer... placeValues)
     {
         int value = 0;
 
@@ -41,30 +61,14 @@ public class LongCountDate implements MayanDate<LongCountDate>
                 value += placeValues[i] * periods[i].days();
             }
         }
-
-        // Let initialize store the value and the place values in the right quantities
-        this.initialize(value);
+        return value;
     }
 
-    /**
-     * Instantiates a LongCountDate object from its integer representation. Negatives are not permitted and will be
-     * interpreted as zero.
-     *
-     * @param value The integer representation.
-     */
-    public LongCountDate(int value)
+    private static int[] split(int value)
     {
-        this.initialize(value);
-    }
-
-    private void initialize(int value)
-    {
-        // Clamp the value to be non-negative
-        m_value = value < 0 ? 0 : value;
-
         Period[] periods = Period.values();
 
-        m_periods = new int[periods.length];
+        int[] placeValues = new int[periods.length];
 
         for (int i = periods.length - 1; i >= 0; --i)
         {
@@ -74,8 +78,9 @@ public class LongCountDate implements MayanDate<LongCountDate>
             // Subtract the amount from the running total
             value -= placeValue * periods[i].days();
 
-            m_periods[i] = placeValue;
+            placeValues[i] = placeValue;
         }
+        return placeValues;
     }
 
     /*
@@ -138,7 +143,7 @@ public class LongCountDate implements MayanDate<LongCountDate>
         for (int i = m_periods.length - 1; i >= 0; --i)
         {
             // Append to the builder
-            builder.append(String.format("%d", m_periods[i]));
+            builder.append(m_periods[i]);
 
             // Do not place a dot after the last digit
             if (i > 0)
@@ -162,7 +167,7 @@ public class LongCountDate implements MayanDate<LongCountDate>
     }
 
     // The Calendar Round date corresponding to 0.0.0.0.0
-    private static CalendarRoundDate s_zeroDay = new CalendarRoundDate(new TzolkinDate(4, TzolkinDate.Day.AJAW),
+    private static final CalendarRoundDate s_zeroDay = new CalendarRoundDate(new TzolkinDate(4, TzolkinDate.Day.AJAW),
             new HaabDate(8, HaabDate.Month.KUMKU));
 
     /**
@@ -193,6 +198,102 @@ public class LongCountDate implements MayanDate<LongCountDate>
         return resultDate;
     }
 
+    /**
+     * Return the last Long Count date represented by a Calendar Round date before the specified date.
+     *
+     * @param calendarRound The Calendar Round expression of the desired date.
+     * @param anchor The maximum Long Count date, inclusive.
+     * @return The last occurrence of the date at or preceding the anchor, or null if it does not occur after
+     *         0.0.0.0.0.
+     */
+    public static LongCountDate calendarRoundToLongCountBefore(CalendarRoundDate calendarRound, LongCountDate anchor)
+    {
+        if (null == calendarRound || null == anchor)
+        {
+            throw new NullPointerException("Date parameters must not be null.");
+        }
+
+        int occurrence = lastOccurrence(calendarRound.toInt(), anchor.toInt());
+        return occurrence < 0 ? null : new LongCountDate(occurrence);
+    }
+
+    /**
+     * Return the Long Count date represented by a Calendar Round date that is closest to the specified date. Of two
+     * equally close occurrences, the earlier is returned.
+     *
+     * @param calendarRound The Calendar Round expression of the desired date.
+     * @param anchor The Long Count date to measure from.
+     * @return The nearest occurrence of the date.
+     */
+    public static LongCountDate calendarRoundToNearestLongCount(CalendarRoundDate calendarRound, LongCountDate anchor)
+    {
+        if (null == calendarRound || null == anchor)
+        {
+            throw new NullPointerException("Date parameters must not be null.");
+        }
+
+        return new LongCountDate(nearestOccurrence(calendarRound.toInt(), anchor.toInt()));
+    }
+
+    /**
+     * Return the Long Count dates represented by a Calendar Round date that are closest to the specified date, on
+     * either side of it. Of two equally close occurrences, the earlier is preferred.
+     *
+     * @param calendarRound The Calendar Round expression of the desired dates.
+     * @param anchor The Long Count date to measure from.
+     * @param count The number of occurrences to find.
+     * @return The nearest occurrences in ascending order. There are fewer than count only if the Long Count runs out
+     *         of representable dates.
+     */
+    public static LongCountSequence calendarRoundToNearestLongCounts(CalendarRoundDate calendarRound,
+                                                                     LongCountDate anchor,
+                                                                     int count)
+    {
+        if (null == calendarRound || null == anchor)
+        {
+            throw new NullPointerException("Date parameters must not be null.");
+        }
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Count must not be negative.");
+        }
+
+        long cycle = s_zeroDay.cycle();
+        long before = lastOccurrence(calendarRound.toInt(), anchor.toInt());
+        long after = before < 0 ? firstOccurrence(calendarRound.toInt(), anchor.toInt()) : before + cycle;
+
+        // The occurrences on either side are both progressions, so taking the nearer head of each in turn leaves a
+        // single contiguous run. Only its ends need tracking, starting from the empty run between before and after.
+        long first = after;
+        long last = after - cycle;
+        for (int i = 0; i < count; ++i)
+        {
+            long earlier = first - cycle;
+            long later = last + cycle;
+            boolean earlierAvailable = earlier >= 0;
+            boolean laterAvailable = later <= Integer.MAX_VALUE;
+
+            if (earlierAvailable && (!laterAvailable || anchor.toInt() - earlier <= later - anchor.toInt()))
+            {
+                first = earlier;
+            }
+            else if (laterAvailable)
+            {
+                last = later;
+            }
+            else
+            {
+                break;
+            }
+        }
+
+        if (last < first)
+        {
+            return new LongCountSequence(0, 1, 0);
+        }
+        return new LongCountSequence((int) first, (int) cycle, (int) ((last - first) / cycle + 1));
+    }
+
     /**
      * Return all Long Count dates represented by a Calendar Round date within a range of dates
      *
@@ -210,27 +311,123 @@ public class LongCountDate implements MayanDate<LongCountDate>
             throw new NullPointerException("Date parameters must not be null.");
         }
 
-        List<LongCountDate> dates = new ArrayList<LongCountDate>();
+        RangeQueryEvent event = null;
+        if (EventGate.isRecording())
+        {
+            event = new RangeQueryEvent();
+            event.begin();
+        }
+
+        LongCountDateList dates = new LongCountDateList();
 
         // Get the length of the Calendar Round
         int cycle = calendarRound.cycle();
 
         // Find the first occurrence at or after start
-        LongCountDate occurrence = calendarRoundToLongCount(calendarRound, start);
+        int occurrence = firstOccurrence(calendarRound.toInt(), start.toInt());
 
-        // Iterate, adding all Long Count Dates between start and end
-        while (end.minus(occurrence) > 0)
+        // Iterate, adding all Long Count Dates between start and end, without materializing them
+        while (end.toInt() - occurrence > 0)
         {
-            // No need to copy, dates are immutable
-            dates.add(occurrence);
+            dates.addInt(occurrence);
 
             // Cycle forward
-            occurrence = occurrence.plus(cycle);
+            occurrence += cycle;
+        }
+
+        if (event != null)
+        {
+            event.size = dates.size();
+            if (event.shouldCommit())
+            {
+                event.calendarRound = calendarRound.toInt();
+                event.start = start.toInt();
+                event.width = Math.max(0, end.toInt() - start.toInt());
+                event.commit();
+            }
         }
 
         return dates;
     }
 
+    /**
+     * Give the integer representation of the Calendar Round date falling on a Long Count date.
+     *
+     * @param value The integer representation of the Long Count date.
+     * @return The integer representation of the corresponding Calendar Round date.
+     */
+    public static int calendarRoundValue(int value)
+    {
+        int cycle = s_zeroDay.cycle();
+
+        // Reduce into the positive equivalence class (mod cycle) first, so that the sum cannot overflow
+        return ((value % cycle + cycle) % cycle + s_zeroDay.toInt()) % cycle;
+    }
+
+    /**
+     * Return the integer representation of the first Long Count date represented by a Calendar Round date after the
+     * specified date. This is the primitive counterpart of calendarRoundToLongCount.
+     *
+     * @param calendarRound The integer representation of the Calendar Round date.
+     * @param start The integer representation of the minimum Long Count date, inclusive.
+     * @return The integer representation of the first occurrence at or following the start.
+     */
+    public static int firstOccurrence(int calendarRound, int start)
+    {
+        int cycle = s_zeroDay.cycle();
+
+        // Find the difference between the given calendarRound date and the one on start
+        int daysSinceStart = ((calendarRound - calendarRoundValue(start)) % cycle + cycle) % cycle;
+
+        return start + daysSinceStart;
+    }
+
+    /**
+     * Return the integer representation of the last Long Count date represented by a Calendar Round date before the
+     * specified date. This is the primitive counterpart of calendarRoundToLongCountBefore.
+     *
+     * @param calendarRound The integer representation of the Calendar Round date.
+     * @param anchor The integer representation of the maximum Long Count date, inclusive.
+     * @return The integer representation of the last occurrence at or preceding the anchor, or -1 if it does not
+     *         occur after 0.0.0.0.0.
+     */
+    public static int lastOccurrence(int calendarRound, int anchor)
+    {
+        int cycle = s_zeroDay.cycle();
+
+        // Find the difference between the Calendar Round date on the anchor and the given one
+        int daysBeforeAnchor = ((calendarRoundValue(anchor) - calendarRound) % cycle + cycle) % cycle;
+
+        int occurrence = anchor - daysBeforeAnchor;
+        return occurrence < 0 ? -1 : occurrence;
+    }
+
+    /**
+     * Return the integer representation of the Long Count date represented by a Calendar Round date that is closest
+     * to the specified date. This is the primitive counterpart of calendarRoundToNearestLongCount.
+     *
+     * @param calendarRound The integer representation of the Calendar Round date.
+     * @param anchor The integer representation of the Long Count date to measure from.
+     * @return The integer representation of the nearest occurrence, the earlier of two equally close ones.
+     */
+    public static int nearestOccurrence(int calendarRound, int anchor)
+    {
+        int before = lastOccurrence(calendarRound, anchor);
+        if (before == anchor)
+        {
+            return before;
+        }
+
+        // The next occurrence is a cycle after the last, unless that would pass the largest representable date
+        long after = (before < 0 ? firstOccurrence(calendarRound, Math.max(anchor, 0)) : (long) before
+            + s_zeroDay.cycle());
+        if (before < 0 || (after <= Integer.MAX_VALUE && after - anchor < (long) anchor - before))
+        {
+            return (int) after;
+        }
+        return before;
+    }
+
     /**
      * The periods used in the Mesoamerican Long Count Calendar, and their lengths in days.
      */
@@ -242,7 +439,7 @@ public class LongCountDate implements MayanDate<LongCountDate>
         KATUN(7200),
         BAKTUN(144000);
 
-        private int m_days;
+        private final int m_days;
 
         private Period(int days)
         {
@@ -253,5 +450,167 @@ public class LongCountDate implements MayanDate<LongCountDate>
         {
             return m_days;
         }
+
+        /**
+         * Return all endings of this period within a range of dates. The ending of a period is the date on which it
+         * and every lesser place value are zero.
+         *
+         * @param start The minimum date, inclusive.
+         * @param end The maximum date, exclusive.
+         * @return The endings within the range, in ascending order.
+         */
+        public LongCountSequence endings(LongCountDate start, LongCountDate end)
+        {
+            return endings(1, start, end);
+        }
+
+        /**
+         * Return all endings of a multiple of this period within a range of dates. For example, a multiple of 10 tuns
+         * gives the half-k'atun endings.
+         *
+         * @param multiple The positive number of periods between endings.
+         * @param start The minimum date, inclusive.
+         * @param end The maximum date, exclusive.
+         * @return The endings within the range, in ascending order.
+         */
+        public LongCountSequence endings(int multiple, LongCountDate start, LongCountDate end)
+        {
+            if (null == start || null == end)
+            {
+                throw new NullPointerException("Date parameters must not be null.");
+            }
+
+            long length = length(multiple);
+            return LongCountSequence.within(0, length, start.toInt(), end.toInt());
+        }
+
+        /**
+         * Return all endings of this period that fall on a Calendar Round date within a range of dates.
+         *
+         * @param calendarRound The Calendar Round expression of the desired endings.
+         * @param start The minimum date, inclusive.
+         * @param end The maximum date, exclusive.
+         * @return The matching endings within the range, in ascending order.
+         */
+        public LongCountSequence endings(CalendarRoundDate calendarRound, LongCountDate start, LongCountDate end)
+        {
+            return endings(1, calendarRound, start, end);
+        }
+
+        /**
+         * Return all endings of a multiple of this period that fall on a Calendar Round date within a range of dates.
+         *
+         * @param multiple The positive number of periods between endings.
+         * @param calendarRound The Calendar Round expression of the desired endings.
+         * @param start The minimum date, inclusive.
+         * @param end The maximum date, exclusive.
+         * @return The matching endings within the range, in ascending order.
+         */
+        public LongCountSequence endings(int multiple, CalendarRoundDate calendarRound, LongCountDate start,
+                                         LongCountDate end)
+        {
+            if (null == calendarRound || null == start || null == end)
+            {
+                throw new NullPointerException("Date parameters must not be null.");
+            }
+
+            return matching(length(multiple), calendarRound.minus(s_zeroDay), calendarRound.cycle(), start, end);
+        }
+
+        /**
+         * Return all endings of this period that fall on a Tzolkin date within a range of dates, such as the k'atun
+         * endings on a given Ajaw day.
+         *
+         * @param tzolkin The Tzolkin expression of the desired endings.
+         * @param start The minimum date, inclusive.
+         * @param end The maximum date, exclusive.
+         * @return The matching endings within the range, in ascending order.
+         */
+        public LongCountSequence endings(TzolkinDate tzolkin, LongCountDate start, LongCountDate end)
+        {
+            return endings(1, tzolkin, start, end);
+        }
+
+        /**
+         * Return all endings of a multiple of this period that fall on a Tzolkin date within a range of dates.
+         *
+         * @param multiple The positive number of periods between endings.
+         * @param tzolkin The Tzolkin expression of the desired endings.
+         * @param start The minimum date, inclusive.
+         * @param end The maximum date, exclusive.
+         * @return The matching endings within the range, in ascending order.
+         */
+        public LongCountSequence endings(int multiple, TzolkinDate tzolkin, LongCountDate start, LongCountDate end)
+        {
+            if (null == tzolkin || null == start || null == end)
+            {
+                throw new NullPointerException("Date parameters must not be null.");
+            }
+
+            // Measure from the Tzolkin date of 0.0.0.0.0
+            return matching(length(multiple), tzolkin.minus(s_zeroDay.getTzolkinDate()), tzolkin.cycle(), start, end);
+        }
+
+        private static LongCountSequence matching(long length, long residue, long cycle, LongCountDate start,
+                                                  LongCountDate end)
+        {
+            // An ending length * k falls on the desired date when length * k = residue (mod cycle), where residue is
+            // the number of days from the date on 0.0.0.0.0 to the desired date. This is solvable only when the gcd
+            // of the length and the cycle divides the residue, and then the solutions for k repeat every cycle / gcd.
+            long gcd = gcd(length, cycle);
+            if (residue % gcd != 0)
+            {
+                return new LongCountSequence(0, 1, 0);
+            }
+
+            long modulus = cycle / gcd;
+            long k = residue / gcd % modulus * inverse(length / gcd % modulus, modulus) % modulus;
+
+            return LongCountSequence.within(length * k, length * modulus, start.toInt(), end.toInt());
+        }
+
+        private long length(int multiple)
+        {
+            if (multiple < 1)
+            {
+                throw new IllegalArgumentException("Multiple must be positive.");
+            }
+            return (long) multiple * m_days;
+        }
+    }
+
+    private static long gcd(long a, long b)
+    {
+        while (b != 0)
+        {
+            long remainder = a % b;
+            a = b;
+            b = remainder;
+        }
+        return a;
+    }
+
+    /**
+     * Find the multiplicative inverse of a number modulo a coprime modulus, by the extended Euclidean algorithm.
+     */
+    private static long inverse(long a, long modulus)
+    {
+        long previous = 0;
+        long current = 1;
+        long r0 = modulus;
+        long r1 = a;
+        while (r1 != 0)
+        {
+            long quotient = r0 / r1;
+
+            long r = r0 - quotient * r1;
+            r0 = r1;
+            r1 = r;
+
+            long t = previous - quotient * current;
+            previous = current;
+            current = t;
+        }
+        return (previous % modulus + modulus) % modulus;
     }
 }
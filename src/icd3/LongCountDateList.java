@@ -0,0 +1,80 @@
+/**
+ *
+ */
+package icd3;
+
+/**
+ * A list of Long Count dates backed by a primitive array of their integer representations.
+ */
+public class LongCountDateList extends DateList<LongCountDate>
+{
+    /**
+     * Instantiates an empty list.
+     */
+    public LongCountDateList()
+    {
+        this(s_defaultCapacity);
+    }
+
+    /**
+     * Instantiates an empty list with the specified initial capacity.
+     *
+     * @param capacity The number of dates that can be held before the storage must grow.
+     */
+    public LongCountDateList(int capacity)
+    {
+        super(capacity);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see icd3.DateList#normalize(int)
+     */
+    @Override
+    protected int normalize(int value)
+    {
+        // Clamp the value to be non-negative, as LongCountDate does
+        return value < 0 ? 0 : value;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see icd3.DateList#fromInt(int)
+     */
+    @Override
+    protected LongCountDate fromInt(int value)
+    {
+        return new LongCountDate(value);
+    }
+
+    /**
+     * Create a list holding the specified integer representations, in order.
+     *
+     * @param values The integer representations. Negatives are interpreted as zero.
+     * @return The new list.
+     */
+    public static LongCountDateList of(int... values)
+    {
+        LongCountDateList list = new LongCountDateList(values.length);
+        for (int value : values)
+        {
+            list.addInt(value);
+        }
+        return list;
+    }
+
+    /**
+     * Merge several sorted lists into a new sorted list.
+     *
+     * @param lists The sorted lists to merge.
+     * @return A new list holding every date of the inputs in ascending order.
+     */
+    public static LongCountDateList merge(LongCountDateList... lists)
+    {
+        LongCountDateList merged = new LongCountDateList(0);
+        merged.mergeFrom(lists);
+        return merged;
+    }
+}
@@ -0,0 +1,283 @@
+/**
+ *
+ */
+package icd3;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes a sequence of Long Count dates, such as the occurrences of a Calendar Round date or the endings of a
+ * period, to reactive subscribers in batches.
+ *
+ * A batch is only built once a subscriber has requested it, so memory stays bounded by the batch size however long
+ * the sequence is and however slowly the subscriber consumes. Each subscriber receives the whole sequence
+ * independently.
+ */
+public class LongCountPublisher implements Flow.Publisher<LongCountDateList>
+{
+    private final LongCountSequence m_dates;
+
+    private final int m_batchSize;
+
+    private final Executor m_executor;
+
+    /**
+     * Instantiates a publisher that delivers on the common pool.
+     *
+     * @param dates The dates to publish.
+     * @param batchSize The maximum number of dates in each batch.
+     */
+    public LongCountPublisher(LongCountSequence dates, int batchSize)
+    {
+        this(dates, batchSize, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Instantiates a publisher.
+     *
+     * @param dates The dates to publish.
+     * @param batchSize The maximum number of dates in each batch.
+     * @param executor The executor on which batches are built and delivered.
+     */
+    public LongCountPublisher(LongCountSequence dates, int batchSize, Executor executor)
+    {
+        if (null == dates || null == executor)
+        {
+            throw new NullPointerException("Dates and executor must not be null.");
+        }
+        if (batchSize < 1)
+        {
+            throw new IllegalArgumentException("Batch size must be positive.");
+        }
+        m_dates = dates;
+        m_batchSize = batchSize;
+        m_executor = executor;
+    }
+
+    /**
+     * Create a publisher of every Long Count date represented by a Calendar Round date within a range of dates, as
+     * LongCountDate.calendarRoundToLongCountList gives them.
+     *
+     * @param calendarRound The Calendar Round expression of the desired dates.
+     * @param start The minimum date, inclusive.
+     * @param end The maximum date, exclusive.
+     * @param batchSize The maximum number of dates in each batch.
+     * @return The publisher.
+     */
+    public static LongCountPublisher occurrences(CalendarRoundDate calendarRound, LongCountDate start,
+                                                 LongCountDate end, int batchSize)
+    {
+        if (null == calendarRound || null == start || null == end)
+        {
+            throw new NullPointerException("Date parameters must not be null.");
+        }
+
+        int first = LongCountDate.firstOccurrence(calendarRound.toInt(), start.toInt());
+        return new LongCountPublisher(LongCountSequence.within(first, calendarRound.cycle(), start.toInt(), end
+            .toInt()), batchSize);
+    }
+
+    /**
+     * Create a publisher of every Long Count date within a range of dates, for feeding bulk conversions.
+     *
+     * @param start The minimum date, inclusive.
+     * @param end The maximum date, exclusive.
+     * @param batchSize The maximum number of dates in each batch.
+     * @return The publisher.
+     */
+    public static LongCountPublisher range(LongCountDate start, LongCountDate end, int batchSize)
+    {
+        if (null == start || null == end)
+        {
+            throw new NullPointerException("Date parameters must not be null.");
+        }
+
+        return new LongCountPublisher(LongCountSequence.within(start.toInt(), 1, start.toInt(), end.toInt()),
+            batchSize);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.util.concurrent.Flow.Publisher#subscribe(java.util.concurrent.Flow.Subscriber)
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super LongCountDateList> subscriber)
+    {
+        if (null == subscriber)
+        {
+            throw new NullPointerException("Subscriber must not be null.");
+        }
+
+        BatchSubscription subscription = new BatchSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+
+        // An empty sequence completes without waiting for demand
+        subscription.schedule();
+    }
+
+    /**
+     * The state of one subscriber's progress through the sequence.
+     */
+    private final class BatchSubscription implements Flow.Subscription, Runnable
+    {
+        private final Flow.Subscriber<? super LongCountDateList> m_subscriber;
+
+        /**
+         * Batches requested but not yet delivered
+         */
+        private final AtomicLong m_demand = new AtomicLong();
+
+        /**
+         * Nonzero while a drain is scheduled or running, so that only one thread ever signals the subscriber
+         */
+        private final AtomicInteger m_work = new AtomicInteger();
+
+        /**
+         * Position in the sequence of the next date to deliver, only touched by the draining thread
+         */
+        private int m_next;
+
+        private volatile boolean m_cancelled;
+
+        private volatile Throwable m_error;
+
+        BatchSubscription(Flow.Subscriber<? super LongCountDateList> subscriber)
+        {
+            m_subscriber = subscriber;
+        }
+
+        /*
+         * (non-Javadoc)
+         *
+         * @see java.util.concurrent.Flow.Subscription#request(long)
+         */
+        @Override
+        public void request(long n)
+        {
+            if (n <= 0)
+            {
+                m_error = new IllegalArgumentException("Demand must be positive, but " + n + " was requested.");
+            }
+            else
+            {
+                // Add without overflowing, as unbounded demand is Long.MAX_VALUE
+                m_demand.getAndUpdate(demand -> demand + n < 0 ? Long.MAX_VALUE : demand + n);
+            }
+            schedule();
+        }
+
+        /*
+         * (non-Javadoc)
+         *
+         * @see java.util.concurrent.Flow.Subscription#cancel()
+         */
+        @Override
+        public void cancel()
+        {
+            m_cancelled = true;
+        }
+
+        /*
+         * (non-Javadoc)
+         *
+         * @see java.lang.Runnable#run()
+         */
+        @Override
+        public void run()
+        {
+            int missed = 1;
+            try
+            {
+                do
+                {
+                    drain();
+                    missed = m_work.addAndGet(-missed);
+                }
+                while (missed != 0);
+            }
+            finally
+            {
+                // A subscriber that throws from onError or onComplete must not leave a drain marked as running
+                if (missed != 0)
+                {
+                    m_work.set(0);
+                }
+            }
+        }
+
+        private void schedule()
+        {
+            // Requests made while a drain is running are picked up by that drain instead
+            if (m_work.getAndIncrement() == 0)
+            {
+                try
+                {
+                    m_executor.execute(this);
+                }
+                catch (RuntimeException e)
+                {
+                    // No drain will run, so this thread holds the only right to signal the subscriber
+                    m_cancelled = true;
+                    try
+                    {
+                        m_subscriber.onError(e);
+                    }
+                    finally
+                    {
+                        m_work.set(0);
+                    }
+                }
+            }
+        }
+
+        private void drain()
+        {
+            while (!m_cancelled)
+            {
+                if (m_error != null)
+                {
+                    m_cancelled = true;
+                    m_subscriber.onError(m_error);
+                    return;
+                }
+                if (m_next == m_dates.size())
+                {
+                    m_cancelled = true;
+                    m_subscriber.onComplete();
+                    return;
+                }
+                if (m_demand.get() == 0)
+                {
+                    return;
+                }
+
+                int size = Math.min(m_batchSize, m_dates.size() - m_next);
+                LongCountDateList batch = new LongCountDateList(size);
+                for (int i = 0; i < size; ++i)
+                {
+                    batch.addInt(m_dates.getInt(m_next + i));
+                }
+                m_next += size;
+
+                m_demand.decrementAndGet();
+                try
+                {
+                    m_subscriber.onNext(batch);
+                }
+                catch (Throwable e)
+                {
+                    // As SubmissionPublisher does, a subscriber that fails to take a batch is cancelled with its
+                    // failure
+                    m_cancelled = true;
+                    m_subscriber.onError(e);
+                    return;
+                }
+            }
+        }
+    }
+}
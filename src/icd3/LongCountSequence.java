@@ -0,0 +1,214 @@
+/**
+ *
+ */
+package icd3;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * An immutable, evenly spaced run of Long Count dates, such as every occurrence of a Calendar Round date or every
+ * k'atun ending within a range.
+ *
+ * Only the first date, the stride and the size are stored; each date is computed when it is read.
+ */
+public class LongCountSequence extends AbstractList<LongCountDate> implements RandomAccess
+{
+    /**
+     * Integer representation of the first date
+     */
+    private final int m_first;
+
+    /**
+     * Number of days between consecutive dates
+     */
+    private final int m_stride;
+
+    /**
+     * Number of dates in this sequence
+     */
+    private final int m_size;
+
+    /**
+     * Instantiates a sequence of dates.
+     *
+     * @param first The integer representation of the first date.
+     * @param stride The positive number of days between consecutive dates.
+     * @param size The number of dates.
+     */
+    public LongCountSequence(int first, int stride, int size)
+    {
+        if (first < 0 || stride < 1 || size < 0)
+        {
+            throw new IllegalArgumentException("First date must not be negative, stride must be positive and size"
+                + " must not be negative.");
+        }
+        if (size > 0 && (long) first + (long) stride * (size - 1) > Integer.MAX_VALUE)
+        {
+            throw new IllegalArgumentException("Sequence extends beyond the largest representable date.");
+        }
+
+        m_first = first;
+        m_stride = stride;
+        m_size = size;
+    }
+
+    /**
+     * Create the sequence of dates at a fixed stride within a range.
+     *
+     * @param first The integer representation of the first date, which may precede the range.
+     * @param stride The positive number of days between consecutive dates.
+     * @param start The integer representation of the minimum date, inclusive.
+     * @param end The integer representation of the maximum date, exclusive.
+     * @return The dates in the progression that fall within the range.
+     */
+    static LongCountSequence within(long first, long stride, int start, int end)
+    {
+        start = Math.max(start, 0);
+
+        // Skip forward to the first member at or after start
+        if (first < start)
+        {
+            first += (start - first + stride - 1) / stride * stride;
+        }
+
+        if (first >= end)
+        {
+            return new LongCountSequence(0, 1, 0);
+        }
+
+        // Strides too long to fit an int can only ever contain their first member
+        long size = (end - first + stride - 1) / stride;
+        return new LongCountSequence((int) first, (int) Math.min(stride, Integer.MAX_VALUE), (int) size);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.util.AbstractList#get(int)
+     */
+    @Override
+    public LongCountDate get(int index)
+    {
+        return new LongCountDate(getInt(index));
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.util.AbstractCollection#size()
+     */
+    @Override
+    public int size()
+    {
+        return m_size;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.util.AbstractList#indexOf(java.lang.Object)
+     */
+    @Override
+    public int indexOf(Object o)
+    {
+        if (!(o instanceof LongCountDate) || !LongCountDate.class.equals(o.getClass()))
+        {
+            return -1;
+        }
+        return indexOf(((LongCountDate) o).toInt());
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.util.AbstractList#lastIndexOf(java.lang.Object)
+     */
+    @Override
+    public int lastIndexOf(Object o)
+    {
+        // Dates in a sequence are distinct
+        return indexOf(o);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.util.AbstractCollection#contains(java.lang.Object)
+     */
+    @Override
+    public boolean contains(Object o)
+    {
+        return indexOf(o) >= 0;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.util.AbstractCollection#toString()
+     */
+    @Override
+    public String toString()
+    {
+        FormatEvent event = CalendarTables.beginFormat();
+        String text = super.toString();
+        CalendarTables.endFormat(event, "format", size());
+        return text;
+    }
+
+    /**
+     * Get the integer representation of the date at the specified position.
+     *
+     * @param index The position in this sequence.
+     * @return The integer representation.
+     */
+    public int getInt(int index)
+    {
+        if (index < 0 || index >= m_size)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + m_size);
+        }
+        return m_first + index * m_stride;
+    }
+
+    /**
+     * Find a date in this sequence by its integer representation.
+     *
+     * @param value The integer representation.
+     * @return The position of the date, or -1 if it is not in this sequence.
+     */
+    public int indexOf(int value)
+    {
+        long offset = (long) value - m_first;
+        if (offset < 0 || offset % m_stride != 0 || offset / m_stride >= m_size)
+        {
+            return -1;
+        }
+        return (int) (offset / m_stride);
+    }
+
+    /**
+     * Give the number of days between consecutive dates.
+     *
+     * @return The stride.
+     */
+    public int getStride()
+    {
+        return m_stride;
+    }
+
+    /**
+     * Copy the integer representations out of this sequence.
+     *
+     * @return A new array holding the integer representations in order.
+     */
+    public int[] toIntArray()
+    {
+        int[] values = new int[m_size];
+        for (int i = 0; i < m_size; ++i)
+        {
+            values[i] = m_first + i * m_stride;
+        }
+        return values;
+    }
+}
@@ -0,0 +1,343 @@
+/**
+ *
+ */
+package icd3;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.chrono.AbstractChronology;
+import java.time.chrono.ChronoLocalDateTime;
+import java.time.chrono.ChronoZonedDateTime;
+import java.time.chrono.Era;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.ValueRange;
+import java.util.List;
+
+/**
+ * The Long Count as a java.time chronology, so that Mayan dates can be used wherever a ChronoLocalDate is expected.
+ *
+ * A year of this chronology is a tun of 18 months, the winals, each of 20 days, the kins. Years are counted from
+ * 0.0.0.0.0, so every year and month has the same length and there are no leap years. There is a single era, and no
+ * date before 0.0.0.0.0. Dates are related to the ISO calendar by the GMT correlation, which places 0.0.0.0.0 on
+ * Julian day 584283.
+ */
+public final class MayanChronology extends AbstractChronology
+{
+    /**
+     * The singleton instance
+     */
+    public static final MayanChronology INSTANCE = new MayanChronology();
+
+    private MayanChronology()
+    {
+    }
+
+    /**
+     * Convert an ISO epoch day into the integer representation of a Long Count date, without creating any objects.
+     *
+     * @param epochDay The number of days since 1970-01-01.
+     * @return The integer representation of the Long Count date.
+     * @throws DateTimeException If the day cannot be represented in the Long Count.
+     */
+    public static int toLongCount(long epochDay)
+    {
+        long value = epochDay + s_epochOffset;
+        if (value < 0 || value > Integer.MAX_VALUE)
+        {
+            throw new DateTimeException("Epoch day " + epochDay + " is outside the Long Count.");
+        }
+        return (int) value;
+    }
+
+    /**
+     * Convert the integer representation of a Long Count date into an ISO epoch day, without creating any objects.
+     *
+     * @param value The integer representation of the Long Count date. Negatives are interpreted as zero.
+     * @return The number of days since 1970-01-01.
+     */
+    public static long toEpochDay(int value)
+    {
+        return Math.max(value, 0) - (long) s_epochOffset;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.time.chrono.Chronology#getId()
+     */
+    @Override
+    public String getId()
+    {
+        return "Mayan";
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.time.chrono.Chronology#getCalendarType()
+     */
+    @Override
+    public String getCalendarType()
+    {
+        // There is no Unicode calendar type for the Long Count
+        return null;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.time.chrono.Chronology#date(int, int, int)
+     */
+    @Override
+    public MayanLocalDate date(int prolepticYear, int month, int dayOfMonth)
+    {
+        range(ChronoField.YEAR).checkValidValue(prolepticYear, ChronoField.YEAR);
+        range(ChronoField.MONTH_OF_YEAR).checkValidValue(month, ChronoField.MONTH_OF_YEAR);
+        range(ChronoField.DAY_OF_MONTH).checkValidValue(dayOfMonth, ChronoField.DAY_OF_MONTH);
+        return MayanLocalDate.of((long) prolepticYear * s_daysPerYear + (month - 1) * s_daysPerMonth + dayOfMonth
+            - 1);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.time.chrono.Chronology#date(java.time.chrono.Era, int, int, int)
+     */
+    @Override
+    public MayanLocalDate date(Era era, int yearOfEra, int month, int dayOfMonth)
+    {
+        return date(prolepticYear(era, yearOfEra), month, dayOfMonth);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.time.chrono.Chronology#dateYearDay(int, int)
+     */
+    @Override
+    public MayanLocalDate dateYearDay(int prolepticYear, int dayOfYear)
+    {
+        range(ChronoField.YEAR).checkValidValue(prolepticYear, ChronoField.YEAR);
+        range(ChronoField.DAY_OF_YEAR).checkValidValue(dayOfYear, ChronoField.DAY_OF_YEAR);
+        return MayanLocalDate.of((long) prolepticYear * s_daysPerYear + dayOfYear - 1);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.time.chrono.Chronology#dateYearDay(java.time.chrono.Era, int, int)
+     */
+    @Override
+    public MayanLocalDate dateYearDay(Era era, int yearOfEra, int dayOfYear)
+    {
+        return dateYearDay(prolepticYear(era, yearOfEra), dayOfYear);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.time.chrono.Chronology#dateEpochDay(long)
+     */
+    @Override
+    public MayanLocalDate dateEpochDay(long epochDay)
+    {
+        return new MayanLocalDate(new LongCountDate(toLongCount(epochDay)));
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.time.chrono.Chronology#dateNow()
+     */
+    @Override
+    public MayanLocalDate dateNow()
+    {
+        return (MayanLocalDate) super.dateNow();
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.time.chrono.Chronology#dateNow(java.time.ZoneId)
+     */
+    @Override
+    public MayanLocalDate dateNow(ZoneId zone)
+    {
+        return (MayanLocalDate) super.dateNow(zone);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.time.chrono.Chronology#date(java.time.temporal.TemporalAccessor)
+     */
+    @Override
+    public MayanLocalDate date(TemporalAccessor temporal)
+    {
+        if (temporal instanceof MayanLocalDate)
+        {
+            return (MayanLocalDate) temporal;
+        }
+        return dateEpochDay(temporal.getLong(ChronoField.EPOCH_DAY));
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.time.chrono.Chronology#localDateTime(java.time.temporal.TemporalAccessor)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public ChronoLocalDateTime<MayanLocalDate> localDateTime(TemporalAccessor temporal)
+    {
+        return (ChronoLocalDateTime<MayanLocalDate>) super.localDateTime(temporal);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.time.chrono.Chronology#zonedDateTime(java.time.temporal.TemporalAccessor)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public ChronoZonedDateTime<MayanLocalDate> zonedDateTime(TemporalAccessor temporal)
+    {
+        return (ChronoZonedDateTime<MayanLocalDate>) super.zonedDateTime(temporal);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.time.chrono.Chronology#zonedDateTime(java.time.Instant, java.time.ZoneId)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public ChronoZonedDateTime<MayanLocalDate> zonedDateTime(Instant instant, ZoneId zone)
+    {
+        return (ChronoZonedDateTime<MayanLocalDate>) super.zonedDateTime(instant, zone);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.time.chrono.Chronology#isLeapYear(long)
+     */
+    @Override
+    public boolean isLeapYear(long prolepticYear)
+    {
+        // Every tun has 360 days
+        return false;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.time.chrono.Chronology#prolepticYear(java.time.chrono.Era, int)
+     */
+    @Override
+    public int prolepticYear(Era era, int yearOfEra)
+    {
+        if (!(era instanceof MayanEra))
+        {
+            throw new ClassCastException("Era must be a MayanEra.");
+        }
+        return yearOfEra;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.time.chrono.Chronology#eraOf(int)
+     */
+    @Override
+    public MayanEra eraOf(int eraValue)
+    {
+        return MayanEra.of(eraValue);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.time.chrono.Chronology#eras()
+     */
+    @Override
+    public List<Era> eras()
+    {
+        return List.of(MayanEra.values());
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.time.chrono.Chronology#range(java.time.temporal.ChronoField)
+     */
+    @Override
+    public ValueRange range(ChronoField field)
+    {
+        switch (field)
+        {
+            case DAY_OF_MONTH:
+                return ValueRange.of(1, s_daysPerMonth);
+            case DAY_OF_YEAR:
+                return ValueRange.of(1, s_daysPerYear);
+            case MONTH_OF_YEAR:
+                return ValueRange.of(1, s_monthsPerYear);
+            case PROLEPTIC_MONTH:
+                return ValueRange.of(0, Integer.MAX_VALUE / s_daysPerMonth);
+            case YEAR:
+            case YEAR_OF_ERA:
+                return ValueRange.of(0, Integer.MAX_VALUE / s_daysPerYear);
+            case EPOCH_DAY:
+                return ValueRange.of(toEpochDay(0), toEpochDay(Integer.MAX_VALUE));
+            case ERA:
+                return ValueRange.of(0, 0);
+            default:
+                return field.range();
+        }
+    }
+
+    /**
+     * The era of the Long Count: every date since 0.0.0.0.0.
+     */
+    public enum MayanEra implements Era
+    {
+        LONG_COUNT;
+
+        /**
+         * Give the era with a numeric value.
+         *
+         * @param eraValue The value, which must be 0.
+         * @return The era.
+         */
+        public static MayanEra of(int eraValue)
+        {
+            if (eraValue != 0)
+            {
+                throw new DateTimeException("Invalid era: " + eraValue);
+            }
+            return LONG_COUNT;
+        }
+
+        /*
+         * (non-Javadoc)
+         *
+         * @see java.time.chrono.Era#getValue()
+         */
+        @Override
+        public int getValue()
+        {
+            return ordinal();
+        }
+    }
+
+    // Days between 0.0.0.0.0 and 1970-01-01: the Julian day of the epoch, 2440588, less the correlation constant
+    static final int s_epochOffset = 2440588 - 584283;
+
+    static final int s_daysPerMonth = LongCountDate.Period.WINAL.days();
+
+    static final int s_daysPerYear = LongCountDate.Period.TUN.days();
+
+    static final int s_monthsPerYear = s_daysPerYear / s_daysPerMonth;
+}
@@ -0,0 +1,422 @@
+/**
+ *
+ */
+package icd3;
+
+/**
+ * A mutable position in the Long Count that tracks its Long Count, Tzolkin and Haab components as it moves.
+ *
+ * Advancing adds a precomputed decomposition of the step to each component and carries with a single comparison per
+ * digit, so scanning day by day needs neither division nor allocation. Dates are only materialized on request.
+ */
+public class MayanDateCursor
+{
+    /**
+     * Integer representation of the current Long Count date
+     */
+    private int m_value;
+
+    /**
+     * Place values of the current date, from least significant to most significant
+     */
+    private final int[] m_places = new int[s_periods.length];
+
+    /**
+     * Zero-based Tzolkin coefficient and day ordinal
+     */
+    private int m_tzolkinCoefficient;
+
+    private int m_tzolkinDay;
+
+    /**
+     * Zero-based Haab day within its month, and month ordinal
+     */
+    private int m_haabDay;
+
+    private int m_haabMonth;
+
+    /**
+     * Integer representation of the current Calendar Round date
+     */
+    private int m_calendarRound;
+
+    /**
+     * The step, and its decomposition into each component's units
+     */
+    private int m_step;
+
+    private final int[] m_stepPlaces = new int[s_periods.length];
+
+    private int m_stepCoefficient;
+
+    private int m_stepDay;
+
+    private int m_stepHaabDays;
+
+    private int m_stepHaabMonths;
+
+    private int m_stepCalendarRound;
+
+    /**
+     * Instantiates a cursor at a Long Count date, stepping one day at a time.
+     *
+     * @param start The initial date.
+     */
+    public MayanDateCursor(LongCountDate start)
+    {
+        this(start.toInt());
+    }
+
+    /**
+     * Instantiates a cursor at a Long Count date, stepping one day at a time.
+     *
+     * @param value The integer representation of the initial date. Negatives are interpreted as zero.
+     */
+    public MayanDateCursor(int value)
+    {
+        seek(value);
+        setStep(1);
+    }
+
+    /**
+     * Move to a Long Count date. Unlike advance, this divides to find each component.
+     *
+     * @param value The integer representation of the date. Negatives are interpreted as zero.
+     * @return This cursor.
+     */
+    public MayanDateCursor seek(int value)
+    {
+        m_value = value < 0 ? 0 : value;
+        decompose(m_value, m_places);
+
+        m_calendarRound = LongCountDate.calendarRoundValue(m_value);
+        m_tzolkinCoefficient = m_calendarRound % s_tzolkinCoefficients;
+        m_tzolkinDay = m_calendarRound % s_tzolkinDays.length;
+
+        int haab = CalendarRoundDate.haab(m_calendarRound);
+        m_haabMonth = haab / s_daysPerMonth;
+        m_haabDay = haab - m_haabMonth * s_daysPerMonth;
+
+        return this;
+    }
+
+    /**
+     * Set the number of days that each call to advance moves forward.
+     *
+     * @param days The positive step.
+     * @return This cursor.
+     */
+    public MayanDateCursor setStep(int days)
+    {
+        if (days < 1)
+        {
+            throw new IllegalArgumentException("Step must be positive.");
+        }
+
+        // Decompose once here, so that advancing only adds and carries
+        m_step = days;
+        decompose(days, m_stepPlaces);
+        m_stepCoefficient = days % s_tzolkinCoefficients;
+        m_stepDay = days % s_tzolkinDays.length;
+
+        int haab = days % HaabDate.haabCycle();
+        m_stepHaabMonths = haab / s_daysPerMonth;
+        m_stepHaabDays = haab - m_stepHaabMonths * s_daysPerMonth;
+        m_stepCalendarRound = days % s_calendarRoundCycle;
+
+        return this;
+    }
+
+    /**
+     * Give the number of days that each call to advance moves forward.
+     *
+     * @return The step.
+     */
+    public int getStep()
+    {
+        return m_step;
+    }
+
+    /**
+     * Move forward by the step.
+     *
+     * @return This cursor.
+     * @throws IllegalStateException If the step would move past the largest representable date. The cursor is left
+     *             where it was.
+     */
+    public MayanDateCursor advance()
+    {
+        // Wrapping around to a negative value would leave every component out of step with it
+        if (m_value > Integer.MAX_VALUE - m_step)
+        {
+            throw new IllegalStateException("Advancing from " + m_value + " counts beyond the Long Count.");
+        }
+        m_value += m_step;
+
+        // Add the place values, carrying into the next place. Each sum is below twice its radix, so one comparison
+        // suffices. The most significant place never wraps.
+        int carry = 0;
+        for (int i = 0; i < s_radices.length; ++i)
+        {
+            int place = m_places[i] + m_stepPlaces[i] + carry;
+            carry = place >= s_radices[i] ? 1 : 0;
+            m_places[i] = place - carry * s_radices[i];
+        }
+        m_places[s_radices.length] += m_stepPlaces[s_radices.length] + carry;
+
+        m_tzolkinCoefficient += m_stepCoefficient;
+        if (m_tzolkinCoefficient >= s_tzolkinCoefficients)
+        {
+            m_tzolkinCoefficient -= s_tzolkinCoefficients;
+        }
+
+        m_tzolkinDay += m_stepDay;
+        if (m_tzolkinDay >= s_tzolkinDays.length)
+        {
+            m_tzolkinDay -= s_tzolkinDays.length;
+        }
+
+        // Carry through the 20-day months as if the year had 19 of them, then wrap the overhang past the 5 days of
+        // Wayeb back to the start of the year
+        m_haabDay += m_stepHaabDays;
+        m_haabMonth += m_stepHaabMonths;
+        if (m_haabDay >= s_daysPerMonth)
+        {
+            m_haabDay -= s_daysPerMonth;
+            ++m_haabMonth;
+        }
+        if (m_haabMonth > s_wayeb || (m_haabMonth == s_wayeb && m_haabDay >= s_wayebDays))
+        {
+            m_haabMonth -= s_wayeb;
+            m_haabDay -= s_wayebDays;
+            if (m_haabDay < 0)
+            {
+                m_haabDay += s_daysPerMonth;
+                --m_haabMonth;
+            }
+        }
+
+        m_calendarRound += m_stepCalendarRound;
+        if (m_calendarRound >= s_calendarRoundCycle)
+        {
+            m_calendarRound -= s_calendarRoundCycle;
+        }
+
+        return this;
+    }
+
+    /**
+     * Give the integer representation of the current Long Count date.
+     *
+     * @return The integer representation.
+     */
+    public int toInt()
+    {
+        return m_value;
+    }
+
+    /**
+     * Get the place value of a specified period in the current Long Count date.
+     *
+     * @param period The period.
+     * @return The number in the specified place.
+     */
+    public int getPeriod(LongCountDate.Period period)
+    {
+        return m_places[period.ordinal()];
+    }
+
+    /**
+     * Gets the 1-based numeral of the current Tzolkin date.
+     *
+     * @return The numeral
+     */
+    public int getTzolkinNumeral()
+    {
+        return m_tzolkinCoefficient + 1;
+    }
+
+    /**
+     * Gets the named day of the current Tzolkin date.
+     *
+     * @return The day
+     */
+    public TzolkinDate.Day getTzolkinDay()
+    {
+        return s_tzolkinDays[m_tzolkinDay];
+    }
+
+    /**
+     * Gets the 1-based numeral of the current Haab date.
+     *
+     * @return The numeral
+     */
+    public int getHaabNumeral()
+    {
+        return m_haabDay + 1;
+    }
+
+    /**
+     * Gets the named month of the current Haab date.
+     *
+     * @return The month
+     */
+    public HaabDate.Month getHaabMonth()
+    {
+        return s_haabMonths[m_haabMonth];
+    }
+
+    /**
+     * Give the integer representation of the current Calendar Round date.
+     *
+     * @return The integer representation.
+     */
+    public int getCalendarRound()
+    {
+        return m_calendarRound;
+    }
+
+    /**
+     * Materialize the current Long Count date.
+     *
+     * @return A new LongCountDate.
+     */
+    public LongCountDate toLongCountDate()
+    {
+        return new LongCountDate(m_value);
+    }
+
+    /**
+     * Materialize the current Calendar Round date.
+     *
+     * @return A new CalendarRoundDate.
+     */
+    public CalendarRoundDate toCalendarRoundDate()
+    {
+        return new CalendarRoundDate(m_calendarRound);
+    }
+
+    /**
+     * Give a view of this cursor that can be read but not moved.
+     *
+     * @return A live view, which follows this cursor as it advances.
+     */
+    public View view()
+    {
+        return new View(this);
+    }
+
+    /**
+     * A read-only window onto a cursor, for handing the current position to code that must not move it.
+     */
+    public static final class View
+    {
+        private final MayanDateCursor m_cursor;
+
+        private View(MayanDateCursor cursor)
+        {
+            m_cursor = cursor;
+        }
+
+        /**
+         * @see MayanDateCursor#toInt()
+         */
+        public int toInt()
+        {
+            return m_cursor.toInt();
+        }
+
+        /**
+         * @see MayanDateCursor#getPeriod(LongCountDate.Period)
+         */
+        public int getPeriod(LongCountDate.Period period)
+        {
+            return m_cursor.getPeriod(period);
+        }
+
+        /**
+         * @see MayanDateCursor#getTzolkinNumeral()
+         */
+        public int getTzolkinNumeral()
+        {
+            return m_cursor.getTzolkinNumeral();
+        }
+
+        /**
+         * @see MayanDateCursor#getTzolkinDay()
+         */
+        public TzolkinDate.Day getTzolkinDay()
+        {
+            return m_cursor.getTzolkinDay();
+        }
+
+        /**
+         * @see MayanDateCursor#getHaabNumeral()
+         */
+        public int getHaabNumeral()
+        {
+            return m_cursor.getHaabNumeral();
+        }
+
+        /**
+         * @see MayanDateCursor#getHaabMonth()
+         */
+        public HaabDate.Month getHaabMonth()
+        {
+            return m_cursor.getHaabMonth();
+        }
+
+        /**
+         * @see MayanDateCursor#getCalendarRound()
+         */
+        public int getCalendarRound()
+        {
+            return m_cursor.getCalendarRound();
+        }
+
+        /**
+         * @see MayanDateCursor#toLongCountDate()
+         */
+        public LongCountDate toLongCountDate()
+        {
+            return m_cursor.toLongCountDate();
+        }
+
+        /**
+         * @see MayanDateCursor#toCalendarRoundDate()
+         */
+        public CalendarRoundDate toCalendarRoundDate()
+        {
+            return m_cursor.toCalendarRoundDate();
+        }
+    }
+
+    private static void decompose(int value, int[] places)
+    {
+        for (int i = s_periods.length - 1; i >= 0; --i)
+        {
+            places[i] = value / s_periods[i].days();
+            value -= places[i] * s_periods[i].days();
+        }
+    }
+
+    private static final LongCountDate.Period[] s_periods = LongCountDate.Period.values();
+
+    // The number of units of each period that make up the next, for every period but the last
+    private static final int[] s_radices = { 20, 18, 20, 20 };
+
+    // Cached, since values() copies the array on every call
+    private static final TzolkinDate.Day[] s_tzolkinDays = TzolkinDate.Day.values();
+
+    private static final HaabDate.Month[] s_haabMonths = HaabDate.Month.values();
+
+    private static final int s_tzolkinCoefficients = 13;
+
+    private static final int s_daysPerMonth = 20;
+
+    private static final int s_wayeb = HaabDate.Month.WAYEB.ordinal();
+
+    private static final int s_wayebDays = HaabDate.Month.WAYEB.days();
+
+    private static final int s_calendarRoundCycle = new CalendarRoundDate(0).cycle();
+}
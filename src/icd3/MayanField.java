@@ -0,0 +1,220 @@
+/**
+ *
+ */
+package icd3;
+
+import java.time.DateTimeException;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalField;
+import java.time.temporal.TemporalUnit;
+import java.time.temporal.ValueRange;
+
+/**
+ * The places of the Long Count and the components of the Calendar Round as java.time fields. They can be read from
+ * any date with an epoch day, such as a LocalDate, through the correlation used by MayanChronology.
+ *
+ * Places are numbered as written, from zero. Numerals are numbered from one, and named days and months are numbered by
+ * their order from one. Setting a place or the Haab numeral changes only that place or numeral. Setting a Tzolkin
+ * component moves forward to the next date with that value, and setting the Haab month moves forward to the same
+ * numeral in that month.
+ */
+public enum MayanField implements TemporalField
+{
+    KIN(LongCountDate.Period.KIN, 20),
+    WINAL(LongCountDate.Period.WINAL, 18),
+    TUN(LongCountDate.Period.TUN, 20),
+    KATUN(LongCountDate.Period.KATUN, 20),
+    BAKTUN(LongCountDate.Period.BAKTUN, Integer.MAX_VALUE / LongCountDate.Period.BAKTUN.days() + 1),
+    TZOLKIN_NUMERAL(13),
+    TZOLKIN_DAY(20),
+    HAAB_NUMERAL(20),
+    HAAB_MONTH(19);
+
+    /**
+     * The place of the Long Count, or null for a Calendar Round component
+     */
+    private final LongCountDate.Period m_period;
+
+    private final ValueRange m_range;
+
+    private MayanField(LongCountDate.Period period, int radix)
+    {
+        m_period = period;
+        m_range = ValueRange.of(0, radix - 1);
+    }
+
+    private MayanField(int count)
+    {
+        m_period = null;
+        m_range = ValueRange.of(1, count);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.time.temporal.TemporalField#getBaseUnit()
+     */
+    @Override
+    public TemporalUnit getBaseUnit()
+    {
+        return ChronoUnit.DAYS;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.time.temporal.TemporalField#getRangeUnit()
+     */
+    @Override
+    public TemporalUnit getRangeUnit()
+    {
+        // The periods of the Long Count and the cycles of the Calendar Round have no standard unit
+        return ChronoUnit.FOREVER;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.time.temporal.TemporalField#range()
+     */
+    @Override
+    public ValueRange range()
+    {
+        return m_range;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.time.temporal.TemporalField#isDateBased()
+     */
+    @Override
+    public boolean isDateBased()
+    {
+        return true;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.time.temporal.TemporalField#isTimeBased()
+     */
+    @Override
+    public boolean isTimeBased()
+    {
+        return false;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.time.temporal.TemporalField#isSupportedBy(java.time.temporal.TemporalAccessor)
+     */
+    @Override
+    public boolean isSupportedBy(TemporalAccessor temporal)
+    {
+        return temporal.isSupported(ChronoField.EPOCH_DAY);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.time.temporal.TemporalField#rangeRefinedBy(java.time.temporal.TemporalAccessor)
+     */
+    @Override
+    public ValueRange rangeRefinedBy(TemporalAccessor temporal)
+    {
+        // Wayeb is the only month shorter than the rest
+        if (this == HAAB_NUMERAL && HAAB_MONTH.getFrom(temporal) == HaabDate.Month.WAYEB.ordinal() + 1)
+        {
+            return ValueRange.of(1, HaabDate.Month.WAYEB.days());
+        }
+        return m_range;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.time.temporal.TemporalField#getFrom(java.time.temporal.TemporalAccessor)
+     */
+    @Override
+    public long getFrom(TemporalAccessor temporal)
+    {
+        int value = longCountValue(temporal);
+        if (m_period != null)
+        {
+            return value / m_period.days() % (m_range.getMaximum() + 1);
+        }
+
+        int calendarRound = LongCountDate.calendarRoundValue(value);
+        switch (this)
+        {
+            case TZOLKIN_NUMERAL:
+                return calendarRound % 13 + 1;
+            case TZOLKIN_DAY:
+                return calendarRound % 20 + 1;
+            case HAAB_NUMERAL:
+                return CalendarRoundDate.haab(calendarRound) % 20 + 1;
+            default:
+                return CalendarRoundDate.haab(calendarRound) / 20 + 1;
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.time.temporal.TemporalField#adjustInto(java.time.temporal.Temporal, long)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R extends Temporal> R adjustInto(R temporal, long newValue)
+    {
+        rangeRefinedBy(temporal).checkValidValue(newValue, this);
+        long current = getFrom(temporal);
+
+        long days;
+        if (m_period != null)
+        {
+            days = (newValue - current) * m_period.days();
+        }
+        else
+        {
+            switch (this)
+            {
+                case TZOLKIN_NUMERAL:
+                    days = Math.floorMod(newValue - current, 13);
+                    break;
+                case TZOLKIN_DAY:
+                    days = Math.floorMod(newValue - current, 20);
+                    break;
+                case HAAB_NUMERAL:
+                    days = newValue - current;
+                    break;
+                default:
+                    long numeral = HAAB_NUMERAL.getFrom(temporal);
+                    if (newValue == HaabDate.Month.WAYEB.ordinal() + 1 && numeral > HaabDate.Month.WAYEB.days())
+                    {
+                        throw new DateTimeException("Wayeb has no day " + numeral + ".");
+                    }
+                    days = Math.floorMod((newValue - current) * 20, 365);
+                    break;
+            }
+        }
+        return (R) temporal.plus(days, ChronoUnit.DAYS);
+    }
+
+    /**
+     * Give the integer representation of the Long Count date of a temporal, reading it directly from Mayan dates.
+     */
+    private static int longCountValue(TemporalAccessor temporal)
+    {
+        if (temporal instanceof MayanLocalDate)
+        {
+            return ((MayanLocalDate) temporal).getLongCountDate().toInt();
+        }
+        return MayanChronology.toLongCount(temporal.getLong(ChronoField.EPOCH_DAY));
+    }
+}
@@ -0,0 +1,379 @@
+/**
+ *
+ */
+package icd3;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.chrono.ChronoLocalDate;
+import java.time.chrono.ChronoPeriod;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalField;
+import java.time.temporal.TemporalUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.time.temporal.ValueRange;
+
+/**
+ * An immutable date in the MayanChronology, backed by a LongCountDate.
+ *
+ * Every month and year of the chronology has a fixed number of days, so all of its arithmetic, and conversion to and
+ * from ISO dates, is done on the integer representation of the Long Count date.
+ */
+public final class MayanLocalDate implements ChronoLocalDate
+{
+    private final LongCountDate m_date;
+
+    /**
+     * Instantiates a date from a Long Count date.
+     *
+     * @param date The Long Count date.
+     */
+    public MayanLocalDate(LongCountDate date)
+    {
+        if (null == date)
+        {
+            throw new NullPointerException("Long Count date must not be null.");
+        }
+        m_date = date;
+    }
+
+    /**
+     * Give the date equivalent to an ISO date.
+     *
+     * @param date The ISO date.
+     * @return The Mayan date.
+     * @throws DateTimeException If the date is before 0.0.0.0.0.
+     */
+    public static MayanLocalDate from(LocalDate date)
+    {
+        return new MayanLocalDate(new LongCountDate(MayanChronology.toLongCount(date.toEpochDay())));
+    }
+
+    /**
+     * Give the date of an integer representation, checking that it can be represented.
+     */
+    static MayanLocalDate of(long value)
+    {
+        if (value < 0 || value > Integer.MAX_VALUE)
+        {
+            throw new DateTimeException("Day " + value + " is outside the Long Count.");
+        }
+        return new MayanLocalDate(new LongCountDate((int) value));
+    }
+
+    /**
+     * @return The Long Count date.
+     */
+    public LongCountDate getLongCountDate()
+    {
+        return m_date;
+    }
+
+    /**
+     * @return The equivalent ISO date.
+     */
+    public LocalDate toLocalDate()
+    {
+        return LocalDate.ofEpochDay(toEpochDay());
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.time.chrono.ChronoLocalDate#getChronology()
+     */
+    @Override
+    public MayanChronology getChronology()
+    {
+        return MayanChronology.INSTANCE;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.time.chrono.ChronoLocalDate#lengthOfMonth()
+     */
+    @Override
+    public int lengthOfMonth()
+    {
+        return MayanChronology.s_daysPerMonth;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.time.chrono.ChronoLocalDate#lengthOfYear()
+     */
+    @Override
+    public int lengthOfYear()
+    {
+        return MayanChronology.s_daysPerYear;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.time.chrono.ChronoLocalDate#isSupported(java.time.temporal.TemporalField)
+     */
+    @Override
+    public boolean isSupported(TemporalField field)
+    {
+        if (field instanceof ChronoField)
+        {
+            switch ((ChronoField) field)
+            {
+                case DAY_OF_WEEK:
+                case DAY_OF_MONTH:
+                case DAY_OF_YEAR:
+                case EPOCH_DAY:
+                case MONTH_OF_YEAR:
+                case PROLEPTIC_MONTH:
+                case YEAR_OF_ERA:
+                case YEAR:
+                case ERA:
+                    return true;
+                default:
+                    return false;
+            }
+        }
+        return field != null && field.isSupportedBy(this);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.time.temporal.TemporalAccessor#range(java.time.temporal.TemporalField)
+     */
+    @Override
+    public ValueRange range(TemporalField field)
+    {
+        if (field instanceof ChronoField)
+        {
+            if (!isSupported(field))
+            {
+                throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+            }
+            return getChronology().range((ChronoField) field);
+        }
+        return field.rangeRefinedBy(this);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.time.temporal.TemporalAccessor#getLong(java.time.temporal.TemporalField)
+     */
+    @Override
+    public long getLong(TemporalField field)
+    {
+        if (!(field instanceof ChronoField))
+        {
+            return field.getFrom(this);
+        }
+
+        int value = m_date.toInt();
+        switch ((ChronoField) field)
+        {
+            case DAY_OF_WEEK:
+                return Math.floorMod(toEpochDay() + 3, 7) + 1;
+            case DAY_OF_MONTH:
+                return value % MayanChronology.s_daysPerMonth + 1;
+            case DAY_OF_YEAR:
+                return value % MayanChronology.s_daysPerYear + 1;
+            case EPOCH_DAY:
+                return toEpochDay();
+            case MONTH_OF_YEAR:
+                return value % MayanChronology.s_daysPerYear / MayanChronology.s_daysPerMonth + 1;
+            case PROLEPTIC_MONTH:
+                return value / MayanChronology.s_daysPerMonth;
+            case YEAR_OF_ERA:
+            case YEAR:
+                return value / MayanChronology.s_daysPerYear;
+            case ERA:
+                return MayanChronology.MayanEra.LONG_COUNT.getValue();
+            default:
+                throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.time.chrono.ChronoLocalDate#toEpochDay()
+     */
+    @Override
+    public long toEpochDay()
+    {
+        return MayanChronology.toEpochDay(m_date.toInt());
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.time.chrono.ChronoLocalDate#with(java.time.temporal.TemporalField, long)
+     */
+    @Override
+    public MayanLocalDate with(TemporalField field, long newValue)
+    {
+        if (!(field instanceof ChronoField))
+        {
+            return getChronology().date(field.adjustInto(this, newValue));
+        }
+
+        ChronoField chronoField = (ChronoField) field;
+        range(chronoField).checkValidValue(newValue, chronoField);
+
+        long value = m_date.toInt();
+        long current = getLong(chronoField);
+        switch (chronoField)
+        {
+            case DAY_OF_WEEK:
+            case DAY_OF_MONTH:
+            case DAY_OF_YEAR:
+                return plusDays(newValue - current);
+            case EPOCH_DAY:
+                return getChronology().dateEpochDay(newValue);
+            case MONTH_OF_YEAR:
+                return plusDays((newValue - current) * MayanChronology.s_daysPerMonth);
+            case PROLEPTIC_MONTH:
+                return of(newValue * MayanChronology.s_daysPerMonth + value % MayanChronology.s_daysPerMonth);
+            case YEAR_OF_ERA:
+            case YEAR:
+                return plusDays((newValue - current) * MayanChronology.s_daysPerYear);
+            default:
+                // The only era has been checked for above
+                return this;
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.time.chrono.ChronoLocalDate#plus(long, java.time.temporal.TemporalUnit)
+     */
+    @Override
+    public MayanLocalDate plus(long amountToAdd, TemporalUnit unit)
+    {
+        if (!(unit instanceof ChronoUnit))
+        {
+            return getChronology().date(unit.addTo(this, amountToAdd));
+        }
+        return plusDays(Math.multiplyExact(amountToAdd, daysPer((ChronoUnit) unit)));
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.time.chrono.ChronoLocalDate#minus(long, java.time.temporal.TemporalUnit)
+     */
+    @Override
+    public MayanLocalDate minus(long amountToSubtract, TemporalUnit unit)
+    {
+        return amountToSubtract == Long.MIN_VALUE ? plus(Long.MAX_VALUE, unit).plus(1, unit) : plus(-amountToSubtract,
+            unit);
+    }
+
+    /**
+     * Calculate a certain number of days away from this date.
+     *
+     * @param days The number of days to add, which can be negative.
+     * @return The shifted date, or this date if days is 0.
+     * @throws DateTimeException If the result is before 0.0.0.0.0.
+     */
+    public MayanLocalDate plusDays(long days)
+    {
+        return days == 0 ? this : of(m_date.toInt() + days);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.time.chrono.ChronoLocalDate#until(java.time.temporal.Temporal, java.time.temporal.TemporalUnit)
+     */
+    @Override
+    public long until(Temporal endExclusive, TemporalUnit unit)
+    {
+        MayanLocalDate end = getChronology().date(endExclusive);
+        if (!(unit instanceof ChronoUnit))
+        {
+            return unit.between(this, end);
+        }
+        return (end.m_date.toInt() - (long) m_date.toInt()) / daysPer((ChronoUnit) unit);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.time.chrono.ChronoLocalDate#until(java.time.chrono.ChronoLocalDate)
+     */
+    @Override
+    public ChronoPeriod until(ChronoLocalDate endDateExclusive)
+    {
+        // Months and years have fixed lengths, so the period splits the days between the dates without borrowing
+        long days = getChronology().date(endDateExclusive).m_date.toInt() - (long) m_date.toInt();
+        return getChronology().period((int) (days / MayanChronology.s_daysPerYear), (int) (days
+            % MayanChronology.s_daysPerYear / MayanChronology.s_daysPerMonth), (int) (days
+            % MayanChronology.s_daysPerMonth));
+    }
+
+    /**
+     * Give the fixed number of days in a unit.
+     */
+    private static long daysPer(ChronoUnit unit)
+    {
+        switch (unit)
+        {
+            case DAYS:
+                return 1;
+            case WEEKS:
+                return 7;
+            case MONTHS:
+                return MayanChronology.s_daysPerMonth;
+            case YEARS:
+                return MayanChronology.s_daysPerYear;
+            case DECADES:
+                return 10L * MayanChronology.s_daysPerYear;
+            case CENTURIES:
+                return 100L * MayanChronology.s_daysPerYear;
+            case MILLENNIA:
+                return 1000L * MayanChronology.s_daysPerYear;
+            default:
+                throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.time.chrono.ChronoLocalDate#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return getChronology().getId() + " " + m_date;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.time.chrono.ChronoLocalDate#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object o)
+    {
+        return o instanceof MayanLocalDate && m_date.equals(((MayanLocalDate) o).m_date);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.time.chrono.ChronoLocalDate#hashCode()
+     */
+    @Override
+    public int hashCode()
+    {
+        return getChronology().getId().hashCode() ^ m_date.toInt();
+    }
+}
@@ -0,0 +1,28 @@
+/**
+ *
+ */
+package icd3;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Records a query for the occurrences of a Calendar Round date within a range of Long Count dates. The size is the
+ * number of occurrences found.
+ */
+@Name("icd3.RangeQuery")
+@Label("Calendar Round Range Query")
+final class RangeQueryEvent extends CalendarEvent
+{
+    @Label("Calendar Round")
+    int calendarRound;
+
+    @Label("Start")
+    @Description("The minimum Long Count date, inclusive")
+    int start;
+
+    @Label("Width")
+    @Description("The number of days in the range")
+    int width;
+}
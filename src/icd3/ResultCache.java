@@ -0,0 +1,589 @@
+/**
+ *
+ */
+package icd3;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+
+/**
+ * A file of precomputed results, such as occurrence lists and tables of formatted names, kept across JVM restarts and
+ * shared by every process on a host that opens it.
+ *
+ * The file is mapped into memory and read without locking, so results are read in place rather than copied. Results
+ * are only ever appended, under an exclusive lock on the file: each entry is written and forced to disk before the
+ * header is updated to include it, so readers never see part of an entry. The header and every entry carry a CRC-32
+ * checksum, and the header a format version. When enough entries have been superseded by newer ones for the same key,
+ * the live entries are copied to a new file that replaces the old one; processes still using the old file notice that
+ * it has been marked stale and reopen the new one. Writers also check that the file they have open is still the one at
+ * its path, so that they follow a replacement even if the process that made it died before marking the old file
+ * stale.
+ *
+ * An instance is safe for use by many threads, but a JVM should open each file only once, since file locks are held
+ * on behalf of the whole JVM.
+ */
+public class ResultCache implements Closeable
+{
+    private final File m_file;
+
+    private FileChannel m_channel;
+
+    /**
+     * Identifies the file that the channel has open, as BasicFileAttributes#fileKey does
+     */
+    private Object m_fileKey;
+
+    private MappedByteBuffer m_map;
+
+    /**
+     * The offset of the latest entry for each key
+     */
+    private final Map<String, Integer> m_index = new HashMap<String, Integer>();
+
+    /**
+     * How far the file has been read into the index
+     */
+    private long m_indexedEnd;
+
+    /**
+     * The bytes taken by entries that have since been superseded
+     */
+    private long m_deadBytes;
+
+    /**
+     * Opens a cache file, creating it if it does not exist.
+     *
+     * @param file The file.
+     * @throws IOException If the file cannot be opened, or is not a cache of a supported version, or is corrupt.
+     */
+    public ResultCache(File file) throws IOException
+    {
+        if (null == file)
+        {
+            throw new NullPointerException("File must not be null.");
+        }
+
+        m_file = file;
+        open();
+    }
+
+    /**
+     * Get a list of integers.
+     *
+     * @param key The key it was stored under.
+     * @return A read-only view of the list in the file, or null if there is none.
+     * @throws IOException If the file cannot be read or is corrupt.
+     */
+    public synchronized IntBuffer getInts(String key) throws IOException
+    {
+        ByteBuffer payload = find(key, s_intsType);
+        return null == payload ? null : payload.asIntBuffer();
+    }
+
+    /**
+     * Store a list of integers, replacing any stored under the same key.
+     *
+     * @param key The key to store it under.
+     * @param values The integers.
+     * @throws IOException If the file cannot be written.
+     */
+    public synchronized void putInts(String key, int[] values) throws IOException
+    {
+        ByteBuffer payload = ByteBuffer.allocate(values.length * Integer.BYTES);
+        payload.asIntBuffer().put(values);
+        append(key, s_intsType, payload.array());
+    }
+
+    /**
+     * Get a list of integers, computing and storing it first if there is none.
+     *
+     * @param key The key it is stored under.
+     * @param compute Computes the list if it is not stored.
+     * @return A read-only view of the list in the file.
+     * @throws IOException If the file cannot be read or written.
+     */
+    public synchronized IntBuffer getInts(String key, Supplier<int[]> compute) throws IOException
+    {
+        IntBuffer values = getInts(key);
+        if (null == values)
+        {
+            putInts(key, compute.get());
+            values = getInts(key);
+        }
+        return values;
+    }
+
+    /**
+     * Get a list of strings.
+     *
+     * @param key The key it was stored under.
+     * @return The strings, or null if there are none.
+     * @throws IOException If the file cannot be read or is corrupt.
+     */
+    public synchronized List<String> getStrings(String key) throws IOException
+    {
+        ByteBuffer payload = find(key, s_stringsType);
+        if (null == payload)
+        {
+            return null;
+        }
+
+        String[] strings = new String[payload.getInt()];
+        for (int i = 0; i < strings.length; ++i)
+        {
+            byte[] bytes = new byte[payload.getInt()];
+            payload.get(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return Collections.unmodifiableList(Arrays.asList(strings));
+    }
+
+    /**
+     * Store a list of strings, replacing any stored under the same key.
+     *
+     * @param key The key to store it under.
+     * @param strings The strings.
+     * @throws IOException If the file cannot be written.
+     */
+    public synchronized void putStrings(String key, List<String> strings) throws IOException
+    {
+        List<byte[]> encoded = new ArrayList<byte[]>(strings.size());
+        int length = Integer.BYTES;
+        for (String string : strings)
+        {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            encoded.add(bytes);
+            length += Integer.BYTES + bytes.length;
+        }
+
+        ByteBuffer payload = ByteBuffer.allocate(length);
+        payload.putInt(encoded.size());
+        for (byte[] bytes : encoded)
+        {
+            payload.putInt(bytes.length).put(bytes);
+        }
+        append(key, s_stringsType, payload.array());
+    }
+
+    /**
+     * Get a list of strings, computing and storing it first if there is none.
+     *
+     * @param key The key it is stored under.
+     * @param compute Computes the list if it is not stored.
+     * @return The strings.
+     * @throws IOException If the file cannot be read or written.
+     */
+    public synchronized List<String> getStrings(String key, Supplier<List<String>> compute) throws IOException
+    {
+        List<String> strings = getStrings(key);
+        if (null == strings)
+        {
+            putStrings(key, compute.get());
+            strings = getStrings(key);
+        }
+        return strings;
+    }
+
+    /**
+     * Get every occurrence of a Calendar Round date within a range of Long Count dates, computing and storing them
+     * first if they are not stored.
+     *
+     * @param calendarRound The Calendar Round date.
+     * @param start The minimum date, inclusive.
+     * @param end The maximum date, exclusive.
+     * @return A read-only view of the integer representations of the occurrences in the file, in ascending order.
+     * @throws IOException If the file cannot be read or written.
+     */
+    public IntBuffer occurrences(CalendarRoundDate calendarRound, LongCountDate start, LongCountDate end)
+        throws IOException
+    {
+        if (null == calendarRound || null == start || null == end)
+        {
+            throw new NullPointerException("Date parameters must not be null.");
+        }
+
+        return getInts("occurrences/" + calendarRound.toInt() + "/" + start.toInt() + "/" + end.toInt(),
+            () -> ShardWorker.occurrences(new int[] { calendarRound.toInt() }, start.toInt(), end.toInt())
+                .toIntArray());
+    }
+
+    /**
+     * @return The number of keys stored.
+     * @throws IOException If the file cannot be read or is corrupt.
+     */
+    public synchronized int size() throws IOException
+    {
+        refresh();
+        return m_index.size();
+    }
+
+    /**
+     * Copy the live entries to a new file, which replaces this one for every process.
+     *
+     * @throws IOException If the file cannot be rewritten.
+     */
+    public synchronized void compact() throws IOException
+    {
+        FileLock lock = lock();
+        try
+        {
+            File temporary = new File(m_file.getPath() + ".tmp");
+            try (FileChannel out = FileChannel.open(temporary.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE))
+            {
+                long end = s_headerLength;
+                List<Integer> live = new ArrayList<Integer>(m_index.values());
+                Collections.sort(live);
+                for (int offset : live)
+                {
+                    ByteBuffer entry = m_map.duplicate();
+                    entry.position(offset).limit(offset + entry.getInt(offset));
+                    end += writeFully(out, entry, end);
+                }
+                writeFully(out, header(end, live.size(), 0), 0);
+                out.force(true);
+            }
+            Files.move(temporary.toPath(), m_file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+
+            // Direct everyone still using the old file to the new one
+            ByteBuffer header = m_map.duplicate();
+            header.position(0).limit(s_headerLength);
+            writeFully(m_channel, header(header.getLong(8), header.getInt(16), s_staleFlag), 0);
+            m_channel.force(true);
+        }
+        finally
+        {
+            lock.release();
+        }
+        reopen();
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.io.Closeable#close()
+     */
+    @Override
+    public synchronized void close() throws IOException
+    {
+        m_map = null;
+        m_channel.close();
+    }
+
+    private void open() throws IOException
+    {
+        Path path = m_file.toPath();
+        while (true)
+        {
+            // The channel is to the file seen before and after opening it only if both are the same file
+            Object before = fileKey(path);
+            m_channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+            m_fileKey = fileKey(path);
+            if (Objects.equals(before, m_fileKey))
+            {
+                break;
+            }
+            m_channel.close();
+        }
+
+        if (m_channel.size() < s_headerLength)
+        {
+            FileLock lock = m_channel.lock();
+            try
+            {
+                // Another process may have created the header while this one waited for the lock
+                if (m_channel.size() < s_headerLength)
+                {
+                    writeFully(m_channel, header(s_headerLength, 0, 0), 0);
+                    m_channel.force(true);
+                }
+            }
+            finally
+            {
+                lock.release();
+            }
+        }
+
+        m_index.clear();
+        m_indexedEnd = s_headerLength;
+        m_deadBytes = 0;
+        m_map = null;
+        refresh();
+    }
+
+    private void reopen() throws IOException
+    {
+        m_channel.close();
+        open();
+    }
+
+    /**
+     * Find the payload of the latest entry for a key.
+     */
+    private ByteBuffer find(String key, int type) throws IOException
+    {
+        if (null == key)
+        {
+            throw new NullPointerException("Key must not be null.");
+        }
+
+        refresh();
+        Integer offset = m_index.get(key);
+        if (null == offset)
+        {
+            return null;
+        }
+
+        ByteBuffer entry = m_map.duplicate();
+        if (entry.getInt(offset + 4) != type)
+        {
+            throw new IOException("\"" + key + "\" holds a different type of result.");
+        }
+        int payloadStart = offset + s_entryHeaderLength + padded(entry.getInt(offset + 8));
+        entry.position(payloadStart).limit(payloadStart + entry.getInt(offset + 12));
+        return entry.slice().asReadOnlyBuffer();
+    }
+
+    private void append(String key, int type, byte[] payload) throws IOException
+    {
+        if (null == key)
+        {
+            throw new NullPointerException("Key must not be null.");
+        }
+
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        int length = s_entryHeaderLength + padded(keyBytes.length) + padded(payload.length) + Integer.BYTES;
+        ByteBuffer entry = ByteBuffer.allocate(length);
+        entry.putInt(length).putInt(type).putInt(keyBytes.length).putInt(payload.length);
+        entry.put(keyBytes).position(s_entryHeaderLength + padded(keyBytes.length));
+        entry.put(payload).position(length - Integer.BYTES);
+        entry.putInt(checksum(entry, 0, length - Integer.BYTES));
+        entry.flip();
+
+        FileLock lock = lock();
+        try
+        {
+            // Entries appended by other processes come first
+            ByteBuffer header = readHeader();
+            long end = header.getLong(8);
+            writeFully(m_channel, entry, end);
+            m_channel.force(false);
+
+            // The entry is committed once the header includes it
+            writeFully(m_channel, header(end + length, header.getInt(16) + 1, 0), 0);
+            m_channel.force(false);
+        }
+        finally
+        {
+            lock.release();
+        }
+        refresh();
+
+        if (m_deadBytes > m_indexedEnd / 2 && m_indexedEnd > s_compactionThreshold)
+        {
+            compact();
+        }
+    }
+
+    /**
+     * Take the lock for writing, reopening the file first if it has been replaced: either marked stale, or no longer
+     * the file at its path, if the process that replaced it died before marking it.
+     */
+    private FileLock lock() throws IOException
+    {
+        while (true)
+        {
+            FileLock lock = m_channel.lock();
+            if ((readHeader().getShort(6) & s_staleFlag) == 0 && Objects.equals(m_fileKey, fileKey(m_file.toPath())))
+            {
+                refresh();
+                return lock;
+            }
+            lock.release();
+            reopen();
+        }
+    }
+
+    /**
+     * Index any entries committed since the last refresh, reopening the file if it has been replaced.
+     */
+    private void refresh() throws IOException
+    {
+        ByteBuffer header = readHeader();
+        if ((header.getShort(6) & s_staleFlag) != 0)
+        {
+            reopen();
+            return;
+        }
+
+        long end = header.getLong(8);
+        if (end == m_indexedEnd && m_map != null)
+        {
+            return;
+        }
+        if (end > Integer.MAX_VALUE)
+        {
+            throw new IOException(m_file + " is too large to map.");
+        }
+
+        m_map = m_channel.map(FileChannel.MapMode.READ_ONLY, 0, end);
+        while (m_indexedEnd < end)
+        {
+            int offset = (int) m_indexedEnd;
+            int length = m_map.getInt(offset);
+            if (length < s_entryHeaderLength + Integer.BYTES || offset + (long) length > end)
+            {
+                throw new IOException(m_file + " has a corrupt entry at " + offset + ".");
+            }
+            if (m_map.getInt(offset + length - Integer.BYTES) != checksum(m_map, offset, length - Integer.BYTES))
+            {
+                throw new IOException(m_file + " has an entry at " + offset + " that fails its checksum.");
+            }
+
+            byte[] key = new byte[m_map.getInt(offset + 8)];
+            m_map.get(offset + s_entryHeaderLength, key);
+            Integer previous = m_index.put(new String(key, StandardCharsets.UTF_8), offset);
+            if (previous != null)
+            {
+                m_deadBytes += m_map.getInt(previous);
+            }
+            m_indexedEnd += length;
+        }
+    }
+
+    /**
+     * Read and check the header, retrying in case it is read while another process is writing it.
+     */
+    private ByteBuffer readHeader() throws IOException
+    {
+        ByteBuffer header = ByteBuffer.allocate(s_headerLength);
+        for (int attempt = 0; attempt < s_headerAttempts; ++attempt)
+        {
+            header.clear();
+            while (header.hasRemaining() && m_channel.read(header, header.position()) >= 0)
+            {
+            }
+            if (header.hasRemaining())
+            {
+                throw new IOException(m_file + " is not a result cache.");
+            }
+
+            if (header.getInt(s_headerLength - Integer.BYTES) == checksum(header, 0, s_headerLength - Integer.BYTES))
+            {
+                if (header.getInt(0) != s_magic)
+                {
+                    throw new IOException(m_file + " is not a result cache.");
+                }
+                if (header.getShort(4) != s_version)
+                {
+                    throw new IOException(m_file + " has unsupported version " + header.getShort(4) + ".");
+                }
+                return header;
+            }
+            Thread.yield();
+        }
+        throw new IOException(m_file + " has a corrupt header.");
+    }
+
+    private static ByteBuffer header(long end, int count, int flags)
+    {
+        ByteBuffer header = ByteBuffer.allocate(s_headerLength);
+        header.putInt(s_magic).putShort(s_version).putShort((short) flags).putLong(end).putInt(count);
+        header.putInt(s_headerLength - Integer.BYTES, checksum(header, 0, s_headerLength - Integer.BYTES));
+        header.clear();
+        return header;
+    }
+
+    private static int checksum(ByteBuffer buffer, int offset, int length)
+    {
+        ByteBuffer range = buffer.duplicate();
+        range.clear().position(offset).limit(offset + length);
+        CRC32 crc = new CRC32();
+        crc.update(range);
+        return (int) crc.getValue();
+    }
+
+    private static int writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException
+    {
+        int written = 0;
+        while (buffer.hasRemaining())
+        {
+            written += channel.write(buffer, position + written);
+        }
+        return written;
+    }
+
+    /**
+     * Identify the file at a path, or give s_noFile if there is none. The key is null if the platform cannot identify
+     * files, in which case replacements are only noticed by the stale flag.
+     */
+    private static Object fileKey(Path path) throws IOException
+    {
+        try
+        {
+            return Files.readAttributes(path, BasicFileAttributes.class).fileKey();
+        }
+        catch (NoSuchFileException e)
+        {
+            return s_noFile;
+        }
+    }
+
+    /**
+     * Round a length up so that what follows it is aligned for reading integers in place.
+     */
+    private static int padded(int length)
+    {
+        return (length + Integer.BYTES - 1) & -Integer.BYTES;
+    }
+
+    // Identifies cache files, and the version of their format
+    private static final int s_magic = 0x4D594E43;
+
+    private static final short s_version = 1;
+
+    // Magic, version, flags, end of the committed entries, number of entries, padding and checksum
+    private static final int s_headerLength = 32;
+
+    // Length, type, key length and payload length; followed by the key, the payload and the checksum
+    private static final int s_entryHeaderLength = 16;
+
+    private static final int s_intsType = 1;
+
+    private static final int s_stringsType = 2;
+
+    // Set in the header of a file that has been replaced by compaction
+    private static final int s_staleFlag = 1;
+
+    // Files smaller than this are not worth compacting automatically
+    private static final long s_compactionThreshold = 1 << 20;
+
+    private static final int s_headerAttempts = 100;
+
+    // The key of a path with no file
+    private static final Object s_noFile = new Object();
+}
@@ -0,0 +1,75 @@
+/**
+ *
+ */
+package icd3;
+
+/**
+ * The portable decomposition kernel, using plain integer division.
+ */
+final class ScalarDecompositionKernel extends DecompositionKernel
+{
+    static final ScalarDecompositionKernel INSTANCE = new ScalarDecompositionKernel();
+
+    private ScalarDecompositionKernel()
+    {
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see icd3.ConversionOperations#decomposeLongCount(int[], int[][])
+     */
+    @Override
+    public void decomposeLongCount(int[] values, int[][] places)
+    {
+        checkLengths(values, places);
+        BulkConversionEvent event = beginConversion();
+
+        LongCountDate.Period[] periods = LongCountDate.Period.values();
+
+        for (int i = 0; i < values.length; ++i)
+        {
+            // Clamp the value to be non-negative, as LongCountDate does
+            int value = values[i] < 0 ? 0 : values[i];
+
+            for (int p = periods.length - 1; p >= 0; --p)
+            {
+                int placeValue = value / periods[p].days();
+                value -= placeValue * periods[p].days();
+                places[p][i] = placeValue;
+            }
+        }
+
+        endConversion(event, "decomposeLongCount", values.length);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see icd3.ConversionOperations#decomposeCalendarRound(int[], int[], int[], int[], int[])
+     */
+    @Override
+    public void decomposeCalendarRound(int[] values, int[] tzolkinNumerals, int[] tzolkinDays, int[] haabNumerals,
+                                       int[] haabMonths)
+    {
+        checkLengths(values, tzolkinNumerals, tzolkinDays, haabNumerals, haabMonths);
+        BulkConversionEvent event = beginConversion();
+
+        for (int i = 0; i < values.length; ++i)
+        {
+            // Widen so that adding the zero day cannot overflow
+            long value = values[i] < 0 ? 0 : values[i];
+            int calendarRound = (int) ((s_zeroDay + value) % s_calendarRoundCycle);
+
+            // Both cycles divide the Calendar Round, so its components can be read from the cyclic date tables
+            int tzolkin = CalendarTables.tzolkinComponents(calendarRound % s_tzolkinCycle);
+            int haab = CalendarTables.haabComponents(CalendarRoundDate.haab(calendarRound));
+            tzolkinNumerals[i] = CalendarTables.numeral(tzolkin);
+            tzolkinDays[i] = CalendarTables.name(tzolkin);
+            haabNumerals[i] = CalendarTables.numeral(haab);
+            haabMonths[i] = CalendarTables.name(haab);
+        }
+
+        endConversion(event, "decomposeCalendarRound", values.length);
+    }
+}
@@ -0,0 +1,195 @@
+/**
+ *
+ */
+package icd3;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.CRC32;
+
+/**
+ * The work of one shard of a ShardedJob, run in its own JVM: every occurrence of a set of Calendar Round dates within a
+ * range of Long Count dates, written to a file in ascending order.
+ *
+ * Files are written to a temporary name and moved into place when complete, so a file that exists under its final name
+ * can always be read in full. Each records the range and the set of Calendar Round dates it was found for, so that a
+ * result left by a different job is not mistaken for one of this job's.
+ */
+public class ShardWorker
+{
+    /**
+     * Find the occurrences of Calendar Round dates within a range of Long Count dates.
+     *
+     * @param calendarRounds The integer representations of the Calendar Round dates.
+     * @param start The integer representation of the minimum date, inclusive.
+     * @param end The integer representation of the maximum date, exclusive.
+     * @return Every occurrence in ascending order.
+     */
+    public static LongCountDateList occurrences(int[] calendarRounds, int start, int end)
+    {
+        int cycle = new CalendarRoundDate(0).cycle();
+
+        // Each date's occurrences are already sorted, so a k-way merge of them sorts the whole shard
+        LongCountDateList[] lists = new LongCountDateList[calendarRounds.length];
+        for (int i = 0; i < calendarRounds.length; ++i)
+        {
+            LongCountSequence sequence = LongCountSequence.within(LongCountDate.firstOccurrence(calendarRounds[i],
+                start), cycle, start, end);
+            lists[i] = LongCountDateList.of(sequence.toIntArray());
+        }
+        return LongCountDateList.merge(lists);
+    }
+
+    /**
+     * Identify a set of Calendar Round dates, so that results can be checked against the dates they were found for.
+     *
+     * @param calendarRounds The integer representations of the Calendar Round dates, in order.
+     * @return A CRC-32 checksum of the dates.
+     */
+    public static int query(int[] calendarRounds)
+    {
+        ByteBuffer bytes = ByteBuffer.allocate(calendarRounds.length * Integer.BYTES);
+        bytes.asIntBuffer().put(calendarRounds);
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Write integer representations to a file, replacing it atomically.
+     *
+     * @param file The file to write.
+     * @param start The minimum date of the range the values were found in, recorded so readers can check it.
+     * @param end The maximum date of that range.
+     * @param query The query the values answer, as given by query, recorded so readers can check it.
+     * @param values The values to write.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void write(File file, int start, int end, int query, int[] values) throws IOException
+    {
+        File temporary = new File(file.getPath() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporary))))
+        {
+            out.writeInt(s_magic);
+            out.writeInt(start);
+            out.writeInt(end);
+            out.writeInt(query);
+            out.writeInt(values.length);
+            for (int value : values)
+            {
+                out.writeInt(value);
+            }
+        }
+        Files.move(temporary.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Read integer representations written by write, checking that they answer the expected query over the expected
+     * range.
+     *
+     * @param file The file to read.
+     * @param start The expected minimum date of the range.
+     * @param end The expected maximum date of the range.
+     * @param query The expected query.
+     * @return The values.
+     * @throws IOException If the file cannot be read, or does not hold a complete result for the query and range.
+     */
+    public static int[] read(File file, int start, int end, int query) throws IOException
+    {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file))))
+        {
+            if (in.readInt() != s_magic || in.readInt() != start || in.readInt() != end || in.readInt() != query)
+            {
+                throw new IOException(file + " does not hold the result for " + start + " to " + end + ".");
+            }
+
+            int count = in.readInt();
+            if (count < 0 || count > (file.length() - s_headerLength) / Integer.BYTES)
+            {
+                throw new IOException(file + " is truncated.");
+            }
+
+            int[] values = new int[count];
+            for (int i = 0; i < count; ++i)
+            {
+                values[i] = in.readInt();
+            }
+            return values;
+        }
+        catch (EOFException e)
+        {
+            throw new IOException(file + " is truncated.", e);
+        }
+    }
+
+    /**
+     * Tell whether a file holds a complete result for a query over a range, reading only as far as its header.
+     *
+     * @param file The file.
+     * @param start The expected minimum date of the range.
+     * @param end The expected maximum date of the range.
+     * @param query The expected query.
+     * @return Whether read would succeed.
+     */
+    public static boolean holds(File file, int start, int end, int query)
+    {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file))))
+        {
+            return in.readInt() == s_magic && in.readInt() == start && in.readInt() == end && in.readInt() == query
+                && file.length() == s_headerLength + (long) in.readInt() * Integer.BYTES;
+        }
+        catch (IOException e)
+        {
+            return false;
+        }
+    }
+
+    /**
+     * Run one shard.
+     *
+     * @param args The minimum date, inclusive; the maximum date, exclusive; the query, as given by query; the file of
+     *            Calendar Round dates, as written by write; and the file to write the occurrences to.
+     */
+    public static void main(String[] args)
+    {
+        if (args.length != 5)
+        {
+            System.err.println("Usage: ShardWorker <start> <end> <query> <calendar rounds file> <output file>");
+            System.exit(2);
+        }
+
+        try
+        {
+            int start = Integer.parseInt(args[0]);
+            int end = Integer.parseInt(args[1]);
+            int query = Integer.parseInt(args[2]);
+
+            // The Calendar Round dates are not found in a range, so they are recorded with an empty one
+            int[] calendarRounds = read(new File(args[3]), 0, 0, query);
+
+            write(new File(args[4]), start, end, query, occurrences(calendarRounds, start, end).toIntArray());
+        }
+        catch (IOException | RuntimeException e)
+        {
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    // Identifies the files written here, and the version of their format
+    private static final int s_magic = 0x4D594E32;
+
+    // Magic, start, end, query and count
+    private static final int s_headerLength = 5 * Integer.BYTES;
+}
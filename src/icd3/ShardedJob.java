@@ -0,0 +1,351 @@
+/**
+ *
+ */
+package icd3;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Finds every occurrence of a set of Calendar Round dates across a range of Long Count dates by splitting the range
+ * into shards and running each in a separate worker JVM.
+ *
+ * Shard boundaries fall on multiples of the Calendar Round cycle, and depend only on the range and the number of
+ * shards, so the same job always produces the same shards. Each shard leaves its sorted result in a file in the work
+ * directory; running the job again only reruns the shards without one, so failed shards can be restarted alone. A
+ * result records the range and Calendar Round dates it was found for, and is only reused by a job with the same ones.
+ * Workers that run longer than a timeout are killed and count as failed attempts.
+ */
+public class ShardedJob
+{
+    private final int[] m_calendarRounds;
+
+    /**
+     * Identifies the Calendar Round dates in the files of this job, as ShardWorker#query gives
+     */
+    private final int m_query;
+
+    /**
+     * Boundaries between shards, so that shard i covers [m_boundaries[i], m_boundaries[i + 1])
+     */
+    private final int[] m_boundaries;
+
+    private final File m_directory;
+
+    private int m_parallelism = Runtime.getRuntime().availableProcessors();
+
+    private int m_attempts = s_defaultAttempts;
+
+    private long m_timeoutMillis = s_defaultTimeoutMillis;
+
+    /**
+     * Instantiates a job.
+     *
+     * @param calendarRounds The Calendar Round dates to find.
+     * @param start The minimum date, inclusive.
+     * @param end The maximum date, exclusive.
+     * @param shards The number of shards to split the range into.
+     * @param directory The directory to keep shard inputs and results in.
+     */
+    public ShardedJob(CalendarRoundDateList calendarRounds, LongCountDate start, LongCountDate end, int shards,
+                      File directory)
+    {
+        if (null == calendarRounds || null == start || null == end || null == directory)
+        {
+            throw new NullPointerException("Parameters must not be null.");
+        }
+        if (shards < 1)
+        {
+            throw new IllegalArgumentException("There must be at least one shard.");
+        }
+
+        m_calendarRounds = calendarRounds.toIntArray();
+        m_query = ShardWorker.query(m_calendarRounds);
+        m_boundaries = partition(start.toInt(), Math.max(start.toInt(), end.toInt()), shards);
+        m_directory = directory;
+    }
+
+    /**
+     * Split a range into shards whose inner boundaries are multiples of the Calendar Round cycle.
+     *
+     * @param start The minimum date, inclusive.
+     * @param end The maximum date, exclusive.
+     * @param shards The number of shards.
+     * @return The shards + 1 boundaries, from start to end. Shards are empty when there are fewer whole cycles than
+     *         shards.
+     */
+    static int[] partition(int start, int end, int shards)
+    {
+        long cycle = new CalendarRoundDate(0).cycle();
+        long firstBoundary = (start + cycle - 1) / cycle * cycle;
+        long cycles = Math.max(0, end / cycle * cycle - firstBoundary) / cycle;
+
+        int[] boundaries = new int[shards + 1];
+        boundaries[0] = start;
+        for (int i = 1; i < shards; ++i)
+        {
+            boundaries[i] = (int) Math.min(end, firstBoundary + cycles * i / shards * cycle);
+        }
+        boundaries[shards] = end;
+        return boundaries;
+    }
+
+    /**
+     * Set the number of worker JVMs run at once.
+     *
+     * @param parallelism The positive number of workers.
+     */
+    public void setParallelism(int parallelism)
+    {
+        if (parallelism < 1)
+        {
+            throw new IllegalArgumentException("Parallelism must be positive.");
+        }
+        m_parallelism = parallelism;
+    }
+
+    /**
+     * Set the number of times a shard is tried before the job fails.
+     *
+     * @param attempts The positive number of attempts.
+     */
+    public void setAttempts(int attempts)
+    {
+        if (attempts < 1)
+        {
+            throw new IllegalArgumentException("Attempts must be positive.");
+        }
+        m_attempts = attempts;
+    }
+
+    /**
+     * Set how long a worker JVM may run before it is killed and its attempt counted as failed.
+     *
+     * @param timeout The positive length of time.
+     * @param unit The unit of the length of time.
+     */
+    public void setTimeout(long timeout, TimeUnit unit)
+    {
+        if (null == unit)
+        {
+            throw new NullPointerException("Unit must not be null.");
+        }
+        if (timeout < 1)
+        {
+            throw new IllegalArgumentException("Timeout must be positive.");
+        }
+        m_timeoutMillis = Math.max(1, unit.toMillis(timeout));
+    }
+
+    /**
+     * @return The number of shards.
+     */
+    public int getShardCount()
+    {
+        return m_boundaries.length - 1;
+    }
+
+    /**
+     * @param shard The index of a shard.
+     * @return The integer representation of the shard's minimum date, inclusive.
+     */
+    public int getShardStart(int shard)
+    {
+        return m_boundaries[shard];
+    }
+
+    /**
+     * @param shard The index of a shard.
+     * @return The integer representation of the shard's maximum date, exclusive.
+     */
+    public int getShardEnd(int shard)
+    {
+        return m_boundaries[shard + 1];
+    }
+
+    /**
+     * Give the file holding a shard's result.
+     *
+     * @param shard The index of a shard.
+     * @return The file, which exists once the shard has completed.
+     */
+    public File getResultFile(int shard)
+    {
+        return new File(m_directory, "shard-" + shard + ".bin");
+    }
+
+    /**
+     * Tell whether a shard has a complete result.
+     *
+     * @param shard The index of a shard.
+     * @return Whether its result file holds a complete result for this job's range and Calendar Round dates.
+     */
+    public boolean isComplete(int shard)
+    {
+        return ShardWorker.holds(getResultFile(shard), getShardStart(shard), getShardEnd(shard), m_query);
+    }
+
+    /**
+     * Run every shard that has not completed, retrying failures, then merge the results.
+     *
+     * @return Every occurrence in ascending order.
+     * @throws IOException If a shard still fails after every attempt, or the results cannot be read.
+     * @throws InterruptedException If interrupted while waiting for workers.
+     */
+    public LongCountDateList run() throws IOException, InterruptedException
+    {
+        writeCalendarRounds();
+
+        ExecutorService executor = Executors.newFixedThreadPool(m_parallelism);
+        try
+        {
+            List<Future<Boolean>> results = new ArrayList<Future<Boolean>>();
+            for (int shard = 0; shard < getShardCount(); ++shard)
+            {
+                int index = shard;
+                results.add(executor.submit(() -> runWithRetries(index)));
+            }
+
+            List<Integer> failed = new ArrayList<Integer>();
+            for (int shard = 0; shard < results.size(); ++shard)
+            {
+                try
+                {
+                    if (!results.get(shard).get())
+                    {
+                        failed.add(shard);
+                    }
+                }
+                catch (ExecutionException e)
+                {
+                    throw new IOException("Shard " + shard + " could not be run.", e.getCause());
+                }
+            }
+            if (!failed.isEmpty())
+            {
+                throw new IOException("Shards " + failed + " failed after " + m_attempts + " attempts.");
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        return merge();
+    }
+
+    /**
+     * Run one shard in a worker JVM, whether or not it has completed before.
+     *
+     * @param shard The index of the shard.
+     * @return Whether the worker succeeded.
+     * @throws IOException If the worker cannot be started.
+     * @throws InterruptedException If interrupted while waiting for the worker.
+     */
+    public boolean runShard(int shard) throws IOException, InterruptedException
+    {
+        writeCalendarRounds();
+        return execute(shard);
+    }
+
+    private boolean execute(int shard) throws IOException, InterruptedException
+    {
+        File java = new File(new File(System.getProperty("java.home"), "bin"), "java");
+        ProcessBuilder builder = new ProcessBuilder(java.getPath(), "-cp", classPath(), ShardWorker.class.getName(),
+            Integer.toString(getShardStart(shard)), Integer.toString(getShardEnd(shard)), Integer.toString(m_query),
+            getCalendarRoundsFile().getPath(), getResultFile(shard).getPath());
+        builder.redirectErrorStream(true);
+        builder.redirectOutput(new File(m_directory, "shard-" + shard + ".log"));
+
+        Process process = builder.start();
+        try
+        {
+            if (!process.waitFor(m_timeoutMillis, TimeUnit.MILLISECONDS))
+            {
+                // A worker that hangs is killed, so that it can be retried instead of holding up the job
+                process.destroyForcibly().waitFor();
+                return false;
+            }
+            return process.exitValue() == 0 && isComplete(shard);
+        }
+        finally
+        {
+            process.destroy();
+        }
+    }
+
+    /**
+     * Merge the results of every shard.
+     *
+     * @return Every occurrence in ascending order.
+     * @throws IOException If a shard has not completed or its result cannot be read.
+     */
+    public LongCountDateList merge() throws IOException
+    {
+        LongCountDateList[] partials = new LongCountDateList[getShardCount()];
+        for (int shard = 0; shard < partials.length; ++shard)
+        {
+            partials[shard] = LongCountDateList.of(ShardWorker.read(getResultFile(shard), getShardStart(shard),
+                getShardEnd(shard), m_query));
+        }
+        return LongCountDateList.merge(partials);
+    }
+
+    private boolean runWithRetries(int shard) throws IOException, InterruptedException
+    {
+        for (int attempt = 0; attempt < m_attempts && !isComplete(shard); ++attempt)
+        {
+            execute(shard);
+        }
+        return isComplete(shard);
+    }
+
+    private File getCalendarRoundsFile()
+    {
+        return new File(m_directory, "calendar-rounds.bin");
+    }
+
+    private synchronized void writeCalendarRounds() throws IOException
+    {
+        if (!m_directory.isDirectory() && !m_directory.mkdirs())
+        {
+            throw new IOException("Cannot create " + m_directory + ".");
+        }
+
+        // The Calendar Round dates are not found in a range, so they are recorded with an empty one
+        ShardWorker.write(getCalendarRoundsFile(), 0, 0, m_query, m_calendarRounds);
+    }
+
+    /**
+     * Give the class path that ShardWorker was loaded from, which workers need to find it.
+     */
+    private static String classPath()
+    {
+        CodeSource source = ShardWorker.class.getProtectionDomain().getCodeSource();
+        try
+        {
+            if (source != null)
+            {
+                return new File(source.getLocation().toURI()).getPath();
+            }
+        }
+        catch (URISyntaxException e)
+        {
+            // Fall back to this JVM's own class path
+        }
+        return System.getProperty("java.class.path");
+    }
+
+    private static final int s_defaultAttempts = 3;
+
+    private static final long s_defaultTimeoutMillis = TimeUnit.MINUTES.toMillis(30);
+}
@@ -0,0 +1,91 @@
+/**
+ *
+ */
+package icd3;
+
+import java.util.Set;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.MetadataDefinition;
+import jdk.jfr.Name;
+import jdk.jfr.SettingControl;
+
+/**
+ * A Flight Recorder setting that drops events smaller than a configured number of dates, so that recordings can be
+ * limited to large operations as well as slow ones.
+ *
+ * Configure it as minimumSize on any of the calendar events, alongside the standard threshold setting. An event is
+ * recorded only if it passes both, so set either to zero to filter by the other alone.
+ */
+@MetadataDefinition
+@Name("icd3.SizeThreshold")
+@Label("Minimum Size")
+@Description("Record only operations on at least this many dates")
+public final class SizeThreshold extends SettingControl
+{
+    private long m_minimum;
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see jdk.jfr.SettingControl#combine(java.util.Set)
+     */
+    @Override
+    public String combine(Set<String> values)
+    {
+        // When several recordings ask for different minimums, record enough to satisfy the most inclusive
+        long minimum = values.isEmpty() ? 0 : Long.MAX_VALUE;
+        for (String value : values)
+        {
+            minimum = Math.min(minimum, parse(value));
+        }
+        return Long.toString(minimum);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see jdk.jfr.SettingControl#setValue(java.lang.String)
+     */
+    @Override
+    public void setValue(String value)
+    {
+        m_minimum = parse(value);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see jdk.jfr.SettingControl#getValue()
+     */
+    @Override
+    public String getValue()
+    {
+        return Long.toString(m_minimum);
+    }
+
+    /**
+     * Tell whether an operation is large enough to record.
+     *
+     * @param size The number of dates the operation handled.
+     * @return Whether it meets the minimum.
+     */
+    boolean accept(long size)
+    {
+        return size >= m_minimum;
+    }
+
+    private static long parse(String value)
+    {
+        try
+        {
+            return Long.parseLong(value.trim());
+        }
+        catch (NumberFormatException e)
+        {
+            // Recordings may carry settings meant for other versions; an unreadable one filters nothing
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/**
+ *
+ */
+package icd3;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Writes the CalendarTables constants into the source of CalendarTableData at build time.
+ */
+public class TableGenerator
+{
+    /**
+     * Generate the source, leaving the file untouched if it is already current.
+     *
+     * @param args The path of CalendarTableData.java.
+     * @throws IOException If the source cannot be read or written.
+     */
+    public static void main(String[] args) throws IOException
+    {
+        if (args.length != 1)
+        {
+            throw new IllegalArgumentException("Usage: TableGenerator <path to CalendarTableData.java>");
+        }
+
+        Path path = Paths.get(args[0]);
+        byte[] source = generate().getBytes(StandardCharsets.US_ASCII);
+
+        // Keep the timestamp of a current file, so that the build does not recompile it
+        if (!Files.exists(path) || !java.util.Arrays.equals(Files.readAllBytes(path), source))
+        {
+            Files.write(path, source);
+        }
+    }
+
+    /**
+     * Generate the source of CalendarTableData.
+     *
+     * @return The Java source.
+     */
+    public static String generate()
+    {
+        StringBuilder builder = new StringBuilder();
+        builder.append("/**\n *\n */\npackage icd3;\n\n");
+        builder.append("/**\n * Precomputed lookup tables, unpacked by CalendarTables.\n *\n");
+        builder.append(" * Generated by TableGenerator during the build. Do not edit.\n */\n");
+        builder.append("final class CalendarTableData\n{\n");
+        builder.append("    private CalendarTableData()\n    {\n    }\n");
+
+        appendConstant(builder, "TZOLKIN_NAMES", join(CalendarTables.computeTzolkinNames()));
+        appendConstant(builder, "HAAB_NAMES", join(CalendarTables.computeHaabNames()));
+        appendConstant(builder, "TZOLKIN_COMPONENTS", new String(CalendarTables.computeTzolkinComponents()));
+        appendConstant(builder, "HAAB_COMPONENTS", new String(CalendarTables.computeHaabComponents()));
+
+        builder.append("}\n");
+        return builder.toString();
+    }
+
+    private static String join(String[] names)
+    {
+        StringBuilder builder = new StringBuilder();
+        for (String name : names)
+        {
+            builder.append(name).append(CalendarTables.s_separator);
+        }
+        return builder.toString();
+    }
+
+    private static void appendConstant(StringBuilder builder, String name, String value)
+    {
+        builder.append("\n    static final String ").append(name).append(" =\n            \"");
+
+        int lineStart = builder.length();
+        for (int i = 0; i < value.length(); ++i)
+        {
+            // Wrap the literal after each name, or once a line of packed values gets long
+            if (i > 0 && (value.charAt(i - 1) == CalendarTables.s_separator
+                    || builder.length() - lineStart >= s_charsPerLine))
+            {
+                builder.append("\"\n            + \"");
+                lineStart = builder.length();
+            }
+            appendEscaped(builder, value.charAt(i));
+        }
+        builder.append("\";\n");
+    }
+
+    private static void appendEscaped(StringBuilder builder, char c)
+    {
+        // Unicode escapes are translated before the literal is parsed, so line breaks, quotes and backslashes need
+        // their ordinary escapes
+        switch (c)
+        {
+        case '\n':
+            builder.append("\\n");
+            break;
+        case '\r':
+            builder.append("\\r");
+            break;
+        case '"':
+        case '\\':
+            builder.append('\\').append(c);
+            break;
+        default:
+            if (c >= ' ' && c < 0x7f)
+            {
+                builder.append(c);
+            }
+            else
+            {
+                builder.append(String.format("\\u%04x", (int) c));
+            }
+        }
+    }
+
+    private static final int s_charsPerLine = 72;
+}
@@ -0,0 +1,221 @@
+/**
+ *
+ */
+package icd3;
+
+import java.util.Arrays;
+
+/**
+ * An immutable in-memory index of dated records, answering Long Count range queries and Calendar Round queries with
+ * the ids of the matching records.
+ *
+ * Records are held sorted by date in primitive arrays, so a range is found by binary search. Alongside, every record is
+ * bucketed by the Calendar Round date falling on it: bucket offsets index one array of ids, grouped by Calendar Round
+ * and sorted by date within each group, so a Calendar Round query is a single lookup.
+ */
+public class TimelineIndex
+{
+    /**
+     * Integer representations of the records' Long Count dates, in ascending order
+     */
+    private final int[] m_dates;
+
+    /**
+     * Record ids, in the same order as m_dates
+     */
+    private final int[] m_ids;
+
+    /**
+     * Start of each Calendar Round bucket in m_bucketDates and m_bucketIds, with one extra entry marking the end
+     */
+    private final int[] m_bucketOffsets;
+
+    private final int[] m_bucketDates;
+
+    private final int[] m_bucketIds;
+
+    /**
+     * Instantiates an index of records identified by their position.
+     *
+     * @param dates The integer representations of each record's Long Count date. Negatives are interpreted as zero.
+     */
+    public TimelineIndex(int[] dates)
+    {
+        this(dates, identity(dates.length));
+    }
+
+    /**
+     * Instantiates an index of records.
+     *
+     * @param dates The integer representations of each record's Long Count date. Negatives are interpreted as zero.
+     * @param ids The id of each record.
+     */
+    public TimelineIndex(int[] dates, int[] ids)
+    {
+        if (dates.length != ids.length)
+        {
+            throw new IllegalArgumentException("There must be one id for each date.");
+        }
+
+        // Sort the records by date, then by id, by packing both into one primitive key
+        long[] records = new long[dates.length];
+        for (int i = 0; i < dates.length; ++i)
+        {
+            records[i] = (long) Math.max(dates[i], 0) << Integer.SIZE | (ids[i] & 0xFFFFFFFFL);
+        }
+        Arrays.parallelSort(records);
+
+        m_dates = new int[records.length];
+        m_ids = new int[records.length];
+        for (int i = 0; i < records.length; ++i)
+        {
+            m_dates[i] = (int) (records[i] >>> Integer.SIZE);
+            m_ids[i] = (int) records[i];
+        }
+
+        // Counting sort into Calendar Round buckets. Scattering in date order keeps each bucket sorted by date.
+        int cycle = new CalendarRoundDate(0).cycle();
+        int[] calendarRounds = new int[m_dates.length];
+        m_bucketOffsets = new int[cycle + 1];
+        for (int i = 0; i < m_dates.length; ++i)
+        {
+            calendarRounds[i] = LongCountDate.calendarRoundValue(m_dates[i]);
+            ++m_bucketOffsets[calendarRounds[i] + 1];
+        }
+        for (int bucket = 0; bucket < cycle; ++bucket)
+        {
+            m_bucketOffsets[bucket + 1] += m_bucketOffsets[bucket];
+        }
+
+        m_bucketDates = new int[m_dates.length];
+        m_bucketIds = new int[m_dates.length];
+        int[] next = Arrays.copyOf(m_bucketOffsets, cycle);
+        for (int i = 0; i < m_dates.length; ++i)
+        {
+            int position = next[calendarRounds[i]]++;
+            m_bucketDates[position] = m_dates[i];
+            m_bucketIds[position] = m_ids[i];
+        }
+    }
+
+    /**
+     * @return The number of records indexed.
+     */
+    public int size()
+    {
+        return m_dates.length;
+    }
+
+    /**
+     * Find the records dated within a range.
+     *
+     * @param start The integer representation of the minimum date, inclusive.
+     * @param end The integer representation of the maximum date, exclusive.
+     * @return The ids of the matching records, in ascending order of date.
+     */
+    public int[] rangeIds(int start, int end)
+    {
+        int from = lowerBound(m_dates, 0, m_dates.length, start);
+        int to = lowerBound(m_dates, from, m_dates.length, end);
+        return Arrays.copyOfRange(m_ids, from, to);
+    }
+
+    /**
+     * Count the records dated within a range.
+     *
+     * @param start The integer representation of the minimum date, inclusive.
+     * @param end The integer representation of the maximum date, exclusive.
+     * @return The number of matching records.
+     */
+    public int rangeCount(int start, int end)
+    {
+        int from = lowerBound(m_dates, 0, m_dates.length, start);
+        return lowerBound(m_dates, from, m_dates.length, end) - from;
+    }
+
+    /**
+     * Find the records dated on any occurrence of a Calendar Round date.
+     *
+     * @param calendarRound The Calendar Round date.
+     * @return The ids of the matching records, in ascending order of date.
+     */
+    public int[] calendarRoundIds(CalendarRoundDate calendarRound)
+    {
+        if (null == calendarRound)
+        {
+            throw new NullPointerException("Calendar Round date must not be null.");
+        }
+
+        int bucket = calendarRound.toInt();
+        return Arrays.copyOfRange(m_bucketIds, m_bucketOffsets[bucket], m_bucketOffsets[bucket + 1]);
+    }
+
+    /**
+     * Find the records dated on an occurrence of a Calendar Round date within a range.
+     *
+     * @param calendarRound The Calendar Round date.
+     * @param start The integer representation of the minimum date, inclusive.
+     * @param end The integer representation of the maximum date, exclusive.
+     * @return The ids of the matching records, in ascending order of date.
+     */
+    public int[] calendarRoundIds(CalendarRoundDate calendarRound, int start, int end)
+    {
+        if (null == calendarRound)
+        {
+            throw new NullPointerException("Calendar Round date must not be null.");
+        }
+
+        // Each bucket is sorted by date, so the range within it is found by binary search too
+        int bucket = calendarRound.toInt();
+        int from = lowerBound(m_bucketDates, m_bucketOffsets[bucket], m_bucketOffsets[bucket + 1], start);
+        int to = lowerBound(m_bucketDates, from, m_bucketOffsets[bucket + 1], end);
+        return Arrays.copyOfRange(m_bucketIds, from, to);
+    }
+
+    /**
+     * Count the records dated on any occurrence of a Calendar Round date.
+     *
+     * @param calendarRound The Calendar Round date.
+     * @return The number of matching records.
+     */
+    public int calendarRoundCount(CalendarRoundDate calendarRound)
+    {
+        if (null == calendarRound)
+        {
+            throw new NullPointerException("Calendar Round date must not be null.");
+        }
+
+        int bucket = calendarRound.toInt();
+        return m_bucketOffsets[bucket + 1] - m_bucketOffsets[bucket];
+    }
+
+    /**
+     * Find the first position in a sorted run whose value is not below a key.
+     */
+    private static int lowerBound(int[] values, int from, int to, int key)
+    {
+        while (from < to)
+        {
+            int middle = (from + to) >>> 1;
+            if (values[middle] < key)
+            {
+                from = middle + 1;
+            }
+            else
+            {
+                to = middle;
+            }
+        }
+        return from;
+    }
+
+    private static int[] identity(int length)
+    {
+        int[] ids = new int[length];
+        for (int i = 0; i < length; ++i)
+        {
+            ids[i] = i;
+        }
+        return ids;
+    }
+}
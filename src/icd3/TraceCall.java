@@ -0,0 +1,144 @@
+/**
+ *
+ */
+package icd3;
+
+/**
+ * One call to the library read back from a trace written by TraceRecorder, which can be executed again to replay it.
+ */
+public class TraceCall
+{
+    private final Operation m_operation;
+
+    private final long m_delay;
+
+    private final int[] m_arguments;
+
+    private final String m_text;
+
+    /**
+     * Instantiates a call.
+     *
+     * @param operation The operation called.
+     * @param delay The nanoseconds between the previous call in the trace and this one.
+     * @param arguments The integer arguments of the operation.
+     * @param text The text argument of the operation, or null if it has none.
+     */
+    TraceCall(Operation operation, long delay, int[] arguments, String text)
+    {
+        m_operation = operation;
+        m_delay = delay;
+        m_arguments = arguments;
+        m_text = text;
+    }
+
+    /**
+     * @return The operation called.
+     */
+    public Operation getOperation()
+    {
+        return m_operation;
+    }
+
+    /**
+     * @return The nanoseconds between the previous call in the trace and this one, as recorded.
+     */
+    public long getDelay()
+    {
+        return m_delay;
+    }
+
+    /**
+     * @return The number of dates the call works on: the length of a bulk conversion, otherwise 1.
+     */
+    public int size()
+    {
+        return m_operation.isBulk() ? m_arguments.length : 1;
+    }
+
+    /**
+     * Make the call again.
+     *
+     * @return Its result, which callers should keep live if they are timing it.
+     */
+    public Object execute()
+    {
+        switch (m_operation)
+        {
+            case RANGE_QUERY:
+                return LongCountDate.calendarRoundToLongCountList(new CalendarRoundDate(m_arguments[0]),
+                    new LongCountDate(m_arguments[1]), new LongCountDate(m_arguments[2]));
+            case FIRST_OCCURRENCE:
+                return LongCountDate.calendarRoundToLongCount(new CalendarRoundDate(m_arguments[0]), new LongCountDate(
+                    m_arguments[1]));
+            case FORMAT_LONG_COUNT:
+                return new LongCountDate(m_arguments[0]).toString();
+            case FORMAT_CALENDAR_ROUND:
+                return new CalendarRoundDate(m_arguments[0]).toString();
+            case PARSE_CHAIN:
+                return DistanceChain.parse(m_text);
+            case DECOMPOSE_LONG_COUNT:
+            {
+                int[][] places = new int[LongCountDate.Period.values().length][m_arguments.length];
+                DecompositionKernel.getInstance().decomposeLongCount(m_arguments, places);
+                return places;
+            }
+            default:
+            {
+                int[][] components = new int[4][m_arguments.length];
+                DecompositionKernel.getInstance().decomposeCalendarRound(m_arguments, components[0], components[1],
+                    components[2], components[3]);
+                return components;
+            }
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return m_operation + (null == m_text ? "[" + size() + "]" : "(" + m_text + ")");
+    }
+
+    /**
+     * The calls that can be traced, with the number of integer arguments each has. Bulk conversions have as many as
+     * the dates they convert.
+     */
+    public enum Operation
+    {
+        RANGE_QUERY(3),
+        FIRST_OCCURRENCE(2),
+        FORMAT_LONG_COUNT(1),
+        FORMAT_CALENDAR_ROUND(1),
+        PARSE_CHAIN(0),
+        DECOMPOSE_LONG_COUNT(-1),
+        DECOMPOSE_CALENDAR_ROUND(-1);
+
+        private final int m_arguments;
+
+        private Operation(int arguments)
+        {
+            m_arguments = arguments;
+        }
+
+        /**
+         * @return The number of integer arguments, or -1 for a bulk conversion.
+         */
+        int arguments()
+        {
+            return m_arguments;
+        }
+
+        /**
+         * @return Whether this converts a whole array of dates.
+         */
+        public boolean isBulk()
+        {
+            return m_arguments < 0;
+        }
+    }
+}
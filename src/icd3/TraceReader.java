@@ -0,0 +1,124 @@
+/**
+ *
+ */
+package icd3;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reads back the calls in a trace written by TraceRecorder.
+ */
+public final class TraceReader
+{
+    private TraceReader()
+    {
+    }
+
+    /**
+     * Read every call in a trace.
+     *
+     * @param in The stream to read the trace from. It is read to the end but not closed.
+     * @return The calls in the order they were recorded.
+     * @throws IOException If the stream cannot be read or does not hold a complete trace.
+     */
+    public static List<TraceCall> read(InputStream in) throws IOException
+    {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        if (data.readInt() != TraceRecorder.s_magic)
+        {
+            throw new IOException("Not a trace.");
+        }
+        short version = data.readShort();
+        if (version != TraceRecorder.s_version)
+        {
+            throw new IOException("Unsupported trace version " + version + ".");
+        }
+
+        TraceCall.Operation[] operations = TraceCall.Operation.values();
+        List<TraceCall> calls = new ArrayList<TraceCall>();
+        int opcode;
+        while ((opcode = data.read()) >= 0)
+        {
+            if (opcode >= operations.length)
+            {
+                throw new IOException("Unknown operation " + opcode + " after " + calls.size() + " calls.");
+            }
+
+            try
+            {
+                TraceCall.Operation operation = operations[opcode];
+                long delay = readVarLong(data);
+
+                int[] arguments;
+                if (operation.isBulk())
+                {
+                    long length = readVarLong(data);
+                    if (length < 0 || length > Integer.MAX_VALUE)
+                    {
+                        throw new IOException("Bulk conversion of " + length + " dates after " + calls.size()
+                            + " calls.");
+                    }
+                    // Grow as the dates arrive rather than trust the length, so a corrupt one runs out of trace
+                    // instead of memory
+                    arguments = new int[(int) Math.min(length, s_initialBulkCapacity)];
+                    long previous = 0;
+                    for (int i = 0; i < length; ++i)
+                    {
+                        previous += unZigZag(readVarLong(data));
+                        if (i == arguments.length)
+                        {
+                            arguments = Arrays.copyOf(arguments, (int) Math.min(length, 2L * i));
+                        }
+                        arguments[i] = (int) previous;
+                    }
+                }
+                else
+                {
+                    arguments = new int[operation.arguments()];
+                    for (int i = 0; i < arguments.length; ++i)
+                    {
+                        arguments[i] = (int) unZigZag(readVarLong(data));
+                    }
+                }
+                String text = operation == TraceCall.Operation.PARSE_CHAIN ? data.readUTF() : null;
+
+                calls.add(new TraceCall(operation, delay, arguments, text));
+            }
+            catch (EOFException e)
+            {
+                throw new IOException("Trace is truncated after " + calls.size() + " calls.", e);
+            }
+        }
+        return calls;
+    }
+
+    private static long unZigZag(long value)
+    {
+        return value >>> 1 ^ -(value & 1);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException
+    {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7)
+        {
+            int read = in.readUnsignedByte();
+            value |= (long) (read & 0x7F) << shift;
+            if ((read & 0x80) == 0)
+            {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable length integer.");
+    }
+
+    // Bulk conversions of up to this many dates are read without growing
+    private static final int s_initialBulkCapacity = 1024;
+}
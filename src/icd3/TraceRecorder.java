@@ -0,0 +1,201 @@
+/**
+ *
+ */
+package icd3;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Records the calls an application makes to the library, so that its real mix of work can be replayed later as a
+ * benchmark. The application makes its calls through a recorder instead of directly; each is made as usual, then
+ * logged with its arguments and the time since the previous call.
+ *
+ * The trace is compact: after a header, each call is an operation byte, then the delay and the arguments as variable
+ * length integers, with the dates of bulk conversions written as differences from the one before. A recorder may be
+ * shared by threads, which are logged in the order their calls complete.
+ */
+public class TraceRecorder implements Closeable
+{
+    private final DataOutputStream m_out;
+
+    /**
+     * Each call is logged here first, and only copied to the trace once it is complete
+     */
+    private final ByteArrayOutputStream m_record = new ByteArrayOutputStream();
+
+    private final DataOutputStream m_scratch = new DataOutputStream(m_record);
+
+    /**
+     * When the previous call was logged, in System.nanoTime
+     */
+    private long m_last;
+
+    /**
+     * Instantiates a recorder, writing the trace header.
+     *
+     * @param out The stream to write the trace to. It is closed along with the recorder.
+     * @throws IOException If the header cannot be written.
+     */
+    public TraceRecorder(OutputStream out) throws IOException
+    {
+        if (null == out)
+        {
+            throw new NullPointerException("Stream must not be null.");
+        }
+
+        m_out = new DataOutputStream(new BufferedOutputStream(out));
+        m_out.writeInt(s_magic);
+        m_out.writeShort(s_version);
+        m_last = System.nanoTime();
+    }
+
+    /**
+     * @see LongCountDate#calendarRoundToLongCountList(CalendarRoundDate, LongCountDate, LongCountDate)
+     */
+    public List<LongCountDate> calendarRoundToLongCountList(CalendarRoundDate calendarRound, LongCountDate start,
+                                                            LongCountDate end)
+    {
+        List<LongCountDate> result = LongCountDate.calendarRoundToLongCountList(calendarRound, start, end);
+        log(TraceCall.Operation.RANGE_QUERY, null, calendarRound.toInt(), start.toInt(), end.toInt());
+        return result;
+    }
+
+    /**
+     * @see LongCountDate#calendarRoundToLongCount(CalendarRoundDate, LongCountDate)
+     */
+    public LongCountDate calendarRoundToLongCount(CalendarRoundDate calendarRound, LongCountDate start)
+    {
+        LongCountDate result = LongCountDate.calendarRoundToLongCount(calendarRound, start);
+        log(TraceCall.Operation.FIRST_OCCURRENCE, null, calendarRound.toInt(), start.toInt());
+        return result;
+    }
+
+    /**
+     * @see LongCountDate#toString()
+     */
+    public String format(LongCountDate date)
+    {
+        String result = date.toString();
+        log(TraceCall.Operation.FORMAT_LONG_COUNT, null, date.toInt());
+        return result;
+    }
+
+    /**
+     * @see CalendarRoundDate#toString()
+     */
+    public String format(CalendarRoundDate date)
+    {
+        String result = date.toString();
+        log(TraceCall.Operation.FORMAT_CALENDAR_ROUND, null, date.toInt());
+        return result;
+    }
+
+    /**
+     * @see DistanceChain#parse(String)
+     */
+    public DistanceChain parseChain(String text)
+    {
+        DistanceChain result = DistanceChain.parse(text);
+        log(TraceCall.Operation.PARSE_CHAIN, text);
+        return result;
+    }
+
+    /**
+     * @see ConversionOperations#decomposeLongCount(int[], int[][])
+     */
+    public void decomposeLongCount(int[] values, int[][] places)
+    {
+        DecompositionKernel.getInstance().decomposeLongCount(values, places);
+        log(TraceCall.Operation.DECOMPOSE_LONG_COUNT, null, values);
+    }
+
+    /**
+     * @see ConversionOperations#decomposeCalendarRound(int[], int[], int[], int[], int[])
+     */
+    public void decomposeCalendarRound(int[] values, int[] tzolkinNumerals, int[] tzolkinDays, int[] haabNumerals,
+                                       int[] haabMonths)
+    {
+        DecompositionKernel.getInstance().decomposeCalendarRound(values, tzolkinNumerals, tzolkinDays, haabNumerals,
+            haabMonths);
+        log(TraceCall.Operation.DECOMPOSE_CALENDAR_ROUND, null, values);
+    }
+
+    /**
+     * Flush the trace and close its stream.
+     *
+     * @throws IOException If the trace cannot be written.
+     */
+    @Override
+    public synchronized void close() throws IOException
+    {
+        m_out.close();
+    }
+
+    private synchronized void log(TraceCall.Operation operation, String text, int... arguments)
+    {
+        long now = System.nanoTime();
+        m_record.reset();
+        try
+        {
+            m_scratch.writeByte(operation.ordinal());
+            writeVarLong(m_scratch, now - m_last);
+            if (operation.isBulk())
+            {
+                writeVarLong(m_scratch, arguments.length);
+                int previous = 0;
+                for (int argument : arguments)
+                {
+                    writeVarLong(m_scratch, zigZag((long) argument - previous));
+                    previous = argument;
+                }
+            }
+            else
+            {
+                for (int argument : arguments)
+                {
+                    writeVarLong(m_scratch, zigZag(argument));
+                }
+            }
+            if (text != null)
+            {
+                // Throws on text too long to write, which must not leave the rest of the record in the trace
+                m_scratch.writeUTF(text);
+            }
+            m_record.writeTo(m_out);
+        }
+        catch (IOException e)
+        {
+            // The call itself has succeeded, so the application sees the failure to record it as unchecked
+            throw new UncheckedIOException(e);
+        }
+        m_last = now;
+    }
+
+    private static long zigZag(long value)
+    {
+        return value << 1 ^ value >> 63;
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException
+    {
+        // Seven bits at a time, least significant first, with the high bit set on all but the last byte
+        while ((value & ~0x7FL) != 0)
+        {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    // Identifies trace files, and the version of their format
+    static final int s_magic = 0x4D594E54;
+
+    static final short s_version = 1;
+}
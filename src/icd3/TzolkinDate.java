@@ -11,22 +11,22 @@ public class TzolkinDate extends CyclicDate<TzolkinDate>
     /**
      * The coefficient of this date (zero-based)
      */
-    private int m_coefficient;
+    private final int m_coefficient;
 
     /**
      * The day part of this date
      */
-    private Day m_day;
+    private final Day m_day;
 
     /**
      * Instantiates a TzolkinDate object from its calendar representation.
      *
-     * @param numeral 1-based day coefficient
+     * @param numeral 1-based day coefficient, reduced modulo 13. DateValidator#tzolkin rejects numerals out of range.
      * @param day Day name
      */
     public TzolkinDate(int numeral, TzolkinDate.Day day)
     {
-        super(calculateValue(numeral, day.ordinal()));
+        super(value(numeral, day.ordinal()));
 
         m_coefficient = (numeral - 1) % s_numCoefficients;
         m_day = day;
@@ -77,7 +77,12 @@ public class TzolkinDate extends CyclicDate<TzolkinDate>
     @Override
     public String toString()
     {
-        return String.format("%d.%s", getNumeral(), getDay());
+        // Coefficients are only negative for non-positive numerals, which have no table entry
+        if (m_coefficient < 0)
+        {
+            return new StringBuilder().append(getNumeral()).append('.').append(getDay()).toString();
+        }
+        return CalendarTables.tzolkinName(m_coefficient, m_day.ordinal());
     }
 
     /**
@@ -133,13 +138,26 @@ public class TzolkinDate extends CyclicDate<TzolkinDate>
      */
     private static final int s_numCoefficients = 13;
 
-    private static int calculateValue(int numeral, int day)
+    private static final int s_numDays = Day.values().length;
+
+    /**
+     * Combine the components of a Tzolkin date into its integer representation, as the constructor does. The batch
+     * conversions share this rather than repeat it.
+     *
+     * @param numeral 1-based day coefficient, reduced modulo 13.
+     * @param day Day name ordinal.
+     * @return The integer representation, reduced into the cycle.
+     */
+    static int value(int numeral, int day)
     {
         // Convert to zero-based and mod by total number of coefficients
         int coefficient = (numeral - 1) % s_numCoefficients;
 
-        // Get the position in the cycle
-        return (coefficient - day) * Day.values().length * 2 + (day % s_numCoefficients);
+        // Get the position in the cycle. Since 40 is 1 (mod 13) and 0 (mod 20), this is congruent to the coefficient
+        // (mod 13) and to the day (mod 20)
+        int cycle = s_numCoefficients * s_numDays;
+        int value = (coefficient - day) * s_numDays * 2 + day;
+        return (value % cycle + cycle) % cycle;
     }
 
     /**
@@ -0,0 +1,249 @@
+/**
+ *
+ */
+package icd3;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The vectorized decomposition kernel, using the incubating Vector API.
+ *
+ * Each lane is widened to 64 bits so that division by a constant can be replaced with a multiplication by its
+ * rounded-up reciprocal followed by a shift, which is exact for every non-negative int dividend. Only instantiated by
+ * DecompositionKernel when jdk.incubator.vector is resolved.
+ */
+final class VectorDecompositionKernel extends DecompositionKernel
+{
+    /*
+     * (non-Javadoc)
+     *
+     * @see icd3.ConversionOperations#decomposeLongCount(int[], int[][])
+     */
+    @Override
+    public void decomposeLongCount(int[] values, int[][] places)
+    {
+        checkLengths(values, places);
+        BulkConversionEvent event = beginConversion();
+
+        int bound = s_intSpecies.loopBound(values.length);
+        int i = 0;
+
+        for (; i < bound; i += s_intSpecies.length())
+        {
+            LongVector value = load(values, i);
+
+            // Peel off each place value from the least significant upward
+            LongVector winals = s_winal.divide(value);
+            LongVector tuns = s_tun.divide(winals);
+            LongVector katuns = s_katun.divide(tuns);
+            LongVector baktuns = s_baktun.divide(katuns);
+
+            store(s_winal.remainder(value, winals), places[0], i);
+            store(s_tun.remainder(winals, tuns), places[1], i);
+            store(s_katun.remainder(tuns, katuns), places[2], i);
+            store(s_baktun.remainder(katuns, baktuns), places[3], i);
+            store(baktuns, places[4], i);
+        }
+
+        decomposeTail(i, values, places);
+
+        endConversion(event, "decomposeLongCount", values.length);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see icd3.ConversionOperations#decomposeCalendarRound(int[], int[], int[], int[], int[])
+     */
+    @Override
+    public void decomposeCalendarRound(int[] values, int[] tzolkinNumerals, int[] tzolkinDays, int[] haabNumerals,
+                                       int[] haabMonths)
+    {
+        checkLengths(values, tzolkinNumerals, tzolkinDays, haabNumerals, haabMonths);
+        BulkConversionEvent event = beginConversion();
+
+        int bound = s_intSpecies.loopBound(values.length);
+        int i = 0;
+
+        for (; i < bound; i += s_intSpecies.length())
+        {
+            LongVector value = load(values, i);
+
+            // Reduce before shifting by the zero day so the dividend stays within 31 bits, then wrap with a compare
+            LongVector wide = s_calendarRound.remainder(value, s_calendarRound.divide(value)).add(s_zeroDay);
+            wide = wide.lanewise(VectorOperators.SUB, s_calendarRoundCycle,
+                    wide.compare(VectorOperators.GE, s_calendarRoundCycle));
+
+            // Every remaining dividend is below the cycle, so the rest can stay in narrow lanes
+            IntVector calendarRound = (IntVector) wide.convertShape(VectorOperators.L2I, s_intSpecies, 0);
+            // The offset keeps the Haab dividend below the cycle plus a few days, well within the narrow lanes
+            IntVector shifted = calendarRound.add(s_haabOffset);
+            IntVector haab = s_smallHaab.remainder(shifted, s_smallHaab.divide(shifted));
+            IntVector months = s_smallMonth.divide(haab);
+
+            s_smallCoefficient.remainder(calendarRound, s_smallCoefficient.divide(calendarRound)).add(1)
+                    .intoArray(tzolkinNumerals, i);
+            s_smallDay.remainder(calendarRound, s_smallDay.divide(calendarRound)).intoArray(tzolkinDays, i);
+            s_smallMonth.remainder(haab, months).add(1).intoArray(haabNumerals, i);
+            months.intoArray(haabMonths, i);
+        }
+
+        decomposeCalendarRoundTail(i, values, tzolkinNumerals, tzolkinDays, haabNumerals, haabMonths);
+
+        endConversion(event, "decomposeCalendarRound", values.length);
+    }
+
+    private static LongVector load(int[] values, int offset)
+    {
+        // Clamp the value to be non-negative, as LongCountDate does, then widen
+        IntVector value = IntVector.fromArray(s_intSpecies, values, offset).max(0);
+        return (LongVector) value.convertShape(VectorOperators.I2L, s_longSpecies, 0);
+    }
+
+    private static void store(LongVector value, int[] output, int offset)
+    {
+        ((IntVector) value.convertShape(VectorOperators.L2I, s_intSpecies, 0)).intoArray(output, offset);
+    }
+
+    private static void decomposeTail(int offset, int[] values, int[][] places)
+    {
+        int length = values.length - offset;
+        if (length > 0)
+        {
+            int[] tail = new int[length];
+            int[][] tailPlaces = new int[places.length][length];
+            System.arraycopy(values, offset, tail, 0, length);
+
+            scalar().decomposeLongCount(tail, tailPlaces);
+
+            for (int p = 0; p < places.length; ++p)
+            {
+                System.arraycopy(tailPlaces[p], 0, places[p], offset, length);
+            }
+        }
+    }
+
+    private static void decomposeCalendarRoundTail(int offset, int[] values, int[]... outputs)
+    {
+        int length = values.length - offset;
+        if (length > 0)
+        {
+            int[] tail = new int[length];
+            int[][] tailOutputs = new int[outputs.length][length];
+            System.arraycopy(values, offset, tail, 0, length);
+
+            scalar().decomposeCalendarRound(tail, tailOutputs[0], tailOutputs[1], tailOutputs[2], tailOutputs[3]);
+
+            for (int o = 0; o < outputs.length; ++o)
+            {
+                System.arraycopy(tailOutputs[o], 0, outputs[o], offset, length);
+            }
+        }
+    }
+
+    /**
+     * Division of a non-negative int by a constant, as a multiplication by a reciprocal and a shift.
+     */
+    private static class Divisor
+    {
+        private final long m_divisor;
+
+        private final long m_multiplier;
+
+        private final int m_shift;
+
+        Divisor(int divisor)
+        {
+            // With shift = 31 + ceil(log2(divisor)) and multiplier = ceil(2^shift / divisor), the rounding error
+            // stays below 1 / divisor for every 31-bit dividend, so the floor is exact
+            int log = Integer.SIZE - Integer.numberOfLeadingZeros(divisor - 1);
+
+            m_divisor = divisor;
+            m_shift = Integer.SIZE - 1 + log;
+            m_multiplier = ((1L << m_shift) + divisor - 1) / divisor;
+
+            // The product of the multiplier and a 31-bit dividend must fit in a signed long
+            if (m_multiplier >= (1L << Integer.SIZE))
+            {
+                throw new IllegalArgumentException("No 32-bit reciprocal for divisor " + divisor);
+            }
+        }
+
+        LongVector divide(LongVector dividend)
+        {
+            return dividend.mul(m_multiplier).lanewise(VectorOperators.LSHR, m_shift);
+        }
+
+        LongVector remainder(LongVector dividend, LongVector quotient)
+        {
+            return dividend.sub(quotient.mul(m_divisor));
+        }
+    }
+
+    /**
+     * Division of an int below the Calendar Round cycle by a constant, without widening.
+     */
+    private static class SmallDivisor
+    {
+        private final int m_divisor;
+
+        private final int m_multiplier;
+
+        private final int m_shift;
+
+        SmallDivisor(int divisor)
+        {
+            // The same rounding argument as Divisor, for dividends of s_smallBits bits, keeps the product in 31 bits
+            int log = Integer.SIZE - Integer.numberOfLeadingZeros(divisor - 1);
+
+            m_divisor = divisor;
+            m_shift = s_smallBits + log;
+            m_multiplier = (int) (((1L << m_shift) + divisor - 1) / divisor);
+        }
+
+        IntVector divide(IntVector dividend)
+        {
+            return dividend.mul(m_multiplier).lanewise(VectorOperators.LSHR, m_shift);
+        }
+
+        IntVector remainder(IntVector dividend, IntVector quotient)
+        {
+            return dividend.sub(quotient.mul(m_divisor));
+        }
+    }
+
+    // Enough bits for any value below the Calendar Round cycle
+    private static final int s_smallBits = Integer.SIZE - Integer.numberOfLeadingZeros(s_calendarRoundCycle - 1);
+
+    private static final VectorSpecies<Integer> s_intSpecies = IntVector.SPECIES_128;
+
+    // The same number of lanes as the int species, twice as wide
+    private static final VectorSpecies<Long> s_longSpecies = LongVector.SPECIES_256;
+
+    // Each Long Count divisor is the ratio of a period to the one below it
+    private static final Divisor s_winal = new Divisor(ratio(LongCountDate.Period.WINAL, LongCountDate.Period.KIN));
+
+    private static final Divisor s_tun = new Divisor(ratio(LongCountDate.Period.TUN, LongCountDate.Period.WINAL));
+
+    private static final Divisor s_katun = new Divisor(ratio(LongCountDate.Period.KATUN, LongCountDate.Period.TUN));
+
+    private static final Divisor s_baktun = new Divisor(ratio(LongCountDate.Period.BAKTUN, LongCountDate.Period.KATUN));
+
+    private static final Divisor s_calendarRound = new Divisor(s_calendarRoundCycle);
+
+    private static final SmallDivisor s_smallCoefficient = new SmallDivisor(s_tzolkinCoefficients);
+
+    private static final SmallDivisor s_smallDay = new SmallDivisor(s_tzolkinDays);
+
+    private static final SmallDivisor s_smallHaab = new SmallDivisor(s_haabCycle);
+
+    private static final SmallDivisor s_smallMonth = new SmallDivisor(s_daysPerMonth);
+
+    private static int ratio(LongCountDate.Period larger, LongCountDate.Period smaller)
+    {
+        return larger.days() / smaller.days();
+    }
+}
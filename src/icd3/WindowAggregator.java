@@ -0,0 +1,222 @@
+/**
+ *
+ */
+package icd3;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Keeps counts of dated events by calendar components, as DateAggregator does, over a window of the most recent days
+ * of the Long Count. Counts are updated as events enter the window and as the days they fall on leave it, rather than
+ * recomputed.
+ *
+ * Since every component of a date is a function of its day, the window only remembers how many events fell on each of
+ * its days: an event costs an increment of its day and of its counter, and a day leaving the window one subtraction,
+ * however many events it held.
+ *
+ * Updates are serialized by a lock. Snapshots take no lock: they copy the counts between two reads of a sequence
+ * number that updates make odd while they are in progress, and try again if an update overlapped the copy.
+ */
+public class WindowAggregator
+{
+    private final DateAggregator m_aggregator;
+
+    private final int m_width;
+
+    /**
+     * The number of events on each day in the window, indexed by the day modulo the width
+     */
+    private final int[] m_days;
+
+    /**
+     * The counts of the events in the window, indexed as by DateAggregator
+     */
+    private final long[] m_counts;
+
+    /**
+     * The last day of the window, or -1 before any events
+     */
+    private int m_latest = -1;
+
+    /**
+     * Odd while an update is in progress, and advanced by two by each update
+     */
+    private volatile long m_sequence;
+
+    private final Object m_lock = new Object();
+
+    /**
+     * Instantiates an aggregator over a window of days.
+     *
+     * @param width The number of days in the window, at least 1.
+     * @param components The components to group by, at least one. Each combination of their values gets a count.
+     */
+    public WindowAggregator(int width, DateAggregator.Component... components)
+    {
+        if (width < 1)
+        {
+            throw new IllegalArgumentException("The window must be at least one day wide.");
+        }
+
+        m_aggregator = new DateAggregator(components);
+        m_width = width;
+        m_days = new int[width];
+        m_counts = new long[m_aggregator.size()];
+    }
+
+    /**
+     * @return The number of days in the window.
+     */
+    public int getWidth()
+    {
+        return m_width;
+    }
+
+    /**
+     * @return The integer representation of the last day of the window, or -1 if no events have been added.
+     */
+    public int getLatest()
+    {
+        synchronized (m_lock)
+        {
+            return m_latest;
+        }
+    }
+
+    /**
+     * Add an event, moving the window forward if it is later than the window's last day.
+     *
+     * @param date The date of the event.
+     * @return False if the event is too early to be in the window, and so was not counted.
+     */
+    public boolean add(LongCountDate date)
+    {
+        if (null == date)
+        {
+            throw new NullPointerException("Date must not be null.");
+        }
+
+        return add(date.toInt());
+    }
+
+    /**
+     * Add an event by the integer representation of its date, moving the window forward if it is later than the
+     * window's last day.
+     *
+     * @param value The integer representation. Negatives are interpreted as zero.
+     * @return False if the event is too early to be in the window, and so was not counted.
+     */
+    public boolean add(int value)
+    {
+        value = Math.max(value, 0);
+        synchronized (m_lock)
+        {
+            if (value <= (long) m_latest - m_width)
+            {
+                return false;
+            }
+
+            beginUpdate();
+            if (value > m_latest)
+            {
+                expire(value);
+            }
+            ++m_days[value % m_width];
+            ++m_counts[m_aggregator.index(value)];
+            endUpdate();
+            return true;
+        }
+    }
+
+    /**
+     * Move the window forward without adding an event, so that days before it leave the window.
+     *
+     * @param value The integer representation of the new last day of the window. A day no later than the current last
+     *            day leaves the window as it is.
+     */
+    public void advanceTo(int value)
+    {
+        synchronized (m_lock)
+        {
+            if (value > m_latest)
+            {
+                beginUpdate();
+                expire(value);
+                endUpdate();
+            }
+        }
+    }
+
+    /**
+     * Copy the counts of the events in the window, without blocking updates.
+     *
+     * @return The counts as of one moment between updates.
+     */
+    public DateAggregator.Histogram snapshot()
+    {
+        long[] counts = new long[m_counts.length];
+        while (true)
+        {
+            long before = m_sequence;
+            if ((before & 1) == 0)
+            {
+                System.arraycopy(m_counts, 0, counts, 0, counts.length);
+
+                // Keep the copy from being reordered after the second read of the sequence
+                VarHandle.loadLoadFence();
+                if ((long) s_sequence.getOpaque(this) == before)
+                {
+                    return m_aggregator.histogram(counts);
+                }
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Move the last day of the window forward, subtracting the events on the days that leave it.
+     */
+    private void expire(int latest)
+    {
+        // Only days in the current window hold events, so however far it moves no more than its width are visited
+        int last = Math.min(latest - m_width, m_latest);
+        for (int day = Math.max(m_latest - m_width + 1, 0); day <= last; ++day)
+        {
+            int slot = day % m_width;
+            if (m_days[slot] != 0)
+            {
+                m_counts[m_aggregator.index(day)] -= m_days[slot];
+                m_days[slot] = 0;
+            }
+        }
+        m_latest = latest;
+    }
+
+    private void beginUpdate()
+    {
+        s_sequence.setOpaque(this, m_sequence + 1);
+
+        // Keep the updates to the counts from being reordered before the sequence is made odd
+        VarHandle.storeStoreFence();
+    }
+
+    private void endUpdate()
+    {
+        s_sequence.setRelease(this, m_sequence + 1);
+    }
+
+    private static final VarHandle s_sequence;
+
+    static
+    {
+        try
+        {
+            s_sequence = MethodHandles.lookup().findVarHandle(WindowAggregator.class, "m_sequence", long.class);
+        }
+        catch (ReflectiveOperationException e)
+        {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/**
+ *
+ */
+package icd3;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ */
+public class CalendarEventTest
+{
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @Before
+    public void setUp() throws Exception
+    {
+    }
+
+    /**
+     * Test method for {@link icd3.RangeQueryEvent}.
+     */
+    @Test
+    public void testRangeQuery() throws IOException
+    {
+        CalendarRoundDate calendarRound = new CalendarRoundDate(77);
+        List<RecordedEvent> events = record("icd3.RangeQuery", "100", () -> {
+            // Too few results to record, then enough
+            LongCountDate.calendarRoundToLongCountList(calendarRound, new LongCountDate(0), new LongCountDate(18980
+                * 50));
+            LongCountDate.calendarRoundToLongCountList(calendarRound, new LongCountDate(5), new LongCountDate(18980
+                * 150 + 5));
+        });
+
+        assertEquals(1, events.size());
+        assertEquals(150, events.get(0).getInt("size"));
+        assertEquals(77, events.get(0).getInt("calendarRound"));
+        assertEquals(5, events.get(0).getInt("start"));
+        assertEquals(18980 * 150, events.get(0).getInt("width"));
+    }
+
+    /**
+     * Test method for {@link icd3.BulkConversionEvent}.
+     */
+    @Test
+    public void testBulkConversion() throws IOException
+    {
+        int[] values = new int[1000];
+        int[][] places = new int[LongCountDate.Period.values().length][values.length];
+        List<RecordedEvent> events = record("icd3.BulkConversion", "1000", () -> {
+            DecompositionKernel.scalar().decomposeLongCount(values, places);
+            DecompositionKernel.scalar().firstOccurrences(new int[10], new int[10], new int[10]);
+        });
+
+        assertEquals(1, events.size());
+        assertEquals("decomposeLongCount", events.get(0).getString("operation"));
+        assertEquals("ScalarDecompositionKernel", events.get(0).getString("implementation"));
+        assertEquals(1000, events.get(0).getInt("size"));
+    }
+
+    /**
+     * Test method for {@link icd3.CacheFillEvent}.
+     */
+    @Test
+    public void testCacheFill() throws IOException
+    {
+        // Nothing else in this test uses the Tzolkin names, so they are first filled here
+        List<RecordedEvent> events = record("icd3.CacheFill", "0", () -> new TzolkinDate(5).toString());
+
+        assertEquals(1, events.size());
+        assertEquals("TzolkinNames", events.get(0).getString("cache"));
+        assertEquals(260, events.get(0).getInt("size"));
+    }
+
+    /**
+     * Test method for {@link icd3.FormatEvent}.
+     */
+    @Test
+    public void testParse() throws IOException
+    {
+        List<RecordedEvent> events = record("icd3.Format", "2", () -> {
+            DistanceChain.parse("+1.0");
+            DistanceChain.parse("+2.5.13, -1.0.4");
+        });
+
+        assertEquals(1, events.size());
+        assertEquals("parse", events.get(0).getString("operation"));
+        assertEquals(2, events.get(0).getInt("size"));
+    }
+
+    /**
+     * Test method for {@link icd3.FormatEvent}.
+     */
+    @Test
+    public void testFormat() throws IOException
+    {
+        LongCountDateList list = new LongCountDateList();
+        list.addInt(1);
+        list.addInt(20);
+        list.addInt(360);
+        LongCountDateList single = new LongCountDateList();
+        single.addInt(7200);
+        LongCountSequence sequence = new LongCountSequence(0, 18980, 5);
+
+        List<RecordedEvent> events = record("icd3.Format", "2", () -> {
+            list.toString();
+            single.toString();
+            sequence.toString();
+        });
+
+        assertEquals(2, events.size());
+        assertEquals("format", events.get(0).getString("operation"));
+        assertEquals(3, events.get(0).getInt("size"));
+        assertEquals("format", events.get(1).getString("operation"));
+        assertEquals(5, events.get(1).getInt("size"));
+    }
+
+    /**
+     * Test method for {@link icd3.SizeThreshold#combine(java.util.Set)}.
+     */
+    @Test
+    public void testSizeThreshold()
+    {
+        SizeThreshold threshold = new SizeThreshold();
+        assertEquals("0", threshold.combine(java.util.Collections.<String> emptySet()));
+        assertEquals("10", threshold.combine(new java.util.HashSet<String>(java.util.Arrays.asList("10", "200"))));
+
+        threshold.setValue("50");
+        assertFalse(threshold.accept(49));
+        assertTrue(threshold.accept(50));
+    }
+
+    /**
+     * Record one kind of event, with no duration threshold, while running an action.
+     */
+    private static List<RecordedEvent> record(String name, String minimumSize, Runnable action) throws IOException
+    {
+        Path file = Files.createTempFile("calendar", ".jfr");
+        try (Recording recording = new Recording())
+        {
+            recording.enable(name).withThreshold(Duration.ZERO).with("minimumSize", minimumSize);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = new ArrayList<RecordedEvent>();
+            for (RecordedEvent event : RecordingFile.readAllEvents(file))
+            {
+                if (event.getEventType().getName().equals(name))
+                {
+                    events.add(event);
+                }
+            }
+            return events;
+        }
+        finally
+        {
+            Files.delete(file);
+        }
+    }
+}
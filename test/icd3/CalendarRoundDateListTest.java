@@ -0,0 +1,59 @@
+/**
+ *
+ */
+package icd3;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ */
+public class CalendarRoundDateListTest
+{
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @Before
+    public void setUp() throws Exception
+    {
+    }
+
+    /**
+     * Test method for {@link icd3.DateList#get(int)}.
+     */
+    @Test
+    public void testGet()
+    {
+        CalendarRoundDateList list = CalendarRoundDateList.of(42, 18980, -1);
+        assertEquals(new CalendarRoundDate(42), list.get(0));
+        assertEquals(new CalendarRoundDate(0), list.get(1));
+        assertEquals(18979, list.getInt(2));
+    }
+
+    /**
+     * Test method for {@link icd3.DateList#sort()}.
+     */
+    @Test
+    public void testSort()
+    {
+        CalendarRoundDateList list = CalendarRoundDateList.of(18979, 256, 0, 255, 4000, 256);
+        list.sort();
+        assertArrayEquals(new int[] { 0, 255, 256, 256, 4000, 18979 }, list.toIntArray());
+    }
+
+    /**
+     * Test method for {@link icd3.CalendarRoundDateList#merge(icd3.CalendarRoundDateList[])}.
+     */
+    @Test
+    public void testMerge()
+    {
+        CalendarRoundDateList merged = CalendarRoundDateList.merge(CalendarRoundDateList.of(0, 300),
+                CalendarRoundDateList.of(100, 200));
+        assertArrayEquals(new int[] { 0, 100, 200, 300 }, merged.toIntArray());
+        assertEquals(2, merged.binarySearch(new CalendarRoundDate(200)));
+    }
+}
@@ -28,8 +28,11 @@ public class CalendarRoundDateTest
     @Test
     public void testCalendarRoundDateTzolkinDateHaabDate()
     {
-        assertEquals(0, new CalendarRoundDate(new TzolkinDate(0), new HaabDate(0)).toInt());
-        assertEquals(42, new CalendarRoundDate(new TzolkinDate(42), new HaabDate(42)).toInt());
+        // The Haab component is read three days ahead of the Tzolkin component
+        assertEquals(0, new CalendarRoundDate(new TzolkinDate(0), new HaabDate(3)).toInt());
+        assertEquals(42, new CalendarRoundDate(new TzolkinDate(42), new HaabDate(45)).toInt());
+        assertEquals(new HaabDate(45), new CalendarRoundDate(42).getHaabDate());
+        assertEquals(new HaabDate(1, HaabDate.Month.POHP), new CalendarRoundDate(18977).getHaabDate());
     }
 
     /**
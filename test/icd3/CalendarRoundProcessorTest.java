@@ -0,0 +1,88 @@
+/**
+ *
+ */
+package icd3;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ */
+public class CalendarRoundProcessorTest
+{
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @Before
+    public void setUp() throws Exception
+    {
+    }
+
+    /**
+     * Test method for {@link icd3.CalendarRoundProcessor#onNext(LongCountDateList)}.
+     */
+    @Test
+    public void testOnNext()
+    {
+        CalendarRoundProcessor processor = new CalendarRoundProcessor();
+        LongCountPublisherTest.RecordingSubscriber<CalendarRoundDateList> subscriber =
+            new LongCountPublisherTest.RecordingSubscriber<>();
+
+        // Subscribe downstream first, so that its demand is held until upstream arrives
+        processor.subscribe(subscriber);
+        subscriber.m_subscription.request(1);
+        new LongCountPublisher(new LongCountSequence(18975, 1, 8), 5, Runnable::run).subscribe(processor);
+
+        assertEquals(1, subscriber.m_batches.size());
+        CalendarRoundDateList expected = new CalendarRoundDateList();
+        for (int value = 18975; value < 18980; ++value)
+        {
+            expected.addInt(LongCountDate.calendarRoundValue(value));
+        }
+        assertEquals(expected, subscriber.m_batches.get(0));
+        assertFalse(subscriber.m_completed);
+
+        subscriber.m_subscription.request(1);
+        assertEquals(2, subscriber.m_batches.size());
+        assertEquals(LongCountDate.calendarRoundValue(18982), subscriber.m_batches.get(1).getInt(2));
+        assertTrue(subscriber.m_completed);
+    }
+
+    /**
+     * Test method for {@link icd3.CalendarRoundProcessor#subscribe(java.util.concurrent.Flow.Subscriber)}.
+     */
+    @Test
+    public void testSubscribe() throws InterruptedException
+    {
+        CalendarRoundProcessor processor = new CalendarRoundProcessor();
+        LongCountPublisher.range(new LongCountDate(0), new LongCountDate(40000), 1000).subscribe(processor);
+
+        LongCountPublisherTest.RecordingSubscriber<CalendarRoundDateList> subscriber =
+            new LongCountPublisherTest.RecordingSubscriber<>();
+        processor.subscribe(subscriber);
+        subscriber.m_subscription.request(Long.MAX_VALUE);
+        assertTrue(subscriber.m_done.await(10, TimeUnit.SECONDS));
+        assertEquals(40, subscriber.m_batches.size());
+
+        // Only one subscriber is served
+        LongCountPublisherTest.RecordingSubscriber<CalendarRoundDateList> second =
+            new LongCountPublisherTest.RecordingSubscriber<>();
+        processor.subscribe(second);
+        assertTrue(second.m_error instanceof IllegalStateException);
+
+        // Invalid demand made before upstream arrives still reaches it
+        CalendarRoundProcessor early = new CalendarRoundProcessor();
+        LongCountPublisherTest.RecordingSubscriber<CalendarRoundDateList> invalid =
+            new LongCountPublisherTest.RecordingSubscriber<>();
+        early.subscribe(invalid);
+        invalid.m_subscription.request(0);
+        new LongCountPublisher(new LongCountSequence(0, 1, 10), 5, Runnable::run).subscribe(early);
+        assertTrue(invalid.m_error instanceof IllegalArgumentException);
+    }
+}
@@ -0,0 +1,77 @@
+/**
+ *
+ */
+package icd3;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ */
+public class CalendarTablesTest
+{
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @Before
+    public void setUp() throws Exception
+    {
+    }
+
+    /**
+     * Test method for {@link icd3.CalendarTables#computeTzolkinNames()}.
+     */
+    @Test
+    public void testGenerate()
+    {
+        // The generated constants must match what the current date classes compute
+        assertEquals(join(CalendarTables.computeTzolkinNames()), CalendarTableData.TZOLKIN_NAMES);
+        assertEquals(join(CalendarTables.computeHaabNames()), CalendarTableData.HAAB_NAMES);
+        assertEquals(new String(CalendarTables.computeTzolkinComponents()), CalendarTableData.TZOLKIN_COMPONENTS);
+        assertEquals(new String(CalendarTables.computeHaabComponents()), CalendarTableData.HAAB_COMPONENTS);
+    }
+
+    /**
+     * Test method for {@link icd3.CalendarTables#tzolkinName(int, int)}.
+     */
+    @Test
+    public void testTzolkinName()
+    {
+        for (int value = 0; value < TzolkinDate.tzolkinCycle(); ++value)
+        {
+            TzolkinDate date = new TzolkinDate(value);
+            assertEquals(date.getNumeral() + "." + date.getDay(),
+                    CalendarTables.tzolkinName(date.getNumeral() - 1, date.getDay().ordinal()));
+        }
+    }
+
+    /**
+     * Test method for {@link icd3.CalendarTables#haabComponents(int)}.
+     */
+    @Test
+    public void testHaabComponents()
+    {
+        for (int value = 0; value < HaabDate.haabCycle(); ++value)
+        {
+            HaabDate date = new HaabDate(value);
+            int components = CalendarTables.haabComponents(value);
+            assertEquals(date.getNumeral(), CalendarTables.numeral(components));
+            assertEquals(date.getMonth().ordinal(), CalendarTables.name(components));
+            assertEquals(date.getNumeral() + "." + date.getMonth(), CalendarTables.haabName(value));
+        }
+    }
+
+    private static String join(String[] names)
+    {
+        StringBuilder builder = new StringBuilder();
+        for (String name : names)
+        {
+            builder.append(name).append(CalendarTables.s_separator);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,262 @@
+/**
+ *
+ */
+package icd3;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.nio.IntBuffer;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Hammers shared dates, tables and caches from many threads at once, with no synchronization between the threads, and
+ * checks every result against one computed on a single thread.
+ */
+public class ConcurrencyStressTest
+{
+    private ExecutorService m_executor;
+
+    /**
+     * A date handed from one thread to others through a data race
+     */
+    private LongCountDate m_published;
+
+    private CalendarRoundDate m_publishedCalendarRound;
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @Before
+    public void setUp() throws Exception
+    {
+        m_executor = Executors.newFixedThreadPool(s_threads);
+    }
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @After
+    public void tearDown() throws Exception
+    {
+        m_executor.shutdownNow();
+    }
+
+    /**
+     * Dates published through plain fields must never be seen partly constructed.
+     */
+    @Test
+    public void testRacyPublication() throws Exception
+    {
+        List<Callable<Integer>> tasks = new ArrayList<Callable<Integer>>();
+        tasks.add(() -> {
+            Random random = new Random(45);
+            for (int i = 0; i < s_iterations * 10; ++i)
+            {
+                m_published = new LongCountDate(random.nextInt(13 * LongCountDate.Period.BAKTUN.days()));
+                m_publishedCalendarRound = new CalendarRoundDate(random.nextInt(18980));
+            }
+            return 0;
+        });
+        for (int t = 1; t < s_threads; ++t)
+        {
+            tasks.add(() -> {
+                int seen = 0;
+                for (int i = 0; i < s_iterations * 10; ++i)
+                {
+                    LongCountDate date = m_published;
+                    if (date != null)
+                    {
+                        int value = 0;
+                        for (LongCountDate.Period period : LongCountDate.Period.values())
+                        {
+                            value += date.getPeriod(period) * period.days();
+                        }
+                        assertEquals(date.toInt(), value);
+                        ++seen;
+                    }
+
+                    CalendarRoundDate calendarRound = m_publishedCalendarRound;
+                    if (calendarRound != null)
+                    {
+                        assertEquals(calendarRound.toInt(), new CalendarRoundDate(calendarRound.getTzolkinDate(),
+                            calendarRound.getHaabDate()).toInt());
+                        assertNotNull(calendarRound.getTzolkinDate().getDay());
+                        assertNotNull(calendarRound.getHaabDate().getMonth());
+                    }
+                }
+                return seen;
+            });
+        }
+        runAll(tasks);
+    }
+
+    /**
+     * Shared instances, and the lookup tables behind them, give every thread the same results as a single thread.
+     */
+    @Test
+    public void testSharedInstances() throws Exception
+    {
+        Random random = new Random(45);
+        LongCountDate[] dates = new LongCountDate[1000];
+        CalendarRoundDate[] calendarRounds = new CalendarRoundDate[dates.length];
+        for (int i = 0; i < dates.length; ++i)
+        {
+            dates[i] = new LongCountDate(random.nextInt(13 * LongCountDate.Period.BAKTUN.days()));
+            calendarRounds[i] = new CalendarRoundDate(random.nextInt(18980));
+        }
+        DistanceChain chain = DistanceChain.parse("+2.5.13, -1.0.0.0");
+        int[] timeline = new int[50000];
+        for (int i = 0; i < timeline.length; ++i)
+        {
+            timeline[i] = random.nextInt(2 * 18980 * 20);
+        }
+        TimelineIndex index = new TimelineIndex(timeline);
+
+        List<String> expected = results(dates, calendarRounds, chain, index, 0, dates.length);
+
+        List<Callable<Integer>> tasks = new ArrayList<Callable<Integer>>();
+        for (int t = 0; t < s_threads; ++t)
+        {
+            int offset = t * dates.length / s_threads;
+            tasks.add(() -> {
+                for (int pass = 0; pass < 5; ++pass)
+                {
+                    // Each thread starts at a different place, so that they touch the same instances at once
+                    for (int i = 0; i < dates.length; ++i)
+                    {
+                        int j = (i + offset) % dates.length;
+                        assertEquals(expected.get(j), results(dates, calendarRounds, chain, index, j, j + 1).get(0));
+                    }
+                }
+                return 0;
+            });
+        }
+        runAll(tasks);
+    }
+
+    /**
+     * Threads racing to fill a shared result cache all read the same results.
+     */
+    @Test
+    public void testSharedResultCache() throws Exception
+    {
+        File directory = Files.createTempDirectory("stress").toFile();
+        File file = new File(directory, "results.cache");
+        try (ResultCache cache = new ResultCache(file))
+        {
+            LongCountDate start = new LongCountDate(0, 0, 0, 0, 9);
+            LongCountDate end = new LongCountDate(0, 0, 0, 0, 10);
+
+            List<Callable<Integer>> tasks = new ArrayList<Callable<Integer>>();
+            for (int t = 0; t < s_threads; ++t)
+            {
+                int offset = t;
+                tasks.add(() -> {
+                    for (int i = 0; i < 40; ++i)
+                    {
+                        CalendarRoundDate calendarRound = new CalendarRoundDate((i + offset) % 20 * 997);
+                        IntBuffer occurrences = cache.occurrences(calendarRound, start, end);
+                        List<LongCountDate> expected = LongCountDate.calendarRoundToLongCountList(calendarRound,
+                            start, end);
+                        assertEquals(expected.size(), occurrences.remaining());
+                        for (int j = 0; j < expected.size(); ++j)
+                        {
+                            assertEquals(expected.get(j).toInt(), occurrences.get(j));
+                        }
+                    }
+                    return 0;
+                });
+            }
+            runAll(tasks);
+            assertEquals(20, cache.size());
+        }
+        finally
+        {
+            for (File created : directory.listFiles())
+            {
+                created.delete();
+            }
+            directory.delete();
+        }
+    }
+
+    /**
+     * Describe everything the library derives from a range of shared instances.
+     */
+    private static List<String> results(LongCountDate[] dates, CalendarRoundDate[] calendarRounds, DistanceChain chain,
+                                        TimelineIndex index, int from, int to)
+    {
+        List<String> results = new ArrayList<String>();
+        for (int i = from; i < to; ++i)
+        {
+            LongCountDate date = dates[i];
+            CalendarRoundDate calendarRound = calendarRounds[i];
+            StringBuilder builder = new StringBuilder();
+            builder.append(date).append(' ').append(date.plus(i)).append(' ').append(date.minus(dates[0]));
+            builder.append(' ').append(calendarRound).append(' ').append(calendarRound.getTzolkinDate().getNumeral());
+            builder.append(' ').append(calendarRound.getHaabDate().getNumeral());
+            builder.append(' ').append(LongCountDate.calendarRoundToLongCount(calendarRound, date));
+            builder.append(' ').append(LongCountDate.calendarRoundToLongCountList(calendarRound, date, date.plus(
+                3 * 18980)));
+            builder.append(' ').append(chain.apply(date.plus(chain.getOffset() < 0 ? -chain.getOffset() : 0)));
+            builder.append(' ').append(index.rangeCount(date.toInt() % 50000, date.toInt() % 50000 + 5000));
+            builder.append(' ').append(index.calendarRoundCount(calendarRound));
+            LocalDate local = MayanLocalDate.of(date.toInt()).toLocalDate();
+            builder.append(' ').append(local).append(' ').append(MayanLocalDate.from(local));
+            results.add(builder.toString());
+        }
+        return results;
+    }
+
+    /**
+     * Run tasks on the pool, starting them together, and fail with the first failure of any of them.
+     */
+    private void runAll(List<Callable<Integer>> tasks) throws Exception
+    {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<Future<Integer>>();
+        for (Callable<Integer> task : tasks)
+        {
+            futures.add(m_executor.submit(() -> {
+                start.await();
+                return task.call();
+            }));
+        }
+        start.countDown();
+
+        for (Future<Integer> future : futures)
+        {
+            try
+            {
+                future.get();
+            }
+            catch (ExecutionException e)
+            {
+                if (e.getCause() instanceof Error)
+                {
+                    throw (Error) e.getCause();
+                }
+                throw (Exception) e.getCause();
+            }
+        }
+    }
+
+    private static final int s_threads = 8;
+
+    private static final int s_iterations = 100000;
+}
@@ -0,0 +1,110 @@
+/**
+ *
+ */
+package icd3;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ */
+public class DateAggregatorTest
+{
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @Before
+    public void setUp() throws Exception
+    {
+    }
+
+    /**
+     * Test method for {@link icd3.DateAggregator#aggregate(int[])}.
+     */
+    @Test
+    public void testAggregate()
+    {
+        // Enough values to be split into parallel stripes
+        Random random = new Random(29);
+        int[] values = new int[500000];
+        for (int i = 0; i < values.length; ++i)
+        {
+            values[i] = random.nextInt(20 * LongCountDate.Period.BAKTUN.days());
+        }
+
+        DateAggregator.Histogram histogram = new DateAggregator(DateAggregator.Component.TZOLKIN_DAY,
+            DateAggregator.Component.HAAB_MONTH, DateAggregator.Component.KATUN).aggregate(values);
+        assertEquals(values.length, histogram.getTotal());
+
+        long[] expected = new long[20 * 19 * 20];
+        for (int value : values)
+        {
+            CalendarRoundDate calendarRound = new CalendarRoundDate(LongCountDate.calendarRoundValue(value));
+            int day = calendarRound.getTzolkinDate().getDay().ordinal();
+            int month = calendarRound.getHaabDate().getMonth().ordinal();
+            int katun = new LongCountDate(value).getPeriod(LongCountDate.Period.KATUN);
+            ++expected[(day * 19 + month) * 20 + katun];
+        }
+        assertArrayEquals(expected, histogram.toArray());
+        assertArrayEquals(expected, new DateAggregator(DateAggregator.Component.TZOLKIN_DAY,
+            DateAggregator.Component.HAAB_MONTH, DateAggregator.Component.KATUN).aggregate(values, 5).toArray());
+        assertEquals(expected[(3 * 19 + 18) * 20 + 7], histogram.getCount(3, 18, 7));
+    }
+
+    /**
+     * Test method for {@link icd3.DateAggregator#aggregate(java.lang.Iterable)}.
+     */
+    @Test
+    public void testAggregateIterable()
+    {
+        List<LongCountDate> dates = new ArrayList<LongCountDate>();
+        for (int value = 0; value < 3 * 18980; value += 7)
+        {
+            dates.add(new LongCountDate(value));
+        }
+
+        DateAggregator aggregator = new DateAggregator(DateAggregator.Component.TZOLKIN_NUMERAL,
+            DateAggregator.Component.HAAB_NUMERAL, DateAggregator.Component.CALENDAR_ROUND);
+        DateAggregator.Histogram histogram = aggregator.aggregate(dates);
+        assertArrayEquals(aggregator.aggregate(new LongCountSequence(0, 7, dates.size())).toArray(), histogram
+            .toArray());
+
+        for (LongCountDate date : dates)
+        {
+            CalendarRoundDate calendarRound = new CalendarRoundDate(LongCountDate.calendarRoundValue(date.toInt()));
+            assertTrue(histogram.getCount(calendarRound.getTzolkinDate().getNumeral() - 1, calendarRound
+                .getHaabDate().getNumeral() - 1, calendarRound.toInt()) > 0);
+        }
+        assertEquals(dates.size(), histogram.getTotal());
+    }
+
+    /**
+     * Test method for {@link icd3.DateAggregator#DateAggregator(DateAggregator.Component...)}.
+     */
+    @Test
+    public void testDateAggregator()
+    {
+        DateAggregator.Histogram histogram = new DateAggregator(DateAggregator.Component.BAKTUN).aggregate(
+            new int[] { -4, 0, 144000, Integer.MAX_VALUE });
+        assertEquals(2, histogram.getCount(0));
+        assertEquals(1, histogram.getCount(1));
+        assertEquals(1, histogram.getCount(Integer.MAX_VALUE / 144000));
+
+        try
+        {
+            new DateAggregator(DateAggregator.Component.CALENDAR_ROUND, DateAggregator.Component.BAKTUN);
+            fail("Expected an IllegalArgumentException");
+        }
+        catch (IllegalArgumentException e)
+        {
+        }
+    }
+}
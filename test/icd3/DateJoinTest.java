@@ -0,0 +1,148 @@
+/**
+ *
+ */
+package icd3;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ */
+public class DateJoinTest
+{
+    private int[] m_left;
+
+    private int[] m_right;
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @Before
+    public void setUp() throws Exception
+    {
+        // Narrow enough ranges that both joins find plenty of matches
+        Random random = new Random(40);
+        m_left = new int[1500];
+        for (int i = 0; i < m_left.length; ++i)
+        {
+            m_left[i] = 1400000 + random.nextInt(100000);
+        }
+        m_right = new int[1200];
+        for (int i = 0; i < m_right.length; ++i)
+        {
+            m_right[i] = 1400000 + random.nextInt(100000);
+        }
+        m_right[0] = m_left[0] + 18980;
+        m_right[1] = -5;
+    }
+
+    /**
+     * Test method for {@link icd3.DateJoin#calendarRoundJoin()}.
+     */
+    @Test
+    public void testCalendarRoundJoin()
+    {
+        long[] expected = nestedLoops(-1);
+        assertTrue(expected.length > 0);
+        assertArrayEquals(expected, sorted(new DateJoin(m_left, m_right).calendarRoundJoin().toArray()));
+        assertArrayEquals(expected, sorted(new DateJoin(m_left, m_right).calendarRoundJoin(1).toArray()));
+        assertArrayEquals(expected, sorted(new DateJoin(m_left, m_right).calendarRoundJoin(7).toArray()));
+        assertTrue(new DateJoin(m_left, m_right).calendarRoundJoin().anyMatch(pair -> DateJoin.leftIndex(pair) == 0
+            && DateJoin.rightIndex(pair) == 0));
+    }
+
+    /**
+     * Test method for {@link icd3.DateJoin#bandJoin(int)}.
+     */
+    @Test
+    public void testBandJoin()
+    {
+        for (int tolerance : new int[] { 0, 3, 40 })
+        {
+            long[] expected = nestedLoops(tolerance);
+            assertTrue(expected.length > 0);
+            assertArrayEquals(expected, sorted(new DateJoin(m_left, m_right).bandJoin(tolerance).toArray()));
+            assertArrayEquals(expected, sorted(new DateJoin(m_left, m_right).bandJoin(tolerance, 1).toArray()));
+            assertArrayEquals(expected, sorted(new DateJoin(m_left, m_right).bandJoin(tolerance, 9).toArray()));
+        }
+
+        // Negatives are interpreted as zero
+        assertEquals(1, new DateJoin(new int[] { 0 }, new int[] { -3 }).bandJoin(0).count());
+        assertEquals(0, new DateJoin(new int[0], m_right).bandJoin(10).count());
+
+        try
+        {
+            new DateJoin(m_left, m_right).bandJoin(-1);
+            fail();
+        }
+        catch (IllegalArgumentException e)
+        {
+        }
+    }
+
+    /**
+     * Test method for {@link icd3.DateJoin#calendarRoundJoin()} and {@link icd3.DateJoin#bandJoin(int)}.
+     */
+    @Test
+    public void testSkewedJoin()
+    {
+        // Every date is the same, so there are more matches than fit an array, or an int count
+        int[] column = new int[70000];
+        Arrays.fill(column, 1234);
+        DateJoin join = new DateJoin(column, column);
+
+        assertEquals(1000, join.calendarRoundJoin().sequential().limit(1000).count());
+        assertEquals(1000, join.bandJoin(0).sequential().limit(1000).count());
+        assertTrue(join.calendarRoundJoin().sequential().limit(1000).allMatch(pair -> column[DateJoin.leftIndex(
+            pair)] == column[DateJoin.rightIndex(pair)]));
+    }
+
+    /**
+     * Test method for {@link icd3.DateJoin#pair(int, int)}.
+     */
+    @Test
+    public void testPair()
+    {
+        long pair = DateJoin.pair(Integer.MAX_VALUE, 7);
+        assertEquals(Integer.MAX_VALUE, DateJoin.leftIndex(pair));
+        assertEquals(7, DateJoin.rightIndex(pair));
+        assertEquals(Integer.MAX_VALUE, DateJoin.rightIndex(DateJoin.pair(0, Integer.MAX_VALUE)));
+    }
+
+    /**
+     * Join by comparing every pair, matching Calendar Round dates if tolerance is negative.
+     */
+    private long[] nestedLoops(int tolerance)
+    {
+        long[] pairs = new long[m_left.length * m_right.length];
+        int count = 0;
+        for (int i = 0; i < m_left.length; ++i)
+        {
+            LongCountDate left = new LongCountDate(m_left[i]);
+            for (int j = 0; j < m_right.length; ++j)
+            {
+                LongCountDate right = new LongCountDate(m_right[j]);
+                boolean matched = tolerance < 0 ? new CalendarRoundDate(LongCountDate.calendarRoundValue(left.toInt()))
+                    .equals(new CalendarRoundDate(LongCountDate.calendarRoundValue(right.toInt()))) : Math.abs(left
+                    .minus(right)) <= tolerance;
+                if (matched)
+                {
+                    pairs[count++] = DateJoin.pair(i, j);
+                }
+            }
+        }
+        return Arrays.copyOf(pairs, count);
+    }
+
+    private static long[] sorted(long[] pairs)
+    {
+        Arrays.sort(pairs);
+        return pairs;
+    }
+}
@@ -0,0 +1,226 @@
+/**
+ *
+ */
+package icd3;
+
+import static org.junit.Assert.*;
+
+import java.util.EnumSet;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import icd3.DateValidator.Violation;
+
+/**
+ *
+ */
+public class DateValidatorTest
+{
+    /**
+     * @throws java.lang.Exception
+     */
+    @Before
+    public void setUp() throws Exception
+    {
+    }
+
+    /**
+     * Test method for {@link icd3.DateValidator#tzolkin(int, icd3.TzolkinDate.Day)}.
+     */
+    @Test
+    public void testTzolkin()
+    {
+        assertEquals(new TzolkinDate(13, TzolkinDate.Day.AJAW), DateValidator.tzolkin(13, TzolkinDate.Day.AJAW));
+        assertEquals(new TzolkinDate(1, TzolkinDate.Day.IMIX), DateValidator.tzolkin(1, TzolkinDate.Day.IMIX));
+        assertRejected(() -> DateValidator.tzolkin(14, TzolkinDate.Day.AJAW));
+        assertRejected(() -> DateValidator.tzolkin(0, TzolkinDate.Day.AJAW));
+    }
+
+    /**
+     * Test method for {@link icd3.DateValidator#haab(int, icd3.HaabDate.Month)}.
+     */
+    @Test
+    public void testHaab()
+    {
+        assertEquals(new HaabDate(20, HaabDate.Month.KUMKU), DateValidator.haab(20, HaabDate.Month.KUMKU));
+        assertEquals(new HaabDate(5, HaabDate.Month.WAYEB), DateValidator.haab(5, HaabDate.Month.WAYEB));
+        assertRejected(() -> DateValidator.haab(6, HaabDate.Month.WAYEB));
+        assertRejected(() -> DateValidator.haab(21, HaabDate.Month.POHP));
+        assertRejected(() -> DateValidator.haab(0, HaabDate.Month.POHP));
+    }
+
+    /**
+     * Test method for
+     * {@link icd3.DateValidator#calendarRound(int, icd3.TzolkinDate.Day, int, icd3.HaabDate.Month)}.
+     */
+    @Test
+    public void testCalendarRound()
+    {
+        assertEquals(new CalendarRoundDate(new TzolkinDate(1, TzolkinDate.Day.IMIX), new HaabDate(4,
+            HaabDate.Month.POHP)), DateValidator.calendarRound(1, TzolkinDate.Day.IMIX, 4, HaabDate.Month.POHP));
+        assertEquals(new CalendarRoundDate(new TzolkinDate(4, TzolkinDate.Day.AJAW), new HaabDate(8,
+            HaabDate.Month.KUMKU)), DateValidator.calendarRound(4, TzolkinDate.Day.AJAW, 8, HaabDate.Month.KUMKU));
+        CalendarRoundDate zeroDay = new CalendarRoundDate(LongCountDate.calendarRoundValue(0));
+        assertEquals(zeroDay, DateValidator.calendarRound(zeroDay.getTzolkinDate().getNumeral(), zeroDay
+            .getTzolkinDate().getDay(), zeroDay.getHaabDate().getNumeral(), zeroDay.getHaabDate().getMonth()));
+        assertRejected(() -> DateValidator.calendarRound(4, TzolkinDate.Day.AJAW, 8, HaabDate.Month.WAYEB));
+
+        // The Tzolkin and Haab dates are in range, but never fall on the same day
+        assertRejected(() -> DateValidator.calendarRound(1, TzolkinDate.Day.IMIX, 1, HaabDate.Month.POHP));
+        assertRejected(() -> DateValidator.calendarRound(1, TzolkinDate.Day.IMIX, 2, HaabDate.Month.POHP));
+    }
+
+    /**
+     * Test method for {@link icd3.DateValidator#longCount(java.lang.Integer[])}.
+     */
+    @Test
+    public void testLongCount()
+    {
+        assertEquals(new LongCountDate(0, 0, 0, 0, 13), DateValidator.longCount(0, 0, 0, 0, 13));
+        assertEquals(new LongCountDate(19, 17, 19, 19), DateValidator.longCount(19, 17, 19, 19));
+        assertEquals(new LongCountDate(0), DateValidator.longCount());
+        assertRejected(() -> DateValidator.longCount(20));
+        assertRejected(() -> DateValidator.longCount(0, 18));
+        assertRejected(() -> DateValidator.longCount(-1));
+        assertRejected(() -> DateValidator.longCount(0, null));
+        assertRejected(() -> DateValidator.longCount(0, 0, 0, 0, 0, 0));
+        assertRejected(() -> DateValidator.longCount(0, 0, 0, 0, 14914));
+        assertRejected(() -> DateValidator.longCount(19, 17, 19, 19, 14913));
+    }
+
+    /**
+     * Test method for {@link icd3.DateValidator#composeCalendarRound(int[], int[], int[], int[], int[], int[])}.
+     */
+    @Test
+    public void testComposeCalendarRound()
+    {
+        // Every combination of dates that fall on the same day agrees with the kernel, and every other is flagged
+        int size = 13 * 20 * HaabDate.haabCycle();
+        int[][] components = new int[4][size];
+        int i = 0;
+        for (int numeral = 1; numeral <= 13; ++numeral)
+        {
+            for (int day = 0; day < 20; ++day)
+            {
+                for (HaabDate.Month month : HaabDate.Month.values())
+                {
+                    for (int haabNumeral = 1; haabNumeral <= month.days(); ++haabNumeral, ++i)
+                    {
+                        components[0][i] = numeral;
+                        components[1][i] = day;
+                        components[2][i] = haabNumeral;
+                        components[3][i] = month.ordinal();
+                    }
+                }
+            }
+        }
+
+        int[] expected = new int[size];
+        DecompositionKernel.scalar().composeCalendarRound(components[0], components[1], components[2],
+            components[3], expected);
+        int[] calendarRounds = new int[size];
+        int[] violations = new int[size];
+        assertEquals(size - 18980, DateValidator.composeCalendarRound(components[0], components[1], components[2],
+            components[3], calendarRounds, violations));
+        boolean[] seen = new boolean[18980];
+        for (int j = 0; j < size; ++j)
+        {
+            CalendarRoundDate calendarRound = new CalendarRoundDate(expected[j]);
+            if (calendarRound.getTzolkinDate().getNumeral() == components[0][j] && calendarRound.getTzolkinDate()
+                .getDay().ordinal() == components[1][j])
+            {
+                assertEquals(0, violations[j]);
+                assertEquals(expected[j], calendarRounds[j]);
+                seen[expected[j]] = true;
+            }
+            else
+            {
+                assertEquals(Violation.CALENDAR_ROUND_MISMATCH.mask(), violations[j]);
+                assertEquals(-1, calendarRounds[j]);
+            }
+        }
+        for (boolean day : seen)
+        {
+            assertTrue(day);
+        }
+
+        // Each invalid record is flagged with everything wrong with it
+        int[] tzolkinNumerals = { 1, 0, 14, 1, 1, 1, 1, -5 };
+        int[] tzolkinDays = { 0, 0, 0, 20, 0, 0, 0, -1 };
+        int[] haabNumerals = { 4, 1, 1, 1, 6, 21, 21, 1 };
+        int[] haabMonths = { 0, 0, 0, 0, 18, 19, 0, -1 };
+        calendarRounds = new int[8];
+        violations = new int[8];
+        assertEquals(7, DateValidator.composeCalendarRound(tzolkinNumerals, tzolkinDays, haabNumerals, haabMonths,
+            calendarRounds, violations));
+        assertEquals(0, violations[0]);
+        assertEquals(new CalendarRoundDate(new TzolkinDate(1, TzolkinDate.Day.IMIX), new HaabDate(4,
+            HaabDate.Month.POHP)).toInt(), calendarRounds[0]);
+        assertEquals(EnumSet.of(Violation.TZOLKIN_NUMERAL), DateValidator.violations(violations[1]));
+        assertEquals(EnumSet.of(Violation.TZOLKIN_NUMERAL), DateValidator.violations(violations[2]));
+        assertEquals(EnumSet.of(Violation.TZOLKIN_DAY), DateValidator.violations(violations[3]));
+        assertEquals(EnumSet.of(Violation.HAAB_NUMERAL), DateValidator.violations(violations[4]));
+        assertEquals(EnumSet.of(Violation.HAAB_NUMERAL, Violation.HAAB_MONTH), DateValidator.violations(
+            violations[5]));
+        assertEquals(EnumSet.of(Violation.HAAB_NUMERAL), DateValidator.violations(violations[6]));
+        assertEquals(EnumSet.of(Violation.TZOLKIN_NUMERAL, Violation.TZOLKIN_DAY, Violation.HAAB_MONTH),
+            DateValidator.violations(violations[7]));
+        for (int j = 1; j < calendarRounds.length; ++j)
+        {
+            assertEquals(-1, calendarRounds[j]);
+        }
+    }
+
+    /**
+     * Test method for {@link icd3.DateValidator#composeLongCount(int[][], int[], int[])}.
+     */
+    @Test
+    public void testComposeLongCount()
+    {
+        int[] values = { 0, 1, 19, 20, 1234567, 13 * 144000, Integer.MAX_VALUE };
+        int[][] places = new int[LongCountDate.Period.values().length][values.length];
+        DecompositionKernel.scalar().decomposeLongCount(values, places);
+
+        int[] composed = new int[values.length];
+        int[] violations = new int[values.length];
+        assertEquals(0, DateValidator.composeLongCount(places, composed, violations));
+        assertArrayEquals(values, composed);
+        assertArrayEquals(new int[values.length], violations);
+
+        // Out of range places, and a date too late to represent
+        places = new int[][] { { 20, -1, 19, 0 }, { 0, 18, 17, 0 }, { 0, 0, 19, 0 }, { 0, 0, 19, 20 },
+            { 0, 0, 14913, 0 } };
+        composed = new int[4];
+        violations = new int[4];
+        assertEquals(4, DateValidator.composeLongCount(places, composed, violations));
+        assertEquals(EnumSet.of(Violation.KIN), DateValidator.violations(violations[0]));
+        assertEquals(EnumSet.of(Violation.KIN, Violation.WINAL), DateValidator.violations(violations[1]));
+        assertEquals(EnumSet.of(Violation.OVERFLOW), DateValidator.violations(violations[2]));
+        assertEquals(EnumSet.of(Violation.KATUN), DateValidator.violations(violations[3]));
+        assertArrayEquals(new int[] { -1, -1, -1, -1 }, composed);
+    }
+
+    /**
+     * Test method for {@link icd3.DateValidator#composeLongCount(int[][], int[], int[])}.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testComposeLongCountPlaces()
+    {
+        DateValidator.composeLongCount(new int[3][1], new int[1], new int[1]);
+    }
+
+    private static void assertRejected(Runnable construction)
+    {
+        try
+        {
+            construction.run();
+            fail("Expected the components to be rejected.");
+        }
+        catch (IllegalArgumentException e)
+        {
+            assertTrue(e.getMessage().startsWith("Date components are invalid") || e.getMessage().startsWith(
+                "A Long Count date"));
+        }
+    }
+}
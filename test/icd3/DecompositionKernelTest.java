@@ -0,0 +1,118 @@
+/**
+ *
+ */
+package icd3;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ */
+public class DecompositionKernelTest
+{
+    private DecompositionKernel[] m_kernels;
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @Before
+    public void setUp() throws Exception
+    {
+        m_kernels = new DecompositionKernel[] { DecompositionKernel.scalar(), DecompositionKernel.getInstance() };
+    }
+
+    /**
+     * Test method for {@link icd3.DecompositionKernel#decomposeLongCount(int[], int[][])}.
+     */
+    @Test
+    public void testDecomposeLongCount()
+    {
+        // Every day of twenty baktuns, checked a block at a time
+        for (int start = 0; start < s_range; start += s_block)
+        {
+            assertLongCount(block(start));
+        }
+        assertLongCount(s_edges);
+    }
+
+    /**
+     * Test method for {@link icd3.DecompositionKernel#decomposeCalendarRound(int[], int[], int[], int[], int[])}.
+     */
+    @Test
+    public void testDecomposeCalendarRound()
+    {
+        // Every Calendar Round position, several times over
+        for (int start = 0; start < 4 * new CalendarRoundDate(0).cycle(); start += s_block)
+        {
+            assertCalendarRound(block(start));
+        }
+        assertCalendarRound(s_edges);
+    }
+
+    private void assertLongCount(int[] values)
+    {
+        LongCountDate.Period[] periods = LongCountDate.Period.values();
+
+        for (DecompositionKernel kernel : m_kernels)
+        {
+            int[][] places = new int[periods.length][values.length];
+            kernel.decomposeLongCount(values, places);
+
+            for (int i = 0; i < values.length; ++i)
+            {
+                LongCountDate expected = new LongCountDate(values[i]);
+                for (LongCountDate.Period period : periods)
+                {
+                    if (expected.getPeriod(period) != places[period.ordinal()][i])
+                    {
+                        fail(String.format("%s of %d", period, values[i]));
+                    }
+                }
+            }
+        }
+    }
+
+    private void assertCalendarRound(int[] values)
+    {
+        for (DecompositionKernel kernel : m_kernels)
+        {
+            int[] tzolkinNumerals = new int[values.length];
+            int[] tzolkinDays = new int[values.length];
+            int[] haabNumerals = new int[values.length];
+            int[] haabMonths = new int[values.length];
+            kernel.decomposeCalendarRound(values, tzolkinNumerals, tzolkinDays, haabNumerals, haabMonths);
+
+            for (int i = 0; i < values.length; ++i)
+            {
+                LongCountDate date = new LongCountDate(values[i]);
+                CalendarRoundDate expected = new CalendarRoundDate(LongCountDate.calendarRoundValue(date.toInt()));
+
+                assertEquals(expected.getTzolkinDate().getNumeral(), tzolkinNumerals[i]);
+                assertEquals(expected.getTzolkinDate().getDay().ordinal(), tzolkinDays[i]);
+                assertEquals(expected.getHaabDate().getNumeral(), haabNumerals[i]);
+                assertEquals(expected.getHaabDate().getMonth().ordinal(), haabMonths[i]);
+            }
+        }
+    }
+
+    private static int[] block(int start)
+    {
+        // An odd length, so the vectorized kernel also exercises its tail
+        int[] values = new int[s_block];
+        for (int i = 0; i < values.length; ++i)
+        {
+            values[i] = start + i;
+        }
+        return values;
+    }
+
+    private static final int s_range = 20 * LongCountDate.Period.BAKTUN.days();
+
+    private static final int s_block = 4099;
+
+    private static final int[] s_edges = { -1, Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE - 1,
+            Integer.MAX_VALUE - 18979, 1 << 30, (1 << 30) - 1 };
+}
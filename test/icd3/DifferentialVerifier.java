@@ -0,0 +1,301 @@
+/**
+ *
+ */
+package icd3;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * Compares an implementation of ConversionOperations against the reference model over the whole input space.
+ *
+ * The space is every day of a Long Count range for the decompositions, every Tzolkin and Haab combination for
+ * composition, and every Calendar Round date against anchors spread across the range for occurrences in either
+ * direction. Blocks of the space are checked in parallel on the common fork-join pool.
+ */
+public class DifferentialVerifier
+{
+    private final ConversionOperations m_reference;
+
+    private final ConversionOperations m_candidate;
+
+    /**
+     * Instantiates a verifier for a candidate implementation.
+     *
+     * @param reference The implementation that defines the expected results.
+     * @param candidate The implementation under test.
+     */
+    public DifferentialVerifier(ConversionOperations reference, ConversionOperations candidate)
+    {
+        if (null == reference || null == candidate)
+        {
+            throw new NullPointerException("Implementations must not be null.");
+        }
+        m_reference = reference;
+        m_candidate = candidate;
+    }
+
+    /**
+     * Check the candidate over the input space.
+     *
+     * @param range The number of Long Count days to check, starting at 0.0.0.0.0.
+     * @param startStride The distance between the start dates checked against every Calendar Round date.
+     * @return The outcome of the comparison.
+     */
+    public Report verify(int range, int startStride)
+    {
+        Report report = new Report();
+
+        // Each block of days is independent, so the blocks can be spread across cores
+        IntStream.range(0, (range + s_block - 1) / s_block).parallel().forEach(block -> {
+            int[] values = sequence(block * s_block, Math.min(s_block, range - block * s_block));
+            verifyLongCount(values, report);
+            verifyCalendarRound(values, report);
+        });
+
+        // One block per Tzolkin date, holding every Haab date
+        IntStream.range(0, new TzolkinDate(0).cycle()).parallel().forEach(tzolkin -> verifyComposition(tzolkin, report));
+
+        // One block per start date, holding every Calendar Round date
+        int calendarRoundCycle = new CalendarRoundDate(0).cycle();
+        IntStream.range(0, (range + startStride - 1) / startStride).parallel().forEach(step -> {
+            int[] calendarRounds = sequence(0, calendarRoundCycle);
+            int[] starts = new int[calendarRoundCycle];
+            java.util.Arrays.fill(starts, step * startStride);
+            verifyOccurrences(calendarRounds, starts, report);
+        });
+
+        return report;
+    }
+
+    private void verifyLongCount(int[] values, Report report)
+    {
+        int periods = LongCountDate.Period.values().length;
+        int[][] expected = new int[periods][values.length];
+        int[][] actual = new int[periods][values.length];
+
+        m_reference.decomposeLongCount(values, expected);
+        m_candidate.decomposeLongCount(values, actual);
+
+        for (int i = 0; i < values.length; ++i)
+        {
+            for (int p = 0; p < periods; ++p)
+            {
+                if (expected[p][i] != actual[p][i])
+                {
+                    report.mismatch(String.format("decomposeLongCount(%d) %s: expected %d but was %d", values[i],
+                            LongCountDate.Period.values()[p], expected[p][i], actual[p][i]));
+                }
+            }
+        }
+        report.checked(values.length);
+    }
+
+    private void verifyCalendarRound(int[] values, Report report)
+    {
+        int[][] expected = new int[4][values.length];
+        int[][] actual = new int[4][values.length];
+
+        m_reference.decomposeCalendarRound(values, expected[0], expected[1], expected[2], expected[3]);
+        m_candidate.decomposeCalendarRound(values, actual[0], actual[1], actual[2], actual[3]);
+
+        for (int i = 0; i < values.length; ++i)
+        {
+            for (int c = 0; c < expected.length; ++c)
+            {
+                if (expected[c][i] != actual[c][i])
+                {
+                    report.mismatch(String.format("decomposeCalendarRound(%d) component %d: expected %d but was %d",
+                            values[i], c, expected[c][i], actual[c][i]));
+                }
+            }
+        }
+        report.checked(values.length);
+    }
+
+    private void verifyComposition(int tzolkin, Report report)
+    {
+        int haabCycle = HaabDate.haabCycle();
+        TzolkinDate tzolkinDate = new TzolkinDate(tzolkin);
+
+        int[] tzolkinNumerals = new int[haabCycle];
+        int[] tzolkinDays = new int[haabCycle];
+        int[] haabNumerals = new int[haabCycle];
+        int[] haabMonths = new int[haabCycle];
+
+        for (int haab = 0; haab < haabCycle; ++haab)
+        {
+            HaabDate haabDate = new HaabDate(haab);
+            tzolkinNumerals[haab] = tzolkinDate.getNumeral();
+            tzolkinDays[haab] = tzolkinDate.getDay().ordinal();
+            haabNumerals[haab] = haabDate.getNumeral();
+            haabMonths[haab] = haabDate.getMonth().ordinal();
+        }
+
+        int[] expected = new int[haabCycle];
+        int[] actual = new int[haabCycle];
+        m_reference.composeCalendarRound(tzolkinNumerals, tzolkinDays, haabNumerals, haabMonths, expected);
+        m_candidate.composeCalendarRound(tzolkinNumerals, tzolkinDays, haabNumerals, haabMonths, actual);
+
+        for (int haab = 0; haab < haabCycle; ++haab)
+        {
+            if (expected[haab] != actual[haab])
+            {
+                report.mismatch(String.format("composeCalendarRound(%s %s): expected %d but was %d", tzolkinDate,
+                        new HaabDate(haab), expected[haab], actual[haab]));
+            }
+        }
+        report.checked(haabCycle);
+    }
+
+    private void verifyOccurrences(int[] calendarRounds, int[] starts, Report report)
+    {
+        int[][] expected = new int[3][calendarRounds.length];
+        int[][] actual = new int[3][calendarRounds.length];
+
+        m_reference.firstOccurrences(calendarRounds, starts, expected[0]);
+        m_candidate.firstOccurrences(calendarRounds, starts, actual[0]);
+        m_reference.lastOccurrences(calendarRounds, starts, expected[1]);
+        m_candidate.lastOccurrences(calendarRounds, starts, actual[1]);
+        m_reference.nearestOccurrences(calendarRounds, starts, expected[2]);
+        m_candidate.nearestOccurrences(calendarRounds, starts, actual[2]);
+
+        for (int i = 0; i < calendarRounds.length; ++i)
+        {
+            for (int o = 0; o < expected.length; ++o)
+            {
+                if (expected[o][i] != actual[o][i])
+                {
+                    report.mismatch(String.format("%s(%d, %d): expected %d but was %d", s_occurrenceOperations[o],
+                            calendarRounds[i], starts[i], expected[o][i], actual[o][i]));
+                }
+            }
+        }
+        report.checked(calendarRounds.length);
+    }
+
+    private static int[] sequence(int start, int length)
+    {
+        int[] values = new int[length];
+        for (int i = 0; i < length; ++i)
+        {
+            values[i] = start + i;
+        }
+        return values;
+    }
+
+    /**
+     * The outcome of a verification, safe to update from several threads.
+     */
+    public static class Report
+    {
+        private final AtomicLong m_checked = new AtomicLong();
+
+        private final AtomicLong m_mismatches = new AtomicLong();
+
+        private final List<String> m_examples = Collections.synchronizedList(new ArrayList<String>());
+
+        void checked(int count)
+        {
+            m_checked.addAndGet(count);
+        }
+
+        void mismatch(String description)
+        {
+            // Keep only the first few descriptions, the count tells the rest
+            if (m_mismatches.incrementAndGet() <= s_maxExamples)
+            {
+                m_examples.add(description);
+            }
+        }
+
+        /**
+         * @return The number of inputs compared.
+         */
+        public long getChecked()
+        {
+            return m_checked.get();
+        }
+
+        /**
+         * @return The number of outputs that differed from the reference.
+         */
+        public long getMismatches()
+        {
+            return m_mismatches.get();
+        }
+
+        /**
+         * @return Descriptions of the first mismatches found.
+         */
+        public List<String> getExamples()
+        {
+            return m_examples;
+        }
+
+        /*
+         * (non-Javadoc)
+         *
+         * @see java.lang.Object#toString()
+         */
+        @Override
+        public String toString()
+        {
+            StringBuilder builder = new StringBuilder();
+            builder.append(String.format("%d inputs checked, %d mismatches", getChecked(), getMismatches()));
+            synchronized (m_examples)
+            {
+                for (String example : m_examples)
+                {
+                    builder.append(String.format("%n  %s", example));
+                }
+            }
+            return builder.toString();
+        }
+
+        private static final int s_maxExamples = 20;
+    }
+
+    /**
+     * Verify every built-in implementation over twenty baktuns, exiting with a failure status on any mismatch.
+     *
+     * @param args Optionally, the number of days to check and the stride between start dates.
+     */
+    public static void main(String[] args)
+    {
+        int range = args.length > 0 ? Integer.parseInt(args[0]) : s_defaultRange;
+        int startStride = args.length > 1 ? Integer.parseInt(args[1]) : s_defaultStartStride;
+
+        ConversionOperations reference = new ReferenceConversions();
+        ConversionOperations[] candidates = { DecompositionKernel.scalar(), DecompositionKernel.getInstance() };
+
+        boolean passed = true;
+        for (ConversionOperations candidate : candidates)
+        {
+            long start = System.nanoTime();
+            Report report = new DifferentialVerifier(reference, candidate).verify(range, startStride);
+            long elapsed = (System.nanoTime() - start) / 1000000;
+
+            System.out.println(String.format("%s: %s (%d ms)", candidate.getClass().getSimpleName(), report, elapsed));
+            passed &= report.getMismatches() == 0;
+        }
+
+        if (!passed)
+        {
+            System.exit(1);
+        }
+    }
+
+    private static final String[] s_occurrenceOperations = { "firstOccurrences", "lastOccurrences",
+        "nearestOccurrences" };
+
+    // The number of days checked in one parallel task
+    private static final int s_block = 1 << 14;
+
+    private static final int s_defaultRange = 20 * LongCountDate.Period.BAKTUN.days();
+
+    private static final int s_defaultStartStride = 997;
+}
@@ -0,0 +1,79 @@
+/**
+ *
+ */
+package icd3;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ */
+public class DifferentialVerifierTest
+{
+    private ConversionOperations m_reference;
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @Before
+    public void setUp() throws Exception
+    {
+        m_reference = new ReferenceConversions();
+    }
+
+    /**
+     * Test method for {@link icd3.DifferentialVerifier#verify(int, int)}.
+     */
+    @Test
+    public void testVerify()
+    {
+        DifferentialVerifier.Report report = new DifferentialVerifier(m_reference, DecompositionKernel.getInstance())
+                .verify(2 * new CalendarRoundDate(0).cycle(), 9973);
+        assertEquals(report.toString(), 0, report.getMismatches());
+        assertTrue(report.getChecked() > 0);
+    }
+
+    /**
+     * Test method for {@link icd3.DifferentialVerifier#verify(int, int)}.
+     */
+    @Test
+    public void testVerifyBroken()
+    {
+        // A kernel whose occurrences are off by one Calendar Round for late starts
+        ConversionOperations broken = new ReferenceConversions()
+        {
+            @Override
+            public void firstOccurrences(int[] calendarRounds, int[] starts, int[] occurrences)
+            {
+                super.firstOccurrences(calendarRounds, starts, occurrences);
+                for (int i = 0; i < occurrences.length; ++i)
+                {
+                    occurrences[i] += starts[i] > 10000 ? 18980 : 0;
+                }
+            }
+        };
+
+        DifferentialVerifier.Report report = new DifferentialVerifier(m_reference, broken).verify(20000, 5000);
+        assertEquals(18980, report.getMismatches());
+        assertFalse(report.getExamples().isEmpty());
+    }
+
+    /**
+     * Test method for {@link icd3.ReferenceConversions#decomposeCalendarRound(int[], int[], int[], int[], int[])}.
+     */
+    @Test
+    public void testReferenceZeroDay()
+    {
+        // The model must agree with the inscriptions, not just with the kernels: 0.0.0.0.0 is 4 Ajaw 8 Kumku
+        int[][] components = new int[4][1];
+        m_reference.decomposeCalendarRound(new int[] { 0 }, components[0], components[1], components[2],
+            components[3]);
+        assertEquals(4, components[0][0]);
+        assertEquals(TzolkinDate.Day.AJAW.ordinal(), components[1][0]);
+        assertEquals(8, components[2][0]);
+        assertEquals(HaabDate.Month.KUMKU.ordinal(), components[3][0]);
+    }
+}
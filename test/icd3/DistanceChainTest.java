@@ -0,0 +1,175 @@
+/**
+ *
+ */
+package icd3;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ */
+public class DistanceChainTest
+{
+    private LongCountDate m_anchor;
+
+    private String m_text;
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @Before
+    public void setUp() throws Exception
+    {
+        // Name the Calendar Round date reached after the first and last steps, as counted one step at a time
+        m_anchor = new LongCountDate(18, 5, 11, 12, 9);
+        LongCountDate first = m_anchor.plus(DistanceNumber.parse("+2.5.13").getDays());
+        LongCountDate last = first.plus(DistanceNumber.parse("-1.0.4").getDays()).plus(DistanceNumber.parse(
+            "+3.1.0.0").getDays());
+        m_text = "+2.5.13 " + calendarRound(first) + ", -1.0.4, +3.1.0.0 " + calendarRound(last);
+    }
+
+    /**
+     * Test method for {@link icd3.DistanceChain#parse(java.lang.String)}.
+     */
+    @Test
+    public void testParse()
+    {
+        DistanceChain chain = DistanceChain.parse(m_text);
+        assertEquals(3, chain.getStepCount());
+        assertEquals(m_text, chain.toString());
+        assertEquals(DistanceNumber.parse("-1.0.4"), chain.getStep(1));
+        assertNull(chain.getCalendarRound(1));
+        assertEquals(833 - 364, chain.getOffset(1));
+        assertEquals(833 - 364 + 3 * 7200 + 360, chain.getOffset());
+        assertEquals(new CalendarRoundDate(LongCountDate.calendarRoundValue(m_anchor.toInt())), chain
+            .getAnchorCalendarRound());
+
+        // Case is not significant in names
+        assertEquals(chain.getOffset(), DistanceChain.parse(m_text.toLowerCase()).getOffset());
+
+        for (String invalid : new String[] { "", "+1.0 4.AJAW", "+1.0 14.AJAW 8.KUMKU", "+1.0 4.AJAW 6.WAYEB",
+            "+1.0 4.AJAW 8.KUMKU 1", "+1.0 4.NOTADAY 8.KUMKU", "+1.0 4.AJAW 9.KUMKU" })
+        {
+            try
+            {
+                DistanceChain.parse(invalid);
+                fail(invalid);
+            }
+            catch (IllegalArgumentException e)
+            {
+            }
+        }
+    }
+
+    /**
+     * Test method for {@link icd3.DistanceChain#DistanceChain(icd3.DistanceNumber[], icd3.CalendarRoundDate[])}.
+     */
+    @Test
+    public void testDistanceChain()
+    {
+        // Two steps a day apart cannot both name the same Calendar Round date
+        CalendarRoundDate calendarRound = new CalendarRoundDate(100);
+        try
+        {
+            new DistanceChain(new DistanceNumber[] { new DistanceNumber(1), new DistanceNumber(1) },
+                new CalendarRoundDate[] { calendarRound, calendarRound });
+            fail();
+        }
+        catch (IllegalArgumentException e)
+        {
+        }
+
+        // Nor can a step name Tzolkin and Haab dates that never fall on the same day
+        try
+        {
+            new DistanceChain(new DistanceNumber[] { new DistanceNumber(1) }, new CalendarRoundDate[] {
+                new CalendarRoundDate(new TzolkinDate(4, TzolkinDate.Day.AJAW), new HaabDate(9,
+                    HaabDate.Month.KUMKU)) });
+            fail();
+        }
+        catch (IllegalArgumentException e)
+        {
+        }
+
+        // A whole Calendar Round later, it can
+        DistanceChain chain = new DistanceChain(new DistanceNumber[] { new DistanceNumber(1), new DistanceNumber(
+            18980) }, new CalendarRoundDate[] { calendarRound, calendarRound });
+        assertEquals(99, chain.getAnchorCalendarRound().toInt());
+        assertNull(new DistanceChain(new DistanceNumber[0], new CalendarRoundDate[0]).getAnchorCalendarRound());
+    }
+
+    /**
+     * Test method for {@link icd3.DistanceChain#apply(icd3.LongCountDate)}.
+     */
+    @Test
+    public void testApply()
+    {
+        DistanceChain chain = DistanceChain.parse(m_text);
+        LongCountDate expected = m_anchor;
+        for (int i = 0; i < chain.getStepCount(); ++i)
+        {
+            expected = expected.plus(chain.getStep(i).getDays());
+        }
+        assertEquals(expected, chain.apply(m_anchor));
+
+        try
+        {
+            chain.apply(m_anchor.plus(1));
+            fail();
+        }
+        catch (IllegalArgumentException e)
+        {
+        }
+
+        // Counting back before 0.0.0.0.0 does not fit
+        DistanceChain backward = DistanceChain.parse("-1.0, +2.0");
+        assertFalse(backward.matches(19));
+        assertTrue(backward.matches(20));
+    }
+
+    /**
+     * Test method for {@link icd3.DistanceChain#apply(int[], int[])}.
+     */
+    @Test
+    public void testApplyBatch()
+    {
+        DistanceChain chain = DistanceChain.parse(m_text);
+        Random random = new Random(39);
+        int[] anchors = new int[10000];
+        for (int i = 0; i < anchors.length; ++i)
+        {
+            anchors[i] = random.nextInt(2000000);
+        }
+        anchors[0] = m_anchor.toInt();
+
+        int[] results = new int[anchors.length];
+        chain.apply(anchors, results);
+        int matched = 0;
+        for (int i = 0; i < anchors.length; ++i)
+        {
+            assertEquals(anchors[i] + chain.getOffset(), results[i]);
+
+            // An anchor fits exactly when stepping through the chain arrives at every named Calendar Round date
+            boolean fits = true;
+            for (int step = 0; step < chain.getStepCount(); ++step)
+            {
+                CalendarRoundDate named = chain.getCalendarRound(step);
+                fits &= null == named || named.toInt() == LongCountDate.calendarRoundValue(anchors[i] + chain
+                    .getOffset(step));
+            }
+            assertEquals(fits, chain.matches(anchors[i]));
+            matched += fits ? 1 : 0;
+        }
+        assertTrue(matched > 0);
+    }
+
+    private static String calendarRound(LongCountDate date)
+    {
+        return new CalendarRoundDate(LongCountDate.calendarRoundValue(date.toInt())).toString();
+    }
+}
@@ -0,0 +1,69 @@
+/**
+ *
+ */
+package icd3;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ */
+public class DistanceNumberTest
+{
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @Before
+    public void setUp() throws Exception
+    {
+    }
+
+    /**
+     * Test method for {@link icd3.DistanceNumber#parse(java.lang.String)}.
+     */
+    @Test
+    public void testParse()
+    {
+        DistanceNumber forward = DistanceNumber.parse("+2.5.13");
+        assertEquals(2 * 360 + 5 * 20 + 13, forward.getDays());
+        assertEquals(2, forward.getPeriod(LongCountDate.Period.TUN));
+        assertEquals(0, forward.getPeriod(LongCountDate.Period.BAKTUN));
+        assertEquals("+2.5.13", forward.toString());
+
+        DistanceNumber backward = DistanceNumber.parse(" -1.0.4 ");
+        assertEquals(-(360 + 4), backward.getDays());
+        assertEquals("-1.0.4", backward.toString());
+
+        assertEquals(new LongCountDate(0, 0, 0, 0, 13).toInt(), DistanceNumber.parse("+13.0.0.0.0").getDays());
+        assertEquals(DistanceNumber.parse("+0.0.5.13"), DistanceNumber.parse("+5.13"));
+
+        for (String invalid : new String[] { "2.5.13", "+", "+2..13", "+2.18.0", "+1.20", "+1.2.3.4.5.6", "+1.x",
+            "+99999999999" })
+        {
+            try
+            {
+                DistanceNumber.parse(invalid);
+                fail(invalid);
+            }
+            catch (IllegalArgumentException e)
+            {
+            }
+        }
+    }
+
+    /**
+     * Test method for {@link icd3.DistanceNumber#DistanceNumber(int)}.
+     */
+    @Test
+    public void testDistanceNumber()
+    {
+        assertEquals("+2.5.13", new DistanceNumber(2 * 360 + 5 * 20 + 13).toString());
+        assertEquals("-1.0.4", new DistanceNumber(-(360 + 4)).toString());
+        assertEquals("+0", new DistanceNumber(0).toString());
+        assertEquals(new DistanceNumber(-7200), DistanceNumber.parse("-1.0.0.0"));
+    }
+}
@@ -79,4 +79,23 @@ public class HaabDateTest
         assertEquals(new HaabDate(1), new HaabDate(2, HaabDate.Month.POHP));
         assertEquals(new HaabDate(364), new HaabDate(5, HaabDate.Month.WAYEB));
     }
+
+    /**
+     * Test method for {@link icd3.HaabDate#HaabDate(int, icd3.HaabDate.Month)}.
+     */
+    @Test
+    public void testHaabDateIntMonth()
+    {
+        // Numerals outside the month are clamped, and the integer representation agrees with the clamped components
+        HaabDate late = new HaabDate(25, HaabDate.Month.POHP);
+        assertEquals(20, late.getNumeral());
+        assertEquals(HaabDate.Month.POHP, late.getMonth());
+        assertEquals(new HaabDate(19), late);
+
+        HaabDate early = new HaabDate(-3, HaabDate.Month.WO);
+        assertEquals(1, early.getNumeral());
+        assertEquals(new HaabDate(20), early);
+
+        assertEquals(new HaabDate(364), new HaabDate(19, HaabDate.Month.WAYEB));
+    }
 }
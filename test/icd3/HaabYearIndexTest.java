@@ -0,0 +1,156 @@
+/**
+ *
+ */
+package icd3;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ */
+public class HaabYearIndexTest
+{
+    private LongCountDate m_start;
+
+    private LongCountDate m_end;
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @Before
+    public void setUp() throws Exception
+    {
+        m_start = new LongCountDate(0);
+        m_end = new LongCountDate(0, 0, 10, 7);
+    }
+
+    /**
+     * Test method for {@link icd3.HaabYearIndex#newYears(icd3.LongCountDate, icd3.LongCountDate)}.
+     */
+    @Test
+    public void testNewYears()
+    {
+        assertEquals(scan(m_start, m_end, null, 0), HaabYearIndex.newYears(m_start, m_end));
+
+        LongCountDate start = new LongCountDate(0, 0, 0, 0, 9);
+        LongCountDate end = new LongCountDate(0, 0, 3, 0, 9);
+        assertEquals(scan(start, end, null, 0), HaabYearIndex.newYears(start, end));
+        for (LongCountDate newYear : HaabYearIndex.newYears(start, end))
+        {
+            assertEquals(1, new CalendarRoundDate(LongCountDate.calendarRoundValue(newYear.toInt())).getHaabDate()
+                .getNumeral());
+        }
+        assertTrue(HaabYearIndex.newYears(end, start).isEmpty());
+    }
+
+    /**
+     * Test method for
+     * {@link icd3.HaabYearIndex#newYears(icd3.TzolkinDate, icd3.LongCountDate, icd3.LongCountDate)}.
+     */
+    @Test
+    public void testNewYearsBearer()
+    {
+        int bearers = 0;
+        for (int tzolkin = 0; tzolkin < TzolkinDate.tzolkinCycle(); ++tzolkin)
+        {
+            TzolkinDate bearer = new TzolkinDate(tzolkin);
+            LongCountSequence newYears = HaabYearIndex.newYears(bearer, m_start, m_end);
+            assertEquals(scan(m_start, m_end, bearer, 0), newYears);
+            if (!newYears.isEmpty())
+            {
+                ++bearers;
+                assertEquals(18980, newYears.getStride());
+            }
+        }
+
+        // Four day names with thirteen numerals each
+        assertEquals(52, bearers);
+
+        Set<TzolkinDate.Day> days = EnumSet.noneOf(TzolkinDate.Day.class);
+        for (HaabYear year : HaabYearIndex.years(m_start, m_end))
+        {
+            days.add(year.getBearer().getDay());
+        }
+        assertEquals(EnumSet.of(TzolkinDate.Day.AKBAL, TzolkinDate.Day.LAMAT, TzolkinDate.Day.BEN,
+            TzolkinDate.Day.ETZNAB), days);
+
+        LongCountDate start = new LongCountDate(0, 0, 0, 0, 9);
+        LongCountDate end = new LongCountDate(0, 0, 0, 0, 10);
+        List<HaabYear> years = HaabYearIndex.years(new TzolkinDate(13, TzolkinDate.Day.ETZNAB), start, end);
+        assertEquals(7, years.size());
+        for (HaabYear year : years)
+        {
+            assertEquals(new TzolkinDate(13, TzolkinDate.Day.ETZNAB), year.getBearer());
+        }
+        assertTrue(HaabYearIndex.years(new TzolkinDate(13, TzolkinDate.Day.KAWAK), start, end).isEmpty());
+    }
+
+    /**
+     * Test method for {@link icd3.HaabYearIndex#years(icd3.TzolkinDate, icd3.LongCountDate, icd3.LongCountDate)}.
+     */
+    @Test
+    public void testYears()
+    {
+        List<HaabYear> years = HaabYearIndex.years(m_start, m_end);
+        assertEquals(HaabYearIndex.newYears(m_start, m_end).size(), years.size());
+        for (int i = 0; i < years.size(); ++i)
+        {
+            HaabYear year = years.get(i);
+            assertEquals(HaabYearIndex.newYears(m_start, m_end).get(i), year.getNewYear());
+            assertTrue(HaabYearIndex.years(year.getBearer(), m_start, m_end).contains(year));
+        }
+    }
+
+    /**
+     * Test method for {@link icd3.HaabYearIndex#wayebStarts(icd3.LongCountDate, icd3.LongCountDate)}.
+     */
+    @Test
+    public void testWayebStarts()
+    {
+        assertEquals(scan(m_start, m_end, null, HaabDate.Month.WAYEB.daysBefore()), HaabYearIndex.wayebStarts(
+            m_start, m_end));
+    }
+
+    /**
+     * Test method for {@link icd3.HaabYearIndex#calendarRoundStarts(icd3.LongCountDate, icd3.LongCountDate)}.
+     */
+    @Test
+    public void testCalendarRoundStarts()
+    {
+        LongCountSequence starts = HaabYearIndex.calendarRoundStarts(new LongCountDate(1), new LongCountDate(5
+            * 18980 + 1));
+        assertEquals(5, starts.size());
+        for (LongCountDate start : starts)
+        {
+            assertEquals(LongCountDate.calendarRoundValue(0), LongCountDate.calendarRoundValue(start.toInt()));
+        }
+        assertEquals(new LongCountDate(18980), starts.get(0));
+    }
+
+    /**
+     * Find the days falling on one day of the Haab year, and optionally on one Tzolkin date, one day at a time.
+     */
+    private static List<LongCountDate> scan(LongCountDate start, LongCountDate end, TzolkinDate tzolkin, int haab)
+    {
+        List<LongCountDate> days = new ArrayList<LongCountDate>();
+        for (int day = start.toInt(); day < end.toInt(); ++day)
+        {
+            // Count the Tzolkin date on from 4 Ajaw on 0.0.0.0.0, independently of the index
+            HaabDate haabDate = new CalendarRoundDate(LongCountDate.calendarRoundValue(day)).getHaabDate();
+            if (haabDate.toInt() == haab && (null == tzolkin || new TzolkinDate(4, TzolkinDate.Day.AJAW).plus(day)
+                .equals(tzolkin)))
+            {
+                days.add(new LongCountDate(day));
+            }
+        }
+        return days;
+    }
+}
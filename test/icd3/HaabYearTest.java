@@ -0,0 +1,101 @@
+/**
+ *
+ */
+package icd3;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ */
+public class HaabYearTest
+{
+    private HaabYear m_year;
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @Before
+    public void setUp() throws Exception
+    {
+        m_year = HaabYearIndex.years(new LongCountDate(0, 0, 0, 0, 9), new LongCountDate(0, 0, 0, 0, 10)).get(3);
+    }
+
+    /**
+     * Test method for {@link icd3.HaabYear#getBearer()}.
+     */
+    @Test
+    public void testGetBearer()
+    {
+        CalendarRoundDate newYear = new CalendarRoundDate(LongCountDate.calendarRoundValue(m_year.getNewYear()
+            .toInt()));
+        assertEquals(new TzolkinDate(4, TzolkinDate.Day.AJAW).plus(m_year.getNewYear().toInt()), m_year.getBearer());
+        assertEquals(new HaabDate(1, HaabDate.Month.POHP), newYear.getHaabDate());
+
+        // The bearer and 1 Pohp fall on the same day, as the Calendar Round conversion has it
+        TzolkinDate bearer = m_year.getBearer();
+        assertEquals(newYear, DateValidator.calendarRound(bearer.getNumeral(), bearer.getDay(), 1,
+            HaabDate.Month.POHP));
+        assertEquals(bearer, newYear.getTzolkinDate());
+
+        // The first new year of the Long Count, 0.0.0.0.18, is 9 Etz'nab 1 Pohp
+        HaabYear first = HaabYearIndex.years(new LongCountDate(0), new LongCountDate(0, 0, 0, 1)).get(0);
+        assertEquals(new LongCountDate(18), first.getNewYear());
+        assertEquals(new TzolkinDate(9, TzolkinDate.Day.ETZNAB), first.getBearer());
+        assertEquals(new CalendarRoundDate(LongCountDate.calendarRoundValue(18)), DateValidator.calendarRound(9,
+            TzolkinDate.Day.ETZNAB, 1, HaabDate.Month.POHP));
+        assertEquals(new HaabDate(1, HaabDate.Month.POHP), new CalendarRoundDate(LongCountDate.calendarRoundValue(18))
+            .getHaabDate());
+    }
+
+    /**
+     * Test method for {@link icd3.HaabYear#getDays()}.
+     */
+    @Test
+    public void testGetDays()
+    {
+        LongCountSequence days = m_year.getDays();
+        assertEquals(365, days.size());
+        assertEquals(m_year.getNewYear(), days.get(0));
+        assertEquals(m_year.getEnd(), days.get(364).plus(1));
+        assertEquals(m_year.getEnd(), HaabYearIndex.newYears(m_year.getNewYear().plus(1), m_year.getEnd().plus(1))
+            .get(0));
+    }
+
+    /**
+     * Test method for {@link icd3.HaabYear#getWayeb()}.
+     */
+    @Test
+    public void testGetWayeb()
+    {
+        LongCountSequence wayeb = m_year.getWayeb();
+        assertEquals(5, wayeb.size());
+        for (int i = 0; i < wayeb.size(); ++i)
+        {
+            HaabDate haab = new CalendarRoundDate(LongCountDate.calendarRoundValue(wayeb.getInt(i))).getHaabDate();
+            assertEquals(HaabDate.Month.WAYEB, haab.getMonth());
+            assertEquals(i + 1, haab.getNumeral());
+        }
+
+        // Years at the end of the Long Count are cut short
+        HaabYear last = new HaabYear(Integer.MAX_VALUE - 362);
+        assertEquals(363, last.getDays().size());
+        assertEquals(3, last.getWayeb().size());
+        assertTrue(new HaabYear(Integer.MAX_VALUE - 300).getWayeb().isEmpty());
+    }
+
+    /**
+     * Test method for {@link icd3.HaabYear#equals(java.lang.Object)}.
+     */
+    @Test
+    public void testEqualsObject()
+    {
+        assertEquals(new HaabYear(m_year.getNewYear().toInt()), m_year);
+        assertEquals(new HaabYear(m_year.getNewYear().toInt()).hashCode(), m_year.hashCode());
+        assertFalse(m_year.equals(new HaabYear(m_year.getNewYear().toInt() + 365)));
+        assertEquals(m_year.getBearer() + " " + m_year.getNewYear(), m_year.toString());
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ *
+ */
+package icd3;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ */
+public class LongCountDateListTest
+{
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @Before
+    public void setUp() throws Exception
+    {
+    }
+
+    /**
+     * Test method for {@link icd3.DateList#get(int)}.
+     */
+    @Test
+    public void testGet()
+    {
+        LongCountDateList list = LongCountDateList.of(25, -3);
+        assertEquals(2, list.size());
+        assertEquals(new LongCountDate(5, 1), list.get(0));
+        assertEquals(new LongCountDate(0), list.get(1));
+    }
+
+    /**
+     * Test method for {@link icd3.DateList#add(int, icd3.MayanDate)}.
+     */
+    @Test
+    public void testAdd()
+    {
+        LongCountDateList list = new LongCountDateList(0);
+        list.add(new LongCountDate(3));
+        list.add(0, new LongCountDate(1));
+        list.add(1, new LongCountDate(2));
+        assertArrayEquals(new int[] { 1, 2, 3 }, list.toIntArray());
+        assertEquals(new LongCountDate(2), list.remove(1));
+        assertArrayEquals(new int[] { 1, 3 }, list.toIntArray());
+    }
+
+    /**
+     * Test method for {@link icd3.DateList#sort()}.
+     */
+    @Test
+    public void testSort()
+    {
+        Random random = new Random(293);
+        int[] values = new int[1000];
+        for (int i = 0; i < values.length; ++i)
+        {
+            values[i] = random.nextInt(20 * LongCountDate.Period.BAKTUN.days());
+        }
+        LongCountDateList list = LongCountDateList.of(values);
+        list.sort();
+
+        Arrays.sort(values);
+        assertArrayEquals(values, list.toIntArray());
+    }
+
+    /**
+     * Test method for {@link icd3.DateList#binarySearch(int)}.
+     */
+    @Test
+    public void testBinarySearch()
+    {
+        LongCountDateList list = LongCountDateList.of(10, 20, 30);
+        assertEquals(1, list.binarySearch(new LongCountDate(20)));
+        assertEquals(-3, list.binarySearch(25));
+    }
+
+    /**
+     * Test method for {@link icd3.LongCountDateList#merge(icd3.LongCountDateList[])}.
+     */
+    @Test
+    public void testMerge()
+    {
+        LongCountDateList merged = LongCountDateList.merge(LongCountDateList.of(1, 4, 7), new LongCountDateList(),
+                LongCountDateList.of(2, 5), LongCountDateList.of(3, 6, 8, 9));
+        assertArrayEquals(new int[] { 1, 2, 3, 4, 5, 6, 7, 8, 9 }, merged.toIntArray());
+    }
+}
@@ -4,6 +4,7 @@
 package icd3;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -81,6 +82,20 @@ public class LongCountDateTest
         assertEquals(new LongCountDate(0), new LongCountDate(0, 0, 0, 0, 0));
     }
 
+    /**
+     * Test method for {@link icd3.LongCountDate#calendarRoundValue(int)}.
+     */
+    @Test
+    public void testCalendarRoundValue()
+    {
+        // The zero day must decode to the pair it is defined by, or every conversion is measured from another day
+        CalendarRoundDate zeroDay = new CalendarRoundDate(LongCountDate.calendarRoundValue(0));
+        assertEquals(new TzolkinDate(4, TzolkinDate.Day.AJAW), zeroDay.getTzolkinDate());
+        assertEquals(new HaabDate(8, HaabDate.Month.KUMKU), zeroDay.getHaabDate());
+        assertEquals(new CalendarRoundDate(new TzolkinDate(4, TzolkinDate.Day.AJAW), new HaabDate(8,
+            HaabDate.Month.KUMKU)), zeroDay);
+    }
+
     /**
      * Test method for {@link icd3.LongCountDate#calendarRoundToLongCount(icd3.CalendarRoundDate, icd3.LongCountDate)}.
      */
@@ -109,4 +124,180 @@ public class LongCountDateTest
                 LongCountDate.calendarRoundToLongCountList(cr, new LongCountDate(0, 0, 0, 0, 8), new LongCountDate(0,0,0,0,10)).get(1));
     }
 
+    /**
+     * Test method for {@link icd3.LongCountDate#firstOccurrence(int, int)}.
+     */
+    @Test
+    public void testFirstOccurrence()
+    {
+        CalendarRoundDate cr = new CalendarRoundDate(new TzolkinDate(9, TzolkinDate.Day.AJAW),
+                new HaabDate(3, HaabDate.Month.SIP));
+        LongCountDate start = new LongCountDate(1, 0, 0, 0, 8);
+        assertEquals(LongCountDate.calendarRoundToLongCount(cr, start).toInt(),
+                LongCountDate.firstOccurrence(cr.toInt(), start.toInt()));
+        assertEquals(cr.toInt(), LongCountDate.calendarRoundValue(new LongCountDate(0, 0, 0, 0, 8).toInt()));
+    }
+
+    /**
+     * Test method for
+     * {@link icd3.LongCountDate.Period#endings(int, icd3.CalendarRoundDate, icd3.LongCountDate, icd3.LongCountDate)}.
+     */
+    @Test
+    public void testEndings()
+    {
+        LongCountDate start = new LongCountDate(0, 0, 0, 0, 8);
+        LongCountDate end = new LongCountDate(0, 0, 0, 0, 11);
+
+        // Compare against a scan of the whole range
+        CalendarRoundDate[] calendarRounds = { new CalendarRoundDate(0), new CalendarRoundDate(159),
+            new CalendarRoundDate(12345), new CalendarRoundDate(LongCountDate.calendarRoundValue(9 * 144000)),
+            new CalendarRoundDate(LongCountDate.calendarRoundValue(8 * 144000 + 7200)) };
+        int[][] lengths = { { 1, 1 }, { 20, 1 }, { 360, 1 }, { 360, 5 }, { 7200, 1 }, { 360, 10 }, { 144000, 1 } };
+        for (int[] length : lengths)
+        {
+            LongCountDate.Period period = period(length[0]);
+            int multiple = length[1];
+            int step = length[0] * multiple;
+
+            for (CalendarRoundDate calendarRound : calendarRounds)
+            {
+                LongCountDateList expected = new LongCountDateList();
+                for (int value = (start.toInt() + step - 1) / step * step; value < end.toInt(); value += step)
+                {
+                    if (LongCountDate.calendarRoundValue(value) == calendarRound.toInt())
+                    {
+                        expected.addInt(value);
+                    }
+                }
+                assertEquals(expected, period.endings(multiple, calendarRound, start, end));
+            }
+        }
+
+        // Only one baktun ending in the range falls on the Calendar Round date of 9.0.0.0.0
+        CalendarRoundDate baktunNine = new CalendarRoundDate(LongCountDate.calendarRoundValue(9 * 144000));
+        assertEquals(new LongCountDate(0, 0, 0, 0, 9), LongCountDate.Period.BAKTUN.endings(baktunNine, start, end)
+            .get(0));
+        assertEquals(1, LongCountDate.Period.BAKTUN.endings(baktunNine, start, end).size());
+
+        // Half-k'atun endings within baktun 9
+        LongCountSequence halfKatuns = LongCountDate.Period.TUN.endings(10, new LongCountDate(0, 0, 0, 0, 9),
+            new LongCountDate(0, 0, 0, 0, 10));
+        assertEquals(40, halfKatuns.size());
+        assertEquals(new LongCountDate(0, 0, 10, 19, 9), halfKatuns.get(39));
+
+        // K'atun endings on the Tzolkin date of 9.0.0.0.0 repeat every 13 k'atuns
+        TzolkinDate tzolkin = baktunNine.getTzolkinDate();
+        LongCountSequence katuns = LongCountDate.Period.KATUN.endings(tzolkin, start, end);
+        assertEquals(13 * 7200, katuns.getStride());
+        for (LongCountDate katun : katuns)
+        {
+            assertEquals(0, katun.getPeriod(LongCountDate.Period.TUN));
+            assertEquals(tzolkin, new CalendarRoundDate(LongCountDate.calendarRoundValue(katun.toInt()))
+                .getTzolkinDate());
+        }
+        assertTrue(katuns.contains(katuns.get(0)));
+        assertTrue(!katuns.contains(katuns.get(0).plus(7200)));
+
+        // An ending that can never fall on the Calendar Round date
+        assertEquals(0, LongCountDate.Period.WINAL.endings(new CalendarRoundDate(1), start, end).size());
+
+        // Known answers rather than the conversion under test: the era begins and the thirteenth baktun ends on
+        // 4 Ajaw, 8 Kumku and 3 K'ank'in respectively
+        TzolkinDate ajaw = new TzolkinDate(4, TzolkinDate.Day.AJAW);
+        LongCountDate thirteen = new LongCountDate(0, 0, 0, 0, 13);
+        LongCountSequence era = LongCountDate.Period.KATUN.endings(ajaw, new LongCountDate(0), thirteen.plus(1));
+        assertEquals(new LongCountDate(0), era.get(0));
+        assertEquals(thirteen, era.get(era.size() - 1));
+        assertEquals(21, era.size());
+        assertEquals(new CalendarRoundDate(ajaw, new HaabDate(8, HaabDate.Month.KUMKU)), new CalendarRoundDate(
+            LongCountDate.calendarRoundValue(0)));
+        assertEquals(new CalendarRoundDate(ajaw, new HaabDate(3, HaabDate.Month.KANKIN)), new CalendarRoundDate(
+            LongCountDate.calendarRoundValue(thirteen.toInt())));
+        assertEquals(new LongCountDate(0), LongCountDate.Period.BAKTUN.endings(new CalendarRoundDate(ajaw,
+            new HaabDate(8, HaabDate.Month.KUMKU)), new LongCountDate(0), thirteen.plus(1)).get(0));
+    }
+
+    /**
+     * Test method for {@link icd3.LongCountDate#calendarRoundToLongCountBefore(icd3.CalendarRoundDate, icd3.LongCountDate)}.
+     */
+    @Test
+    public void testCalendarRoundToLongCountBefore()
+    {
+        CalendarRoundDate calendarRound = new CalendarRoundDate(LongCountDate.calendarRoundValue(100000));
+        assertEquals(new LongCountDate(100000), LongCountDate.calendarRoundToLongCountBefore(calendarRound,
+            new LongCountDate(100000)));
+        assertEquals(new LongCountDate(100000), LongCountDate.calendarRoundToLongCountBefore(calendarRound,
+            new LongCountDate(100000 + 18979)));
+        assertEquals(new LongCountDate(100000 - 18980), LongCountDate.calendarRoundToLongCountBefore(calendarRound,
+            new LongCountDate(99999)));
+        assertEquals(null, LongCountDate.calendarRoundToLongCountBefore(new CalendarRoundDate(LongCountDate
+            .calendarRoundValue(500)), new LongCountDate(499)));
+        assertEquals(-1, LongCountDate.lastOccurrence(LongCountDate.calendarRoundValue(500), 499));
+    }
+
+    /**
+     * Test method for {@link icd3.LongCountDate#nearestOccurrence(int, int)}.
+     */
+    @Test
+    public void testNearestOccurrence()
+    {
+        int calendarRound = LongCountDate.calendarRoundValue(100000);
+        assertEquals(100000, LongCountDate.nearestOccurrence(calendarRound, 100000));
+        assertEquals(100000, LongCountDate.nearestOccurrence(calendarRound, 100000 + 9490));
+        assertEquals(100000 + 18980, LongCountDate.nearestOccurrence(calendarRound, 100000 + 9491));
+        assertEquals(100000, LongCountDate.nearestOccurrence(calendarRound, 100000 - 9489));
+        assertEquals(100000 - 18980, LongCountDate.nearestOccurrence(calendarRound, 100000 - 9490));
+
+        // Before the first occurrence, only the later side exists
+        assertEquals(500, LongCountDate.nearestOccurrence(LongCountDate.calendarRoundValue(500), 0));
+        assertEquals(new LongCountDate(500), LongCountDate.calendarRoundToNearestLongCount(new CalendarRoundDate(
+            LongCountDate.calendarRoundValue(500)), new LongCountDate(9000)));
+    }
+
+    /**
+     * Test method for
+     * {@link icd3.LongCountDate#calendarRoundToNearestLongCounts(icd3.CalendarRoundDate, icd3.LongCountDate, int)}.
+     */
+    @Test
+    public void testCalendarRoundToNearestLongCounts()
+    {
+        int[] anchors = { 0, 499, 500, 9000, 9990, 10000, 60000, 61234 };
+        for (int anchor : anchors)
+        {
+            for (int count = 0; count < 6; ++count)
+            {
+                // Rank every occurrence in reach by distance, earlier first on ties
+                LongCountDateList expected = new LongCountDateList();
+                for (int rank = 0; rank < count; ++rank)
+                {
+                    int best = -1;
+                    for (int value = 500; value < 500 + 20 * 18980; value += 18980)
+                    {
+                        if (!expected.contains(new LongCountDate(value)) && (best < 0 || Math.abs(value - anchor)
+                            < Math.abs(best - anchor)))
+                        {
+                            best = value;
+                        }
+                    }
+                    expected.addInt(best);
+                }
+                expected.sort();
+
+                assertEquals(expected, LongCountDate.calendarRoundToNearestLongCounts(new CalendarRoundDate(
+                    LongCountDate.calendarRoundValue(500)), new LongCountDate(anchor), count));
+            }
+        }
+    }
+
+    private static LongCountDate.Period period(int days)
+    {
+        for (LongCountDate.Period period : LongCountDate.Period.values())
+        {
+            if (period.days() == days)
+            {
+                return period;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
 }
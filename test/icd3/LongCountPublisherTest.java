@@ -0,0 +1,223 @@
+/**
+ *
+ */
+package icd3;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ */
+public class LongCountPublisherTest
+{
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @Before
+    public void setUp() throws Exception
+    {
+    }
+
+    /**
+     * Test method for {@link icd3.LongCountPublisher#subscribe(java.util.concurrent.Flow.Subscriber)}.
+     */
+    @Test
+    public void testSubscribe()
+    {
+        LongCountPublisher publisher = new LongCountPublisher(new LongCountSequence(10, 5, 7), 3, Runnable::run);
+        RecordingSubscriber<LongCountDateList> subscriber = new RecordingSubscriber<>();
+        publisher.subscribe(subscriber);
+
+        // Nothing is sent until it is requested
+        assertTrue(subscriber.m_batches.isEmpty());
+
+        subscriber.m_subscription.request(2);
+        assertEquals(2, subscriber.m_batches.size());
+        assertEquals(LongCountDateList.of(10, 15, 20), subscriber.m_batches.get(0));
+        assertEquals(LongCountDateList.of(25, 30, 35), subscriber.m_batches.get(1));
+        assertFalse(subscriber.m_completed);
+
+        subscriber.m_subscription.request(5);
+        assertEquals(3, subscriber.m_batches.size());
+        assertEquals(LongCountDateList.of(40), subscriber.m_batches.get(2));
+        assertTrue(subscriber.m_completed);
+    }
+
+    /**
+     * Test method for {@link icd3.LongCountPublisher#occurrences(CalendarRoundDate, LongCountDate, LongCountDate, int)}.
+     */
+    @Test
+    public void testOccurrences() throws InterruptedException
+    {
+        CalendarRoundDate calendarRound = new CalendarRoundDate(1234);
+        LongCountDate start = new LongCountDate(0, 0, 0, 0, 9);
+        LongCountDate end = new LongCountDate(0, 0, 0, 0, 12);
+
+        // Deliver on the common pool to a subscriber that asks for one batch at a time
+        RecordingSubscriber<LongCountDateList> subscriber = new RecordingSubscriber<LongCountDateList>()
+        {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription)
+            {
+                super.onSubscribe(subscription);
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(LongCountDateList batch)
+            {
+                super.onNext(batch);
+                m_subscription.request(1);
+            }
+        };
+        LongCountPublisher.occurrences(calendarRound, start, end, 4).subscribe(subscriber);
+        assertTrue(subscriber.m_done.await(10, TimeUnit.SECONDS));
+
+        LongCountDateList received = new LongCountDateList();
+        for (LongCountDateList batch : subscriber.m_batches)
+        {
+            assertTrue(batch.size() <= 4);
+            received.addAll(batch);
+        }
+        assertEquals(LongCountDate.calendarRoundToLongCountList(calendarRound, start, end), received);
+    }
+
+    /**
+     * Test method for {@link icd3.LongCountPublisher#subscribe(java.util.concurrent.Flow.Subscriber)}.
+     */
+    @Test
+    public void testCancelAndInvalidDemand()
+    {
+        RecordingSubscriber<LongCountDateList> cancelled = new RecordingSubscriber<>();
+        new LongCountPublisher(new LongCountSequence(0, 1, 100), 10, Runnable::run).subscribe(cancelled);
+        cancelled.m_subscription.request(1);
+        cancelled.m_subscription.cancel();
+        cancelled.m_subscription.request(1);
+        assertEquals(1, cancelled.m_batches.size());
+        assertFalse(cancelled.m_completed);
+
+        RecordingSubscriber<LongCountDateList> invalid = new RecordingSubscriber<>();
+        new LongCountPublisher(new LongCountSequence(0, 1, 100), 10, Runnable::run).subscribe(invalid);
+        invalid.m_subscription.request(0);
+        assertTrue(invalid.m_error instanceof IllegalArgumentException);
+
+        // An empty range completes without any demand
+        RecordingSubscriber<LongCountDateList> empty = new RecordingSubscriber<>();
+        new LongCountPublisher(new LongCountSequence(0, 1, 0), 10, Runnable::run).subscribe(empty);
+        assertTrue(empty.m_completed);
+    }
+
+    /**
+     * Test method for {@link icd3.LongCountPublisher#subscribe(java.util.concurrent.Flow.Subscriber)}.
+     */
+    @Test
+    public void testFailures()
+    {
+        // A subscriber that throws from onNext is sent its failure, and nothing after it
+        IllegalStateException thrown = new IllegalStateException();
+        RecordingSubscriber<LongCountDateList> failing = new RecordingSubscriber<LongCountDateList>()
+        {
+            @Override
+            public void onNext(LongCountDateList batch)
+            {
+                super.onNext(batch);
+                throw thrown;
+            }
+        };
+        new LongCountPublisher(new LongCountSequence(0, 1, 100), 10, Runnable::run).subscribe(failing);
+        failing.m_subscription.request(3);
+        assertSame(thrown, failing.m_error);
+        assertEquals(1, failing.m_batches.size());
+        failing.m_subscription.request(1);
+        assertEquals(1, failing.m_batches.size());
+        assertFalse(failing.m_completed);
+
+        // An executor that rejects the drain fails the subscriber instead of stalling it
+        boolean[] reject = { true };
+        Executor executor = command ->
+        {
+            if (reject[0])
+            {
+                throw new RejectedExecutionException();
+            }
+            command.run();
+        };
+        RecordingSubscriber<LongCountDateList> rejected = new RecordingSubscriber<>();
+        new LongCountPublisher(new LongCountSequence(0, 1, 100), 10, executor).subscribe(rejected);
+        assertTrue(rejected.m_error instanceof RejectedExecutionException);
+        reject[0] = false;
+        rejected.m_subscription.request(1);
+        assertTrue(rejected.m_batches.isEmpty());
+        assertFalse(rejected.m_completed);
+    }
+
+    /**
+     * Test method for {@link icd3.LongCountPublisher#range(LongCountDate, LongCountDate, int)}.
+     */
+    @Test
+    public void testRange() throws InterruptedException
+    {
+        RecordingSubscriber<LongCountDateList> subscriber = new RecordingSubscriber<>();
+        LongCountPublisher.range(new LongCountDate(95), new LongCountDate(120), 10).subscribe(subscriber);
+        subscriber.m_subscription.request(Long.MAX_VALUE);
+        assertTrue(subscriber.m_done.await(10, TimeUnit.SECONDS));
+
+        assertEquals(3, subscriber.m_batches.size());
+        assertEquals(95, subscriber.m_batches.get(0).getInt(0));
+        assertEquals(119, subscriber.m_batches.get(2).getInt(4));
+    }
+
+    /**
+     * Records every signal it receives, without requesting anything by itself.
+     */
+    static class RecordingSubscriber<T> implements Flow.Subscriber<T>
+    {
+        Flow.Subscription m_subscription;
+
+        final List<T> m_batches = new ArrayList<T>();
+
+        volatile boolean m_completed;
+
+        volatile Throwable m_error;
+
+        final CountDownLatch m_done = new CountDownLatch(1);
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription)
+        {
+            m_subscription = subscription;
+        }
+
+        @Override
+        public void onNext(T item)
+        {
+            m_batches.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable)
+        {
+            m_error = throwable;
+            m_done.countDown();
+        }
+
+        @Override
+        public void onComplete()
+        {
+            m_completed = true;
+            m_done.countDown();
+        }
+    }
+}
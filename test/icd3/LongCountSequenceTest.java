@@ -0,0 +1,84 @@
+/**
+ *
+ */
+package icd3;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ */
+public class LongCountSequenceTest
+{
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @Before
+    public void setUp() throws Exception
+    {
+    }
+
+    /**
+     * Test method for {@link icd3.LongCountSequence#get(int)}.
+     */
+    @Test
+    public void testGet()
+    {
+        LongCountSequence sequence = new LongCountSequence(5, 20, 3);
+        assertEquals(3, sequence.size());
+        assertEquals(new LongCountDate(5), sequence.get(0));
+        assertEquals(new LongCountDate(45), sequence.get(2));
+        assertArrayEquals(new int[] { 5, 25, 45 }, sequence.toIntArray());
+        assertEquals(LongCountDateList.of(5, 25, 45), sequence);
+
+        try
+        {
+            sequence.get(3);
+            fail("Expected an IndexOutOfBoundsException");
+        }
+        catch (IndexOutOfBoundsException e)
+        {
+        }
+    }
+
+    /**
+     * Test method for {@link icd3.LongCountSequence#indexOf(int)}.
+     */
+    @Test
+    public void testIndexOf()
+    {
+        LongCountSequence sequence = new LongCountSequence(5, 20, 3);
+        assertEquals(1, sequence.indexOf(25));
+        assertEquals(-1, sequence.indexOf(26));
+        assertEquals(-1, sequence.indexOf(65));
+        assertEquals(-1, sequence.indexOf(-15));
+        assertEquals(2, sequence.indexOf(new LongCountDate(45)));
+        assertTrue(sequence.contains(new LongCountDate(5)));
+        assertFalse(sequence.contains(new CalendarRoundDate(5)));
+    }
+
+    /**
+     * Test method for {@link icd3.LongCountSequence#within(long, long, int, int)}.
+     */
+    @Test
+    public void testWithin()
+    {
+        assertEquals(LongCountDateList.of(30, 37, 44), LongCountSequence.within(2, 7, 30, 50));
+        assertEquals(LongCountDateList.of(2, 9), LongCountSequence.within(2, 7, -4, 10));
+        assertEquals(0, LongCountSequence.within(60, 7, 30, 50).size());
+        assertEquals(LongCountDateList.of(40), LongCountSequence.within(40, 1L << 40, 0, Integer.MAX_VALUE));
+    }
+
+    /**
+     * Test method for {@link icd3.LongCountSequence#LongCountSequence(int, int, int)}.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testOverflow()
+    {
+        new LongCountSequence(Integer.MAX_VALUE - 10, 10, 3);
+    }
+}
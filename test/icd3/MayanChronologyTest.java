@@ -0,0 +1,98 @@
+/**
+ *
+ */
+package icd3;
+
+import static org.junit.Assert.*;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.temporal.ChronoField;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ */
+public class MayanChronologyTest
+{
+    private MayanChronology m_chronology;
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @Before
+    public void setUp() throws Exception
+    {
+        m_chronology = MayanChronology.INSTANCE;
+    }
+
+    /**
+     * Test method for {@link icd3.MayanChronology#toLongCount(long)}.
+     */
+    @Test
+    public void testToLongCount()
+    {
+        // The end of the 13th bak'tun
+        assertEquals(new LongCountDate(0, 0, 0, 0, 13).toInt(), MayanChronology.toLongCount(LocalDate.of(2012, 12, 21)
+            .toEpochDay()));
+        assertEquals(0, MayanChronology.toLongCount(LocalDate.of(-3113, 8, 11).toEpochDay()));
+        assertEquals(LocalDate.of(-3113, 8, 11).toEpochDay(), MayanChronology.toEpochDay(0));
+
+        try
+        {
+            MayanChronology.toLongCount(LocalDate.of(-3113, 8, 10).toEpochDay());
+            fail();
+        }
+        catch (DateTimeException e)
+        {
+        }
+    }
+
+    /**
+     * Test method for {@link icd3.MayanChronology#date(int, int, int)}.
+     */
+    @Test
+    public void testDate()
+    {
+        // 9.12.11.5.18 is tun 9 * 400 + 12 * 20 + 11, winal 5, kin 18
+        MayanLocalDate date = m_chronology.date(3851, 6, 19);
+        assertEquals(new LongCountDate(18, 5, 11, 12, 9), date.getLongCountDate());
+        assertEquals(date, m_chronology.dateYearDay(3851, 5 * 20 + 19));
+        assertEquals(date, m_chronology.date(MayanChronology.MayanEra.LONG_COUNT, 3851, 6, 19));
+        assertEquals(date, m_chronology.date(date.toLocalDate()));
+        assertEquals(date, m_chronology.dateEpochDay(date.toEpochDay()));
+
+        try
+        {
+            m_chronology.date(3851, 19, 1);
+            fail();
+        }
+        catch (DateTimeException e)
+        {
+        }
+        try
+        {
+            m_chronology.date(3851, 1, 21);
+            fail();
+        }
+        catch (DateTimeException e)
+        {
+        }
+    }
+
+    /**
+     * Test method for {@link icd3.MayanChronology#range(java.time.temporal.ChronoField)}.
+     */
+    @Test
+    public void testRange()
+    {
+        assertEquals(20, m_chronology.range(ChronoField.DAY_OF_MONTH).getMaximum());
+        assertEquals(18, m_chronology.range(ChronoField.MONTH_OF_YEAR).getMaximum());
+        assertEquals(360, m_chronology.range(ChronoField.DAY_OF_YEAR).getMaximum());
+        assertFalse(m_chronology.isLeapYear(3851));
+        assertEquals(MayanChronology.MayanEra.LONG_COUNT, m_chronology.eraOf(0));
+        assertEquals("Mayan", m_chronology.getId());
+    }
+}
@@ -0,0 +1,137 @@
+/**
+ *
+ */
+package icd3;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ */
+public class MayanDateCursorTest
+{
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @Before
+    public void setUp() throws Exception
+    {
+    }
+
+    /**
+     * Test method for {@link icd3.MayanDateCursor#seek(int)}.
+     */
+    @Test
+    public void testSeek()
+    {
+        MayanDateCursor cursor = new MayanDateCursor(new LongCountDate(0, 0, 0, 0, 13));
+        assertEquals(13, cursor.getPeriod(LongCountDate.Period.BAKTUN));
+        check(13 * LongCountDate.Period.BAKTUN.days(), cursor);
+
+        cursor.seek(-5);
+        assertEquals(0, cursor.toInt());
+        assertEquals(new CalendarRoundDate(new TzolkinDate(4, TzolkinDate.Day.AJAW), new HaabDate(8,
+            HaabDate.Month.KUMKU)), cursor.toCalendarRoundDate());
+    }
+
+    /**
+     * Test method for {@link icd3.MayanDateCursor#advance()}.
+     */
+    @Test
+    public void testAdvance()
+    {
+        // Start just before the end of a year, so the walk crosses Wayeb and several Calendar Rounds
+        MayanDateCursor cursor = new MayanDateCursor(17);
+        for (int value = 17; value < 17 + 3 * 18980; ++value)
+        {
+            check(value, cursor);
+            cursor.advance();
+        }
+
+        // The largest representable date can be reached, but not passed
+        cursor = new MayanDateCursor(Integer.MAX_VALUE - 10).setStep(5);
+        cursor.advance().advance();
+        check(Integer.MAX_VALUE, cursor);
+        try
+        {
+            cursor.advance();
+            fail("Expected an IllegalStateException");
+        }
+        catch (IllegalStateException e)
+        {
+        }
+        check(Integer.MAX_VALUE, cursor);
+    }
+
+    /**
+     * Test method for {@link icd3.MayanDateCursor#setStep(int)}.
+     */
+    @Test
+    public void testSetStep()
+    {
+        int[] steps = { 7, 19, 20, 359, 360, 364, 365, 366, 7199, 18980, 144001 };
+        for (int step : steps)
+        {
+            MayanDateCursor cursor = new MayanDateCursor(12345).setStep(step);
+            assertEquals(step, cursor.getStep());
+            for (int value = 12345; value < 12345 + 2000 * step && value >= 0; value += step)
+            {
+                check(value, cursor);
+                cursor.advance();
+            }
+        }
+
+        try
+        {
+            new MayanDateCursor(0).setStep(0);
+            fail("Expected an IllegalArgumentException");
+        }
+        catch (IllegalArgumentException e)
+        {
+        }
+    }
+
+    /**
+     * Test method for {@link icd3.MayanDateCursor#view()}.
+     */
+    @Test
+    public void testView()
+    {
+        MayanDateCursor cursor = new MayanDateCursor(100);
+        MayanDateCursor.View view = cursor.view();
+        assertEquals(100, view.toInt());
+
+        cursor.setStep(265).advance();
+        assertEquals(365, view.toInt());
+        assertEquals(cursor.getCalendarRound(), view.getCalendarRound());
+        assertEquals(cursor.getHaabMonth(), view.getHaabMonth());
+        assertEquals(new LongCountDate(365), view.toLongCountDate());
+    }
+
+    private static void check(int value, MayanDateCursor cursor)
+    {
+        LongCountDate date = new LongCountDate(value);
+        CalendarRoundDate calendarRound = new CalendarRoundDate(LongCountDate.calendarRoundValue(value));
+
+        boolean matches = cursor.toInt() == value && cursor.getCalendarRound() == calendarRound.toInt()
+            && cursor.getTzolkinNumeral() == calendarRound.getTzolkinDate().getNumeral()
+            && cursor.getTzolkinDay() == calendarRound.getTzolkinDate().getDay()
+            && cursor.getHaabNumeral() == calendarRound.getHaabDate().getNumeral()
+            && cursor.getHaabMonth() == calendarRound.getHaabDate().getMonth();
+        for (LongCountDate.Period period : LongCountDate.Period.values())
+        {
+            matches &= cursor.getPeriod(period) == date.getPeriod(period);
+        }
+
+        if (!matches)
+        {
+            fail("Cursor at " + cursor.toLongCountDate() + " " + cursor.getTzolkinNumeral() + " "
+                + cursor.getTzolkinDay() + " " + cursor.getHaabNumeral() + " " + cursor.getHaabMonth()
+                + " does not match " + date + " " + calendarRound);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/**
+ *
+ */
+package icd3;
+
+import static org.junit.Assert.*;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ */
+public class MayanFieldTest
+{
+    private LocalDate m_date;
+
+    private CalendarRoundDate m_calendarRound;
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @Before
+    public void setUp() throws Exception
+    {
+        m_date = LocalDate.of(2012, 12, 21);
+        m_calendarRound = new CalendarRoundDate(LongCountDate.calendarRoundValue(new LongCountDate(0, 0, 0, 0, 13)
+            .toInt()));
+    }
+
+    /**
+     * Test method for {@link icd3.MayanField#getFrom(java.time.temporal.TemporalAccessor)}.
+     */
+    @Test
+    public void testGetFrom()
+    {
+        LocalDate date = m_date.plusDays(123456);
+        LongCountDate longCount = new LongCountDate(MayanChronology.toLongCount(date.toEpochDay()));
+        for (LongCountDate.Period period : LongCountDate.Period.values())
+        {
+            assertEquals(longCount.getPeriod(period), date.get(MayanField.valueOf(period.name())));
+        }
+
+        assertEquals(13, m_date.get(MayanField.BAKTUN));
+        assertEquals(m_calendarRound.getTzolkinDate().getNumeral(), m_date.get(MayanField.TZOLKIN_NUMERAL));
+        assertEquals(m_calendarRound.getTzolkinDate().getDay().ordinal() + 1, m_date.get(MayanField.TZOLKIN_DAY));
+        assertEquals(m_calendarRound.getHaabDate().getNumeral(), m_date.get(MayanField.HAAB_NUMERAL));
+        assertEquals(m_calendarRound.getHaabDate().getMonth().ordinal() + 1, m_date.get(MayanField.HAAB_MONTH));
+        assertEquals(m_date.get(MayanField.TZOLKIN_DAY), MayanLocalDate.from(m_date).get(MayanField.TZOLKIN_DAY));
+    }
+
+    /**
+     * Test method for {@link icd3.MayanField#adjustInto(java.time.temporal.Temporal, long)}.
+     */
+    @Test
+    public void testAdjustInto()
+    {
+        assertEquals(m_date.plusDays(7200), m_date.with(MayanField.KATUN, 1));
+        assertEquals(m_date, m_date.with(MayanField.TZOLKIN_NUMERAL, m_date.get(MayanField.TZOLKIN_NUMERAL)));
+
+        // Named components move forward to their next occurrence
+        for (MayanField field : new MayanField[] { MayanField.TZOLKIN_NUMERAL, MayanField.TZOLKIN_DAY,
+            MayanField.HAAB_MONTH })
+        {
+            for (int value = 1; value <= field.range().getMaximum() - 1; ++value)
+            {
+                LocalDate adjusted = m_date.with(field, value);
+                assertEquals(value, adjusted.get(field));
+                assertFalse(adjusted.isBefore(m_date));
+                assertTrue(adjusted.isBefore(m_date.plusDays(365)));
+            }
+        }
+
+        // Changing the month keeps the numeral
+        assertEquals(m_date.get(MayanField.HAAB_NUMERAL), m_date.with(MayanField.HAAB_MONTH, 3).get(
+            MayanField.HAAB_NUMERAL));
+        LocalDate adjusted = m_date.with(MayanField.HAAB_NUMERAL, 2);
+        assertEquals(2, adjusted.get(MayanField.HAAB_NUMERAL));
+        assertEquals(m_date.get(MayanField.HAAB_MONTH), adjusted.get(MayanField.HAAB_MONTH));
+
+        try
+        {
+            m_date.with(MayanField.WINAL, 18);
+            fail();
+        }
+        catch (DateTimeException e)
+        {
+        }
+    }
+
+    /**
+     * Test method for {@link icd3.MayanField#rangeRefinedBy(java.time.temporal.TemporalAccessor)}.
+     */
+    @Test
+    public void testRangeRefinedBy()
+    {
+        LocalDate wayeb = m_date.with(MayanField.HAAB_NUMERAL, 1).with(MayanField.HAAB_MONTH, 19);
+        assertEquals(19, wayeb.get(MayanField.HAAB_MONTH));
+        assertEquals(5, wayeb.range(MayanField.HAAB_NUMERAL).getMaximum());
+        assertEquals(20, m_date.with(MayanField.HAAB_MONTH, 1).range(MayanField.HAAB_NUMERAL).getMaximum());
+
+        try
+        {
+            wayeb.with(MayanField.HAAB_NUMERAL, 6);
+            fail();
+        }
+        catch (DateTimeException e)
+        {
+        }
+        try
+        {
+            m_date.with(MayanField.HAAB_NUMERAL, 20).with(MayanField.HAAB_MONTH, 19);
+            fail();
+        }
+        catch (DateTimeException e)
+        {
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/**
+ *
+ */
+package icd3;
+
+import static org.junit.Assert.*;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.chrono.ChronoPeriod;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ */
+public class MayanLocalDateTest
+{
+    private MayanLocalDate m_date;
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @Before
+    public void setUp() throws Exception
+    {
+        m_date = new MayanLocalDate(new LongCountDate(18, 5, 11, 12, 9));
+    }
+
+    /**
+     * Test method for {@link icd3.MayanLocalDate#from(java.time.LocalDate)}.
+     */
+    @Test
+    public void testFrom()
+    {
+        LocalDate iso = LocalDate.of(2012, 12, 21);
+        MayanLocalDate date = MayanLocalDate.from(iso);
+        assertEquals("Mayan 13.0.0.0.0", date.toString());
+        assertEquals(iso, date.toLocalDate());
+        assertEquals(iso, LocalDate.from(date));
+        assertEquals(DayOfWeek.FRIDAY.getValue(), date.get(ChronoField.DAY_OF_WEEK));
+        assertTrue(date.isEqual(iso));
+    }
+
+    /**
+     * Test method for {@link icd3.MayanLocalDate#getLong(java.time.temporal.TemporalField)}.
+     */
+    @Test
+    public void testGetLong()
+    {
+        assertEquals(19, m_date.get(ChronoField.DAY_OF_MONTH));
+        assertEquals(6, m_date.get(ChronoField.MONTH_OF_YEAR));
+        assertEquals(119, m_date.get(ChronoField.DAY_OF_YEAR));
+        assertEquals(3851, m_date.get(ChronoField.YEAR));
+        assertEquals(3851 * 18 + 5, m_date.getLong(ChronoField.PROLEPTIC_MONTH));
+        assertEquals(0, m_date.get(ChronoField.ERA));
+        assertEquals(12, m_date.get(MayanField.KATUN));
+        assertFalse(m_date.isSupported(ChronoField.ALIGNED_WEEK_OF_YEAR));
+
+        try
+        {
+            m_date.get(ChronoField.HOUR_OF_DAY);
+            fail();
+        }
+        catch (UnsupportedTemporalTypeException e)
+        {
+        }
+    }
+
+    /**
+     * Test method for {@link icd3.MayanLocalDate#with(java.time.temporal.TemporalField, long)}.
+     */
+    @Test
+    public void testWith()
+    {
+        assertEquals("Mayan 9.12.11.5.0", m_date.with(ChronoField.DAY_OF_MONTH, 1).toString());
+        assertEquals("Mayan 9.12.11.17.18", m_date.with(ChronoField.MONTH_OF_YEAR, 18).toString());
+        assertEquals("Mayan 9.12.10.5.18", m_date.with(ChronoField.YEAR, 3850).toString());
+        assertEquals("Mayan 0.0.0.0.18", m_date.with(ChronoField.PROLEPTIC_MONTH, 0).toString());
+        assertEquals("Mayan 9.12.11.0.0", m_date.with(ChronoField.DAY_OF_YEAR, 1).toString());
+        assertEquals(m_date, m_date.with(ChronoField.EPOCH_DAY, m_date.toEpochDay()));
+        assertEquals("Mayan 10.12.11.5.18", m_date.with(MayanField.BAKTUN, 10).toString());
+
+        try
+        {
+            m_date.with(ChronoField.MONTH_OF_YEAR, 19);
+            fail();
+        }
+        catch (DateTimeException e)
+        {
+        }
+    }
+
+    /**
+     * Test method for {@link icd3.MayanLocalDate#plus(long, java.time.temporal.TemporalUnit)}.
+     */
+    @Test
+    public void testPlus()
+    {
+        assertEquals("Mayan 9.12.11.6.0", m_date.plus(2, ChronoUnit.DAYS).toString());
+        assertEquals("Mayan 9.12.12.0.18", m_date.plus(13, ChronoUnit.MONTHS).toString());
+        assertEquals("Mayan 9.13.1.5.18", m_date.plus(1, ChronoUnit.DECADES).toString());
+        assertEquals("Mayan 9.12.11.5.11", m_date.minus(1, ChronoUnit.WEEKS).toString());
+        assertSame(m_date, m_date.plusDays(0));
+
+        try
+        {
+            m_date.plus(1, ChronoUnit.ERAS);
+            fail();
+        }
+        catch (UnsupportedTemporalTypeException e)
+        {
+        }
+        try
+        {
+            new MayanLocalDate(new LongCountDate(0)).minus(1, ChronoUnit.DAYS);
+            fail();
+        }
+        catch (DateTimeException e)
+        {
+        }
+    }
+
+    /**
+     * Test method for {@link icd3.MayanLocalDate#until(java.time.chrono.ChronoLocalDate)}.
+     */
+    @Test
+    public void testUntil()
+    {
+        MayanLocalDate end = m_date.plusDays(2 * 360 + 3 * 20 + 4);
+        ChronoPeriod period = m_date.until(end);
+        assertEquals(2, period.get(ChronoUnit.YEARS));
+        assertEquals(3, period.get(ChronoUnit.MONTHS));
+        assertEquals(4, period.get(ChronoUnit.DAYS));
+        assertEquals(end, m_date.plus(period));
+
+        assertEquals(2 * 360 + 3 * 20 + 4, m_date.until(end, ChronoUnit.DAYS));
+        assertEquals(2 * 18 + 3, m_date.until(end.toLocalDate(), ChronoUnit.MONTHS));
+        assertEquals(-2, end.until(m_date, ChronoUnit.YEARS));
+    }
+}
@@ -0,0 +1,127 @@
+/**
+ *
+ */
+package icd3;
+
+/**
+ * The conversion operations as defined by the date classes, one object at a time.
+ *
+ * This is the model that every optimized implementation of ConversionOperations is verified against, so it only
+ * goes through the public constructors and methods of the date classes.
+ */
+public class ReferenceConversions implements ConversionOperations
+{
+    /*
+     * (non-Javadoc)
+     *
+     * @see icd3.ConversionOperations#decomposeLongCount(int[], int[][])
+     */
+    @Override
+    public void decomposeLongCount(int[] values, int[][] places)
+    {
+        for (int i = 0; i < values.length; ++i)
+        {
+            LongCountDate date = new LongCountDate(values[i]);
+            for (LongCountDate.Period period : LongCountDate.Period.values())
+            {
+                places[period.ordinal()][i] = date.getPeriod(period);
+            }
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see icd3.ConversionOperations#decomposeCalendarRound(int[], int[], int[], int[], int[])
+     */
+    @Override
+    public void decomposeCalendarRound(int[] values, int[] tzolkinNumerals, int[] tzolkinDays, int[] haabNumerals,
+                                       int[] haabMonths)
+    {
+        for (int i = 0; i < values.length; ++i)
+        {
+            CalendarRoundDate date = s_zeroDay.plus(new LongCountDate(values[i]).toInt());
+
+            tzolkinNumerals[i] = date.getTzolkinDate().getNumeral();
+            tzolkinDays[i] = date.getTzolkinDate().getDay().ordinal();
+            haabNumerals[i] = date.getHaabDate().getNumeral();
+            haabMonths[i] = date.getHaabDate().getMonth().ordinal();
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see icd3.ConversionOperations#composeCalendarRound(int[], int[], int[], int[], int[])
+     */
+    @Override
+    public void composeCalendarRound(int[] tzolkinNumerals, int[] tzolkinDays, int[] haabNumerals, int[] haabMonths,
+                                     int[] calendarRounds)
+    {
+        TzolkinDate.Day[] days = TzolkinDate.Day.values();
+        HaabDate.Month[] months = HaabDate.Month.values();
+
+        for (int i = 0; i < tzolkinNumerals.length; ++i)
+        {
+            TzolkinDate tzolkin = new TzolkinDate(tzolkinNumerals[i], days[tzolkinDays[i]]);
+            HaabDate haab = new HaabDate(haabNumerals[i], months[haabMonths[i]]);
+            calendarRounds[i] = new CalendarRoundDate(tzolkin, haab).toInt();
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see icd3.ConversionOperations#firstOccurrences(int[], int[], int[])
+     */
+    @Override
+    public void firstOccurrences(int[] calendarRounds, int[] starts, int[] occurrences)
+    {
+        for (int i = 0; i < calendarRounds.length; ++i)
+        {
+            occurrences[i] = LongCountDate.calendarRoundToLongCount(new CalendarRoundDate(calendarRounds[i]),
+                    new LongCountDate(starts[i])).toInt();
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see icd3.ConversionOperations#lastOccurrences(int[], int[], int[])
+     */
+    @Override
+    public void lastOccurrences(int[] calendarRounds, int[] anchors, int[] occurrences)
+    {
+        for (int i = 0; i < calendarRounds.length; ++i)
+        {
+            // Step back by the number of days since the Calendar Round date last fell
+            int daysSince = s_zeroDay.plus(anchors[i]).minus(new CalendarRoundDate(calendarRounds[i]));
+            occurrences[i] = anchors[i] - daysSince < 0 ? -1 : anchors[i] - daysSince;
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see icd3.ConversionOperations#nearestOccurrences(int[], int[], int[])
+     */
+    @Override
+    public void nearestOccurrences(int[] calendarRounds, int[] anchors, int[] occurrences)
+    {
+        int[] before = new int[calendarRounds.length];
+        lastOccurrences(calendarRounds, anchors, before);
+
+        for (int i = 0; i < calendarRounds.length; ++i)
+        {
+            int after = LongCountDate.calendarRoundToLongCount(new CalendarRoundDate(calendarRounds[i]),
+                    new LongCountDate(anchors[i])).toInt();
+            boolean afterIsNearer = before[i] < 0 || after - anchors[i] < anchors[i] - before[i];
+            occurrences[i] = afterIsNearer ? after : before[i];
+        }
+    }
+
+    // The Calendar Round date corresponding to 0.0.0.0.0, restated rather than read from LongCountDate. Decoded from
+    // its integer representation, as plus does, so a pair that never falls on the same day would show up as another.
+    private static final CalendarRoundDate s_zeroDay = new CalendarRoundDate(new CalendarRoundDate(
+            new TzolkinDate(4, TzolkinDate.Day.AJAW), new HaabDate(8, HaabDate.Month.KUMKU)).toInt());
+}
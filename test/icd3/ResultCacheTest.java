@@ -0,0 +1,272 @@
+/**
+ *
+ */
+package icd3;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.IntBuffer;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ */
+public class ResultCacheTest
+{
+    private File m_directory;
+
+    private File m_file;
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @Before
+    public void setUp() throws Exception
+    {
+        m_directory = Files.createTempDirectory("cache").toFile();
+        m_file = new File(m_directory, "results.cache");
+    }
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @After
+    public void tearDown() throws Exception
+    {
+        for (File file : m_directory.listFiles())
+        {
+            file.delete();
+        }
+        m_directory.delete();
+    }
+
+    /**
+     * Test method for {@link icd3.ResultCache#putInts(java.lang.String, int[])}.
+     */
+    @Test
+    public void testPutInts() throws IOException
+    {
+        try (ResultCache cache = new ResultCache(m_file))
+        {
+            assertNull(cache.getInts("a"));
+            cache.putInts("a", new int[] { 1, -2, 3 });
+            cache.putInts("b", new int[0]);
+            assertArrayEquals(new int[] { 1, -2, 3 }, toArray(cache.getInts("a")));
+            assertArrayEquals(new int[0], toArray(cache.getInts("b")));
+            assertTrue(cache.getInts("a").isReadOnly());
+
+            // The latest entry for a key wins
+            cache.putInts("a", new int[] { 4 });
+            assertArrayEquals(new int[] { 4 }, toArray(cache.getInts("a")));
+            assertEquals(2, cache.size());
+        }
+    }
+
+    /**
+     * Test method for {@link icd3.ResultCache#putStrings(java.lang.String, java.util.List)}.
+     */
+    @Test
+    public void testPutStrings() throws IOException
+    {
+        List<String> names = Arrays.asList("Imix", "K'iche'", "", "Ajaw");
+        try (ResultCache cache = new ResultCache(m_file))
+        {
+            assertNull(cache.getStrings("names"));
+            cache.putStrings("names", names);
+            assertEquals(names, cache.getStrings("names"));
+            assertEquals(names, cache.getStrings("names", () -> { throw new AssertionError(); }));
+        }
+    }
+
+    /**
+     * Test method for {@link icd3.ResultCache#getInts(java.lang.String)}.
+     */
+    @Test(expected = IOException.class)
+    public void testGetIntsWrongType() throws IOException
+    {
+        try (ResultCache cache = new ResultCache(m_file))
+        {
+            cache.putStrings("names", Arrays.asList("Imix"));
+            cache.getInts("names");
+        }
+    }
+
+    /**
+     * Test method for {@link icd3.ResultCache#ResultCache(java.io.File)}.
+     */
+    @Test
+    public void testReopen() throws IOException
+    {
+        try (ResultCache cache = new ResultCache(m_file))
+        {
+            cache.putInts("a", new int[] { 1, 2 });
+            cache.putStrings("b", Arrays.asList("x", "y"));
+        }
+        try (ResultCache cache = new ResultCache(m_file))
+        {
+            assertEquals(2, cache.size());
+            assertArrayEquals(new int[] { 1, 2 }, toArray(cache.getInts("a")));
+            assertEquals(Arrays.asList("x", "y"), cache.getStrings("b"));
+        }
+    }
+
+    /**
+     * Test method for {@link icd3.ResultCache#getInts(java.lang.String)}.
+     */
+    @Test
+    public void testShared() throws IOException
+    {
+        try (ResultCache first = new ResultCache(m_file); ResultCache second = new ResultCache(m_file))
+        {
+            first.putInts("a", new int[] { 1 });
+            assertArrayEquals(new int[] { 1 }, toArray(second.getInts("a")));
+            second.putInts("b", new int[] { 2 });
+            first.putInts("c", new int[] { 3 });
+            assertArrayEquals(new int[] { 2 }, toArray(first.getInts("b")));
+            assertArrayEquals(new int[] { 3 }, toArray(second.getInts("c")));
+            assertEquals(3, first.size());
+            assertEquals(3, second.size());
+        }
+    }
+
+    /**
+     * Test method for {@link icd3.ResultCache#compact()}.
+     */
+    @Test
+    public void testCompact() throws IOException
+    {
+        try (ResultCache first = new ResultCache(m_file); ResultCache second = new ResultCache(m_file))
+        {
+            for (int i = 0; i < 10; ++i)
+            {
+                first.putInts("a", new int[] { i, i, i });
+            }
+            first.putInts("b", new int[] { 5 });
+            IntBuffer before = second.getInts("a");
+            long length = m_file.length();
+
+            first.compact();
+            assertTrue(m_file.length() < length);
+            assertArrayEquals(new int[] { 9, 9, 9 }, toArray(first.getInts("a")));
+
+            // A view read before compaction stays valid
+            assertArrayEquals(new int[] { 9, 9, 9 }, toArray(before));
+
+            // The other instance follows the replacement file, and its appends reach the first
+            assertArrayEquals(new int[] { 5 }, toArray(second.getInts("b")));
+            second.putInts("c", new int[] { 6 });
+            assertArrayEquals(new int[] { 6 }, toArray(first.getInts("c")));
+            assertEquals(3, first.size());
+        }
+    }
+
+    /**
+     * Test method for {@link icd3.ResultCache#putInts(java.lang.String, int[])}.
+     */
+    @Test
+    public void testReplacedWithoutStaleFlag() throws IOException
+    {
+        try (ResultCache cache = new ResultCache(m_file))
+        {
+            cache.putInts("a", new int[] { 1 });
+
+            // As if a compacting process died between moving its new file into place and marking the old one stale
+            File replacement = new File(m_directory, "replacement.cache");
+            try (ResultCache other = new ResultCache(replacement))
+            {
+                other.putInts("b", new int[] { 2 });
+            }
+            Files.move(replacement.toPath(), m_file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+
+            // The next append follows the replacement instead of going to the unlinked file
+            cache.putInts("c", new int[] { 3 });
+            assertArrayEquals(new int[] { 2 }, toArray(cache.getInts("b")));
+        }
+
+        try (ResultCache cache = new ResultCache(m_file))
+        {
+            assertArrayEquals(new int[] { 3 }, toArray(cache.getInts("c")));
+            assertNull(cache.getInts("a"));
+        }
+    }
+
+    /**
+     * Test method for {@link icd3.ResultCache#ResultCache(java.io.File)}.
+     */
+    @Test(expected = IOException.class)
+    public void testCorruptEntry() throws IOException
+    {
+        try (ResultCache cache = new ResultCache(m_file))
+        {
+            cache.putInts("a", new int[] { 1, 2, 3 });
+        }
+        try (RandomAccessFile file = new RandomAccessFile(m_file, "rw"))
+        {
+            file.seek(file.length() - 8);
+            file.writeInt(99);
+        }
+        new ResultCache(m_file).close();
+    }
+
+    /**
+     * Test method for {@link icd3.ResultCache#ResultCache(java.io.File)}.
+     */
+    @Test(expected = IOException.class)
+    public void testUnsupportedVersion() throws IOException
+    {
+        new ResultCache(m_file).close();
+        try (RandomAccessFile file = new RandomAccessFile(m_file, "rw"))
+        {
+            file.seek(4);
+            file.writeShort(2);
+        }
+        new ResultCache(m_file).close();
+    }
+
+    /**
+     * Test method for
+     * {@link icd3.ResultCache#occurrences(icd3.CalendarRoundDate, icd3.LongCountDate, icd3.LongCountDate)}.
+     */
+    @Test
+    public void testOccurrences() throws IOException
+    {
+        CalendarRoundDate calendarRound = new CalendarRoundDate(1234);
+        LongCountDate start = new LongCountDate(0, 0, 0, 0, 9);
+        LongCountDate end = new LongCountDate(0, 0, 0, 0, 10);
+        List<LongCountDate> expected = LongCountDate.calendarRoundToLongCountList(calendarRound, start, end);
+
+        try (ResultCache cache = new ResultCache(m_file))
+        {
+            int[] occurrences = toArray(cache.occurrences(calendarRound, start, end));
+            assertEquals(expected.size(), occurrences.length);
+            for (int i = 0; i < occurrences.length; ++i)
+            {
+                assertEquals(expected.get(i).toInt(), occurrences[i]);
+            }
+            assertEquals(1, cache.size());
+        }
+        try (ResultCache cache = new ResultCache(m_file))
+        {
+            assertEquals(expected.size(), cache.occurrences(calendarRound, start, end).remaining());
+            assertEquals(1, cache.size());
+        }
+    }
+
+    private static int[] toArray(IntBuffer buffer)
+    {
+        int[] values = new int[buffer.remaining()];
+        buffer.duplicate().get(values);
+        return values;
+    }
+}
@@ -0,0 +1,164 @@
+/**
+ *
+ */
+package icd3;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ */
+public class ShardedJobTest
+{
+    private File m_directory;
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @Before
+    public void setUp() throws Exception
+    {
+        m_directory = Files.createTempDirectory("shards").toFile();
+    }
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @After
+    public void tearDown() throws Exception
+    {
+        for (File file : m_directory.listFiles())
+        {
+            file.delete();
+        }
+        m_directory.delete();
+    }
+
+    /**
+     * Test method for {@link icd3.ShardedJob#partition(int, int, int)}.
+     */
+    @Test
+    public void testPartition()
+    {
+        int[] boundaries = ShardedJob.partition(1000, 10 * 18980 + 5, 4);
+        assertArrayEquals(new int[] { 1000, 3 * 18980, 5 * 18980, 7 * 18980, 10 * 18980 + 5 }, boundaries);
+        assertArrayEquals(boundaries, ShardedJob.partition(1000, 10 * 18980 + 5, 4));
+
+        // More shards than whole cycles leaves some empty
+        assertArrayEquals(new int[] { 5, 18980, 18980, 18980, 30000 }, ShardedJob.partition(5, 30000, 4));
+        assertArrayEquals(new int[] { 5, 100 }, ShardedJob.partition(5, 100, 1));
+    }
+
+    /**
+     * Test method for {@link icd3.ShardedJob#run()}.
+     */
+    @Test
+    public void testRun() throws IOException, InterruptedException
+    {
+        CalendarRoundDateList calendarRounds = CalendarRoundDateList.of(0, 1234, 18979, 1234);
+        LongCountDate start = new LongCountDate(0, 0, 0, 0, 9);
+        LongCountDate end = new LongCountDate(0, 0, 0, 0, 10);
+
+        ShardedJob job = new ShardedJob(calendarRounds, start, end, 3, m_directory);
+        job.setParallelism(2);
+        LongCountDateList result = job.run();
+
+        LongCountDateList expected = new LongCountDateList();
+        for (CalendarRoundDate calendarRound : calendarRounds)
+        {
+            expected.addAll(LongCountDate.calendarRoundToLongCountList(calendarRound, start, end));
+        }
+        expected.sort();
+        assertEquals(expected, result);
+
+        // Only a shard whose result is lost runs again
+        long untouched = job.getResultFile(0).lastModified();
+        assertTrue(job.getResultFile(1).delete());
+        assertFalse(job.isComplete(1));
+        assertEquals(expected, job.run());
+        assertTrue(job.isComplete(1));
+        assertEquals(untouched, job.getResultFile(0).lastModified());
+
+        // A job for other dates in the same directory does not take these results as its own
+        CalendarRoundDateList others = CalendarRoundDateList.of(0, 1234, 18979);
+        ShardedJob other = new ShardedJob(others, start, end, 3, m_directory);
+        for (int shard = 0; shard < other.getShardCount(); ++shard)
+        {
+            assertFalse(other.isComplete(shard));
+        }
+        expected.clear();
+        for (CalendarRoundDate calendarRound : others)
+        {
+            expected.addAll(LongCountDate.calendarRoundToLongCountList(calendarRound, start, end));
+        }
+        expected.sort();
+        assertEquals(expected, other.run());
+        assertFalse(job.isComplete(0));
+    }
+
+    /**
+     * Test method for {@link icd3.ShardedJob#setTimeout(long, java.util.concurrent.TimeUnit)}.
+     */
+    @Test
+    public void testTimeout() throws IOException, InterruptedException
+    {
+        // No worker JVM starts within a millisecond, so every attempt is killed
+        ShardedJob job = new ShardedJob(CalendarRoundDateList.of(0), new LongCountDate(0), new LongCountDate(18980),
+            1, m_directory);
+        job.setTimeout(1, TimeUnit.MILLISECONDS);
+        job.setAttempts(2);
+        try
+        {
+            job.run();
+            fail("Expected an IOException");
+        }
+        catch (IOException e)
+        {
+        }
+        assertFalse(job.isComplete(0));
+    }
+
+    /**
+     * Test method for {@link icd3.ShardWorker#read(File, int, int, int)}.
+     */
+    @Test
+    public void testRead() throws IOException
+    {
+        File file = new File(m_directory, "partial.bin");
+        int query = ShardWorker.query(new int[] { 1, 2 });
+        ShardWorker.write(file, 10, 20, query, new int[] { 11, 15 });
+        assertArrayEquals(new int[] { 11, 15 }, ShardWorker.read(file, 10, 20, query));
+        assertTrue(ShardWorker.holds(file, 10, 20, query));
+
+        try
+        {
+            ShardWorker.read(file, 10, 21, query);
+            fail("Expected an IOException");
+        }
+        catch (IOException e)
+        {
+        }
+
+        // A result for other Calendar Round dates is rejected, even over the same range
+        int other = ShardWorker.query(new int[] { 2, 1 });
+        assertFalse(ShardWorker.holds(file, 10, 20, other));
+        try
+        {
+            ShardWorker.read(file, 10, 20, other);
+            fail("Expected an IOException");
+        }
+        catch (IOException e)
+        {
+        }
+        assertFalse(ShardWorker.holds(new File(m_directory, "missing.bin"), 10, 20, query));
+    }
+}
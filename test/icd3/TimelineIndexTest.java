@@ -0,0 +1,150 @@
+/**
+ *
+ */
+package icd3;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ */
+public class TimelineIndexTest
+{
+    private int[] m_dates;
+
+    private TimelineIndex m_index;
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @Before
+    public void setUp() throws Exception
+    {
+        // Few enough distinct dates that many records share one
+        Random random = new Random(37);
+        m_dates = new int[20000];
+        for (int i = 0; i < m_dates.length; ++i)
+        {
+            m_dates[i] = 1400000 + random.nextInt(200000);
+        }
+        m_index = new TimelineIndex(m_dates);
+    }
+
+    /**
+     * Test method for {@link icd3.TimelineIndex#rangeIds(int, int)}.
+     */
+    @Test
+    public void testRangeIds()
+    {
+        assertEquals(m_dates.length, m_index.size());
+
+        int[] ids = m_index.rangeIds(1450000, 1460000);
+        assertEquals(scan(1450000, 1460000, -1), ids.length);
+        assertEquals(ids.length, m_index.rangeCount(1450000, 1460000));
+        for (int i = 0; i < ids.length; ++i)
+        {
+            assertTrue(m_dates[ids[i]] >= 1450000 && m_dates[ids[i]] < 1460000);
+            assertTrue(i == 0 || m_dates[ids[i - 1]] < m_dates[ids[i]] || m_dates[ids[i - 1]] == m_dates[ids[i]]
+                && ids[i - 1] < ids[i]);
+        }
+
+        assertEquals(m_dates.length, m_index.rangeIds(0, Integer.MAX_VALUE).length);
+        assertEquals(0, m_index.rangeIds(1460000, 1450000).length);
+        assertEquals(0, m_index.rangeIds(0, 1400000).length);
+    }
+
+    /**
+     * Test method for {@link icd3.TimelineIndex#calendarRoundIds(icd3.CalendarRoundDate)}.
+     */
+    @Test
+    public void testCalendarRoundIds()
+    {
+        int calendarRound = LongCountDate.calendarRoundValue(m_dates[0]);
+        int[] ids = m_index.calendarRoundIds(new CalendarRoundDate(calendarRound));
+        assertEquals(scan(0, Integer.MAX_VALUE, calendarRound), ids.length);
+        assertEquals(ids.length, m_index.calendarRoundCount(new CalendarRoundDate(calendarRound)));
+        boolean found = false;
+        for (int i = 0; i < ids.length; ++i)
+        {
+            assertEquals(calendarRound, LongCountDate.calendarRoundValue(m_dates[ids[i]]));
+            assertTrue(i == 0 || m_dates[ids[i - 1]] <= m_dates[ids[i]]);
+            found |= ids[i] == 0;
+        }
+        assertTrue(found);
+
+        // Every record falls in exactly one bucket
+        int total = 0;
+        for (int value = 0; value < 18980; ++value)
+        {
+            total += m_index.calendarRoundCount(new CalendarRoundDate(value));
+        }
+        assertEquals(m_dates.length, total);
+    }
+
+    /**
+     * Test method for {@link icd3.TimelineIndex#calendarRoundIds(icd3.CalendarRoundDate, int, int)}.
+     */
+    @Test
+    public void testCalendarRoundIdsInRange()
+    {
+        int calendarRound = LongCountDate.calendarRoundValue(m_dates[1]);
+        int[] ids = m_index.calendarRoundIds(new CalendarRoundDate(calendarRound), 1450000, 1550000);
+        assertEquals(scan(1450000, 1550000, calendarRound), ids.length);
+        for (int id : ids)
+        {
+            assertTrue(m_dates[id] >= 1450000 && m_dates[id] < 1550000);
+            assertEquals(calendarRound, LongCountDate.calendarRoundValue(m_dates[id]));
+        }
+    }
+
+    /**
+     * Test method for {@link icd3.TimelineIndex#TimelineIndex(int[], int[])}.
+     */
+    @Test
+    public void testTimelineIndex()
+    {
+        TimelineIndex index = new TimelineIndex(new int[] { 500, -3, 500, 20 }, new int[] { 7, 9, 4, -1 });
+        assertArrayEquals(new int[] { 9, -1, 4, 7 }, index.rangeIds(0, 1000));
+        assertArrayEquals(new int[] { 4, 7 }, index.calendarRoundIds(new CalendarRoundDate(LongCountDate
+            .calendarRoundValue(500))));
+
+        try
+        {
+            new TimelineIndex(new int[2], new int[1]);
+            fail();
+        }
+        catch (IllegalArgumentException e)
+        {
+        }
+        try
+        {
+            m_index.calendarRoundIds(null);
+            fail();
+        }
+        catch (NullPointerException e)
+        {
+        }
+    }
+
+    /**
+     * Count records by linear scan, for comparison.
+     */
+    private int scan(int start, int end, int calendarRound)
+    {
+        int count = 0;
+        for (int date : m_dates)
+        {
+            if (date >= start && date < end && (calendarRound < 0 || LongCountDate.calendarRoundValue(
+                date) == calendarRound))
+            {
+                ++count;
+            }
+        }
+        return count;
+    }
+}
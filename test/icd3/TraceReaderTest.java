@@ -0,0 +1,86 @@
+/**
+ *
+ */
+package icd3;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ */
+public class TraceReaderTest
+{
+    private byte[] m_trace;
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @Before
+    public void setUp() throws Exception
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (TraceRecorder recorder = new TraceRecorder(out))
+        {
+            recorder.format(new LongCountDate(9));
+            recorder.parseChain("+1.0");
+        }
+        m_trace = out.toByteArray();
+    }
+
+    /**
+     * Test method for {@link icd3.TraceReader#read(java.io.InputStream)}.
+     */
+    @Test
+    public void testRead() throws IOException
+    {
+        assertEquals(2, TraceReader.read(new ByteArrayInputStream(m_trace)).size());
+        assertEquals("PARSE_CHAIN(+1.0)", TraceReader.read(new ByteArrayInputStream(m_trace)).get(1).toString());
+
+        // Only the header
+        assertEquals(0, TraceReader.read(new ByteArrayInputStream(Arrays.copyOf(m_trace, 6))).size());
+
+        // A bulk conversion whose length decodes as negative
+        byte[] negative = Arrays.copyOf(m_trace, 6 + 12);
+        negative[6] = (byte) TraceCall.Operation.DECOMPOSE_LONG_COUNT.ordinal();
+        negative[7] = 0;
+        Arrays.fill(negative, 8, 17, (byte) 0xFF);
+        negative[17] = 1;
+
+        // A bulk conversion claiming far more dates than follow it
+        byte[] huge = Arrays.copyOf(m_trace, 6 + 9);
+        huge[6] = (byte) TraceCall.Operation.DECOMPOSE_LONG_COUNT.ordinal();
+        huge[7] = 0;
+        huge[8] = (byte) 0xFF;
+        huge[9] = (byte) 0xFF;
+        huge[10] = (byte) 0xFF;
+        huge[11] = (byte) 0xFF;
+        huge[12] = 0x07;
+        huge[13] = 2;
+        huge[14] = 2;
+
+        byte[] foreign = m_trace.clone();
+        foreign[0] = 0;
+        byte[] unknown = Arrays.copyOf(m_trace, m_trace.length + 1);
+        unknown[m_trace.length] = 100;
+        for (byte[] invalid : new byte[][] { foreign, Arrays.copyOf(m_trace, m_trace.length - 1), unknown,
+            Arrays.copyOf(m_trace, 3), negative, huge })
+        {
+            try
+            {
+                TraceReader.read(new ByteArrayInputStream(invalid));
+                fail();
+            }
+            catch (IOException e)
+            {
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/**
+ *
+ */
+package icd3;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ */
+public class TraceRecorderTest
+{
+    private ByteArrayOutputStream m_trace;
+
+    private TraceRecorder m_recorder;
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @Before
+    public void setUp() throws Exception
+    {
+        m_trace = new ByteArrayOutputStream();
+        m_recorder = new TraceRecorder(m_trace);
+    }
+
+    /**
+     * Test method for {@link icd3.TraceRecorder#calendarRoundToLongCountList(icd3.CalendarRoundDate, icd3.LongCountDate, icd3.LongCountDate)}.
+     */
+    @Test
+    public void testRecord() throws IOException
+    {
+        CalendarRoundDate calendarRound = new CalendarRoundDate(1234);
+        List<LongCountDate> range = m_recorder.calendarRoundToLongCountList(calendarRound, new LongCountDate(500),
+            new LongCountDate(100000));
+        assertEquals(LongCountDate.calendarRoundToLongCountList(calendarRound, new LongCountDate(500),
+            new LongCountDate(100000)), range);
+        LongCountDate first = m_recorder.calendarRoundToLongCount(calendarRound, new LongCountDate(7));
+        String longCount = m_recorder.format(new LongCountDate(1872000));
+        String calendarRoundName = m_recorder.format(calendarRound);
+        DistanceChain chain = m_recorder.parseChain("+2.5.13, -1.0.4");
+
+        int[] values = { 1872000, 1872001, 5, 0, Integer.MAX_VALUE };
+        int[][] places = new int[LongCountDate.Period.values().length][values.length];
+        m_recorder.decomposeLongCount(values, places);
+        int[][] components = new int[4][values.length];
+        m_recorder.decomposeCalendarRound(values, components[0], components[1], components[2], components[3]);
+        m_recorder.close();
+
+        // Every call reads back in order, and replays to the same result
+        List<TraceCall> calls = TraceReader.read(new ByteArrayInputStream(m_trace.toByteArray()));
+        assertEquals(7, calls.size());
+        assertEquals(TraceCall.Operation.RANGE_QUERY, calls.get(0).getOperation());
+        assertEquals(range, calls.get(0).execute());
+        assertEquals(first, calls.get(1).execute());
+        assertEquals(longCount, calls.get(2).execute());
+        assertEquals(calendarRoundName, calls.get(3).execute());
+        assertEquals(chain.toString(), calls.get(4).execute().toString());
+        assertArrayEquals(places, (int[][]) calls.get(5).execute());
+        assertEquals(values.length, calls.get(5).size());
+        assertArrayEquals(components, (int[][]) calls.get(6).execute());
+        assertEquals(TraceCall.Operation.DECOMPOSE_CALENDAR_ROUND, calls.get(6).getOperation());
+        for (TraceCall call : calls)
+        {
+            assertTrue(call.getDelay() >= 0);
+        }
+    }
+
+    /**
+     * Test method for {@link icd3.TraceRecorder#decomposeLongCount(int[], int[][])}.
+     */
+    @Test
+    public void testCompact() throws IOException
+    {
+        // A run of consecutive dates costs about a byte each
+        int[] values = new int[10000];
+        for (int i = 0; i < values.length; ++i)
+        {
+            values[i] = 1800000 + i;
+        }
+        m_recorder.decomposeLongCount(values, new int[LongCountDate.Period.values().length][values.length]);
+        m_recorder.close();
+
+        assertTrue(m_trace.size() < values.length + 32);
+    }
+
+    /**
+     * Test method for {@link icd3.TraceRecorder#parseChain(java.lang.String)}.
+     */
+    @Test
+    public void testParseChain() throws IOException
+    {
+        // Text too long to record fails the call, but leaves no partial record behind it
+        StringBuilder text = new StringBuilder("+1.0");
+        while (text.length() <= 65535)
+        {
+            text.append(", +1.0");
+        }
+        try
+        {
+            m_recorder.parseChain(text.toString());
+            fail();
+        }
+        catch (UncheckedIOException e)
+        {
+        }
+        m_recorder.parseChain("+1.0");
+        m_recorder.close();
+
+        List<TraceCall> calls = TraceReader.read(new ByteArrayInputStream(m_trace.toByteArray()));
+        assertEquals(1, calls.size());
+        assertEquals("PARSE_CHAIN(+1.0)", calls.get(0).toString());
+    }
+}
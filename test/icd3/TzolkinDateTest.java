@@ -77,5 +77,7 @@ public class TzolkinDateTest
         assertEquals(new TzolkinDate(0), new TzolkinDate(0));
         assertEquals(new TzolkinDate(24), new TzolkinDate(12, TzolkinDate.Day.CHIKCHAN));
         assertEquals(new TzolkinDate(148), new TzolkinDate(6, TzolkinDate.Day.MULUK));
+        assertEquals(new TzolkinDate(259), new TzolkinDate(13, TzolkinDate.Day.AJAW));
+        assertEquals(new TzolkinDate(159), new TzolkinDate(4, TzolkinDate.Day.AJAW));
     }
 }
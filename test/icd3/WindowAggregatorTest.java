@@ -0,0 +1,153 @@
+/**
+ *
+ */
+package icd3;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ */
+public class WindowAggregatorTest
+{
+    private WindowAggregator m_window;
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @Before
+    public void setUp() throws Exception
+    {
+        m_window = new WindowAggregator(100, DateAggregator.Component.TZOLKIN_DAY, DateAggregator.Component.HAAB_MONTH,
+            DateAggregator.Component.KATUN);
+    }
+
+    /**
+     * Test method for {@link icd3.WindowAggregator#add(int)}.
+     */
+    @Test
+    public void testAdd()
+    {
+        // A stream that mostly moves forward, with some late events and some jumps wider than the window
+        Random random = new Random(44);
+        List<Integer> added = new ArrayList<Integer>();
+        int latest = 7200 * 3 - 50;
+        assertTrue(m_window.add(latest));
+        added.add(latest);
+        for (int i = 0; i < 20000; ++i)
+        {
+            int kind = random.nextInt(100);
+            int value;
+            if (kind < 2)
+            {
+                value = latest + 100 + random.nextInt(500);
+            }
+            else if (kind < 80)
+            {
+                value = latest + random.nextInt(3);
+            }
+            else
+            {
+                value = latest - random.nextInt(150);
+            }
+
+            boolean inWindow = value > latest - 100;
+            assertEquals(inWindow, m_window.add(value));
+            if (inWindow)
+            {
+                added.add(value);
+                latest = Math.max(latest, value);
+            }
+            assertEquals(latest, m_window.getLatest());
+
+            if (i % 1000 == 0)
+            {
+                assertWindow(added, latest);
+            }
+        }
+        assertWindow(added, latest);
+
+        // Moving the window on its own lets days leave it
+        m_window.advanceTo(latest + 50);
+        assertWindow(added, latest + 50);
+        m_window.advanceTo(latest);
+        assertWindow(added, latest + 50);
+        m_window.advanceTo(latest + 1000);
+        assertEquals(0, m_window.snapshot().getTotal());
+    }
+
+    /**
+     * Test method for {@link icd3.WindowAggregator#add(icd3.LongCountDate)}.
+     */
+    @Test
+    public void testAddLongCountDate()
+    {
+        assertTrue(m_window.add(new LongCountDate(0, 0, 0, 1)));
+        assertEquals(7200, m_window.getLatest());
+        assertFalse(m_window.add(new LongCountDate(7100)));
+        assertFalse(m_window.add(-5));
+
+        DateAggregator.Histogram histogram = m_window.snapshot();
+        assertEquals(1, histogram.getTotal());
+        assertEquals(1, histogram.getCount(LongCountDate.calendarRoundValue(7200) % 20, CalendarRoundDate.haab(
+            LongCountDate.calendarRoundValue(7200)) / 20, 1));
+    }
+
+    /**
+     * Test method for {@link icd3.WindowAggregator#WindowAggregator(int, DateAggregator.Component...)}.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testWindowAggregator()
+    {
+        new WindowAggregator(0, DateAggregator.Component.TZOLKIN_DAY);
+    }
+
+    /**
+     * Test method for {@link icd3.WindowAggregator#snapshot()}.
+     */
+    @Test
+    public void testSnapshot() throws InterruptedException
+    {
+        // One event a day, so once the window has filled every consistent snapshot holds exactly its width
+        WindowAggregator window = new WindowAggregator(50, DateAggregator.Component.TZOLKIN);
+        for (int day = 0; day < 50; ++day)
+        {
+            window.add(day);
+        }
+
+        AtomicBoolean done = new AtomicBoolean();
+        Thread writer = new Thread(() -> {
+            for (int day = 50; day < 2000000; ++day)
+            {
+                window.add(day);
+            }
+            done.set(true);
+        });
+        writer.start();
+
+        int snapshots = 0;
+        while (!done.get() || snapshots == 0)
+        {
+            assertEquals(50, window.snapshot().getTotal());
+            ++snapshots;
+        }
+        writer.join();
+        assertEquals(50, window.snapshot().getTotal());
+    }
+
+    private void assertWindow(List<Integer> added, int latest)
+    {
+        int[] values = added.stream().mapToInt(Integer::intValue).filter(value -> value > latest - 100
+            && value <= latest).toArray();
+        assertArrayEquals(new DateAggregator(DateAggregator.Component.TZOLKIN_DAY, DateAggregator.Component.HAAB_MONTH,
+            DateAggregator.Component.KATUN).aggregate(values).toArray(), m_window.snapshot().toArray());
+    }
+}